@@ -2,6 +2,8 @@ package com.ynov.testing;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main Spring Boot Application Class
@@ -12,10 +14,17 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * - @EnableAutoConfiguration: Tells Spring Boot to start adding beans based on classpath settings
  * - @ComponentScan: Tells Spring to look for other components, configurations, and services
  * 
+ * @EnableScheduling runs the background jobs (such as the health checks).
+ * @EnableAsync runs @Async methods on the application task executor.
+ * With spring.threads.virtual.enabled=true, requests, @Async and scheduled
+ * tasks all run on virtual threads (see PinnedThreadMonitor).
+ * 
  * @author Testing Methodology Course
  * @version 1.0.0
  */
 @SpringBootApplication
+@EnableScheduling
+@EnableAsync
 public class TestingMethodologyApplication {
 
     /**
@@ -0,0 +1,125 @@
+package com.ynov.testing.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * CacheRegionMonitor Class
+ *
+ * Reads the hit, miss and put counters of every second-level cache region from
+ * the Hibernate statistics ({@code hibernate.generate_statistics} must be enabled,
+ * otherwise every counter stays at zero), along with the counters of the
+ * {@link PlayerSearchCache}.
+ *
+ * The counters are exposed in {@link #stats()} and as meters tagged with the
+ * region: app.cache.lookups (result hit or miss), app.cache.puts and the
+ * app.cache.size gauge (NaN when the region does not report its size).
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class CacheRegionMonitor {
+
+    private static final String LOOKUPS_METER = "app.cache.lookups";
+    private static final String PUTS_METER = "app.cache.puts";
+    private static final String SIZE_METER = "app.cache.size";
+
+    private static final Set<String> QUERY_REGIONS = Set.of(CacheRegions.PLAYER_QUERIES, CacheRegions.DEFAULT_QUERIES);
+
+    private final Statistics statistics;
+    private final PlayerSearchCache playerSearchCache;
+
+    @Autowired
+    public CacheRegionMonitor(EntityManagerFactory entityManagerFactory, PlayerSearchCache playerSearchCache,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.playerSearchCache = playerSearchCache;
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            for (String region : CacheRegions.ALL) {
+                register(registry, region, this, monitor -> monitor.stats(region));
+            }
+            register(registry, PlayerSearchCache.NAME, playerSearchCache, PlayerSearchCache::stats);
+        }
+    }
+
+    /**
+     * Get the counters of every region, and of the search cache.
+     *
+     * @return Counters keyed by region name
+     */
+    public Map<String, CacheRegionStats> stats() {
+        Map<String, CacheRegionStats> stats = new LinkedHashMap<>();
+        for (String region : CacheRegions.ALL) {
+            stats.put(region, stats(region));
+        }
+        stats.put(PlayerSearchCache.NAME, playerSearchCache.stats());
+        return stats;
+    }
+
+    /**
+     * Register the meters of one region. The meters read the counters through the
+     * given object, which must live as long as the registry (meters only keep a
+     * weak reference to it).
+     */
+    private static <T> void register(MeterRegistry registry, String region, T source,
+                                     Function<T, CacheRegionStats> stats) {
+        FunctionCounter.builder(LOOKUPS_METER, source, value -> stats.apply(value).hits())
+            .description("Cache lookups")
+            .tag("region", region)
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder(LOOKUPS_METER, source, value -> stats.apply(value).misses())
+            .description("Cache lookups")
+            .tag("region", region)
+            .tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder(PUTS_METER, source, value -> stats.apply(value).puts())
+            .description("Entries written to the cache")
+            .tag("region", region)
+            .register(registry);
+        Gauge.builder(SIZE_METER, source, value -> {
+                long size = stats.apply(value).size();
+                return size < 0 ? Double.NaN : size;
+            })
+            .description("Entries held by the cache")
+            .tag("region", region)
+            .register(registry);
+    }
+
+    private CacheRegionStats stats(String region) {
+        if (CacheRegions.UPDATE_TIMESTAMPS.equals(region)) {
+            return new CacheRegionStats(region, statistics.getUpdateTimestampsCacheHitCount(),
+                statistics.getUpdateTimestampsCacheMissCount(), statistics.getUpdateTimestampsCachePutCount(), -1);
+        }
+        CacheRegionStatistics regionStatistics;
+        try {
+            regionStatistics = QUERY_REGIONS.contains(region)
+                ? statistics.getQueryRegionStatistics(region)
+                : statistics.getDomainDataRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            // Declared region that no mapping uses
+            regionStatistics = null;
+        }
+        if (regionStatistics == null) {
+            return new CacheRegionStats(region, 0, 0, 0, -1);
+        }
+        long size = regionStatistics.getElementCountInMemory();
+        return new CacheRegionStats(region, regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+            regionStatistics.getPutCount(), size < 0 ? -1 : size);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ynov.testing.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * CacheRegionStats Record
+ *
+ * Counters of one second-level cache region since startup.
+ *
+ * @param region The region name
+ * @param hits Lookups answered by the cache
+ * @param misses Lookups that went to the database
+ * @param puts Entries written to the cache
+ * @param size Entries currently held, or -1 if unknown
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record CacheRegionStats(String region, long hits, long misses, long puts, long size) {
+
+    /**
+     * Share of lookups answered by the cache.
+     *
+     * @return Hit ratio between 0 and 1
+     */
+    @JsonProperty
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,48 @@
+package com.ynov.testing.cache;
+
+import org.hibernate.cache.spi.RegionFactory;
+
+import java.util.List;
+
+/**
+ * CacheRegions Class
+ *
+ * Names of the Hibernate second-level cache regions. Entities and cacheable
+ * queries refer to these names, and each region can be sized with
+ * {@code app.cache.regions.<name>.max-size} and
+ * {@code app.cache.regions.<name>.expire-after-write}.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public final class CacheRegions {
+
+    public static final String PLAYER = "player";
+    public static final String TEAM = "team";
+    public static final String EVENT = "event";
+    public static final String PLAYER_QUERIES = "player-queries";
+
+    /**
+     * Region of the queries cached without an explicit region.
+     */
+    public static final String DEFAULT_QUERIES = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    /**
+     * Last modification time of each table, used to invalidate cached queries.
+     * It holds one entry per table and must never be evicted.
+     */
+    public static final String UPDATE_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    /**
+     * Regions whose size and lifetime are configurable.
+     */
+    public static final List<String> CONFIGURABLE = List.of(PLAYER, TEAM, EVENT, PLAYER_QUERIES, DEFAULT_QUERIES);
+
+    /**
+     * Every region of the application.
+     */
+    public static final List<String> ALL = List.of(PLAYER, TEAM, EVENT, PLAYER_QUERIES, DEFAULT_QUERIES, UPDATE_TIMESTAMPS);
+
+    private CacheRegions() {
+    }
+}
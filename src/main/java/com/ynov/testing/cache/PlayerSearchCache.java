@@ -0,0 +1,221 @@
+package com.ynov.testing.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ynov.testing.model.PlayerSnapshot;
+import com.ynov.testing.service.PlayerChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * PlayerSearchCache Class
+ *
+ * Cache of player search results, stored as the ordered list of matching player IDs
+ * per {@link PlayerSearchKey}. The players themselves are then loaded by ID, which
+ * the second-level cache answers, so cached results always show current player data.
+ *
+ * After each committed {@link PlayerChangedEvent}, only the searches whose result can
+ * have changed are invalidated:
+ * - team and position searches for the old and new value, when that attribute changed;
+ * - age range searches containing the old or new age, when the age changed;
+ * - salary searches below the old or new salary, when the salary changed
+ *   (the player may have entered, left or moved within these results).
+ * Creations and deletions invalidate the searches matching the player.
+ *
+ * A result loaded while an invalidation runs is not kept, so a search never caches
+ * data older than the last committed change. To tell, each search takes an
+ * invalidation stamp before running: team and position searches share one of
+ * {@value #EXACT_STAMP_STRIPES} stamps picked by key hash, bumped when one of their
+ * keys is invalidated, while range searches (which one change can invalidate by the
+ * dozen) share a single stamp. A change to a team thus no longer prevents caching
+ * the searches of the other teams. Writes that bypass PlayerService
+ * (bulk queries, direct repository calls) are not seen: call {@link #clear()} after
+ * them, or rely on {@code app.search-cache.expire-after-write}.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class PlayerSearchCache {
+
+    /**
+     * Name of this cache in the cache statistics.
+     */
+    public static final String NAME = "player-search";
+
+    private static final int EXACT_STAMP_STRIPES = 64;
+
+    private final Cache<PlayerSearchKey, List<Long>> exactSearches;
+    private final Cache<PlayerSearchKey, List<Long>> rangeSearches;
+    private final AtomicLongArray exactInvalidations = new AtomicLongArray(EXACT_STAMP_STRIPES);
+    private final AtomicLong rangeInvalidations = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+
+    @Autowired
+    public PlayerSearchCache(@Value("${app.search-cache.max-entries:10000}") long maxEntries,
+                             @Value("${app.search-cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.exactSearches = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(expireAfterWrite)
+            .build();
+        this.rangeSearches = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(expireAfterWrite)
+            .build();
+    }
+
+    /**
+     * Get the cached result of a search.
+     *
+     * @param key The search
+     * @return Matching player IDs in result order, or empty if not cached
+     */
+    public Optional<List<Long>> get(PlayerSearchKey key) {
+        List<Long> ids = cacheOf(key).getIfPresent(key);
+        (ids == null ? misses : hits).increment();
+        return Optional.ofNullable(ids);
+    }
+
+    /**
+     * Get the invalidation stamp to pass to {@link #put} for a search about to be executed.
+     *
+     * @param key The search
+     * @return The current stamp of the search
+     */
+    public long stamp(PlayerSearchKey key) {
+        return switch (key) {
+            case PlayerSearchKey.Team team -> exactInvalidations.get(stripe(key));
+            case PlayerSearchKey.Position position -> exactInvalidations.get(stripe(key));
+            case PlayerSearchKey.AgeRange range -> rangeInvalidations.get();
+            case PlayerSearchKey.SalaryAbove salary -> rangeInvalidations.get();
+        };
+    }
+
+    /**
+     * Cache the result of a search, unless an invalidation that may affect it happened
+     * since it started.
+     *
+     * @param key The search
+     * @param ids Matching player IDs in result order
+     * @param stamp The value of {@link #stamp(PlayerSearchKey)} taken before executing the search
+     */
+    public void put(PlayerSearchKey key, List<Long> ids, long stamp) {
+        if (stamp(key) != stamp) {
+            return;
+        }
+        Cache<PlayerSearchKey, List<Long>> cache = cacheOf(key);
+        List<Long> value = List.copyOf(ids);
+        cache.put(key, value);
+        // An invalidation may have run between the check and the put
+        if (stamp(key) != stamp) {
+            cache.asMap().remove(key, value);
+        } else {
+            puts.increment();
+        }
+    }
+
+    /**
+     * Invalidate the searches affected by a committed player change.
+     *
+     * @param event The player change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        PlayerSnapshot before = event.before();
+        PlayerSnapshot after = event.after();
+        forChangedValues(before, after, PlayerSnapshot::teamName,
+            teamName -> invalidate(exactSearches, new PlayerSearchKey.Team(teamName)));
+        forChangedValues(before, after, PlayerSnapshot::position,
+            position -> invalidate(exactSearches, new PlayerSearchKey.Position(position)));
+        forChangedValues(before, after, PlayerSnapshot::age, age -> {
+            rangeInvalidations.incrementAndGet();
+            rangeSearches.asMap().keySet().removeIf(
+                key -> key instanceof PlayerSearchKey.AgeRange range && range.contains(age));
+        });
+        Double oldSalary = before == null ? null : before.salary();
+        Double newSalary = after == null ? null : after.salary();
+        if (before == null || after == null || !Objects.equals(oldSalary, newSalary)) {
+            double highest = Math.max(oldSalary == null ? Double.NEGATIVE_INFINITY : oldSalary,
+                newSalary == null ? Double.NEGATIVE_INFINITY : newSalary);
+            if (highest > Double.NEGATIVE_INFINITY) {
+                rangeInvalidations.incrementAndGet();
+                rangeSearches.asMap().keySet().removeIf(
+                    key -> key instanceof PlayerSearchKey.SalaryAbove salary && salary.minSalary() < highest);
+            }
+        }
+    }
+
+    /**
+     * Drop every cached search.
+     */
+    public void clear() {
+        for (int stripe = 0; stripe < EXACT_STAMP_STRIPES; stripe++) {
+            exactInvalidations.incrementAndGet(stripe);
+        }
+        rangeInvalidations.incrementAndGet();
+        exactSearches.invalidateAll();
+        rangeSearches.invalidateAll();
+    }
+
+    /**
+     * Get the counters of this cache since startup.
+     *
+     * @return The counters
+     */
+    public CacheRegionStats stats() {
+        return new CacheRegionStats(NAME, hits.sum(), misses.sum(), puts.sum(),
+            exactSearches.estimatedSize() + rangeSearches.estimatedSize());
+    }
+
+    private Cache<PlayerSearchKey, List<Long>> cacheOf(PlayerSearchKey key) {
+        return switch (key) {
+            case PlayerSearchKey.Team team -> exactSearches;
+            case PlayerSearchKey.Position position -> exactSearches;
+            case PlayerSearchKey.AgeRange range -> rangeSearches;
+            case PlayerSearchKey.SalaryAbove salary -> rangeSearches;
+        };
+    }
+
+    private void invalidate(Cache<PlayerSearchKey, List<Long>> cache, PlayerSearchKey key) {
+        exactInvalidations.incrementAndGet(stripe(key));
+        cache.invalidate(key);
+    }
+
+    private static int stripe(PlayerSearchKey key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (EXACT_STAMP_STRIPES - 1);
+    }
+
+    /**
+     * Call the invalidation with the old and new value of an attribute, if the player
+     * was created, deleted, or the attribute changed.
+     */
+    private static <T> void forChangedValues(PlayerSnapshot before, PlayerSnapshot after,
+                                             Function<PlayerSnapshot, T> attribute, Consumer<T> invalidation) {
+        T oldValue = before == null ? null : attribute.apply(before);
+        T newValue = after == null ? null : attribute.apply(after);
+        if (before != null && after != null && Objects.equals(oldValue, newValue)) {
+            return;
+        }
+        if (oldValue != null) {
+            invalidation.accept(oldValue);
+        }
+        if (newValue != null && !newValue.equals(oldValue)) {
+            invalidation.accept(newValue);
+        }
+    }
+}
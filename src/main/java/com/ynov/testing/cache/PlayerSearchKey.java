@@ -0,0 +1,41 @@
+package com.ynov.testing.cache;
+
+/**
+ * PlayerSearchKey Interface
+ *
+ * Key of a cached player search, one record per kind of search.
+ * The parameters are the normalized ones passed to the repository.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public sealed interface PlayerSearchKey {
+
+    /**
+     * Players of a team.
+     */
+    record Team(String teamName) implements PlayerSearchKey {
+    }
+
+    /**
+     * Players playing a position.
+     */
+    record Position(String position) implements PlayerSearchKey {
+    }
+
+    /**
+     * Players whose age is within [minAge, maxAge].
+     */
+    record AgeRange(int minAge, int maxAge) implements PlayerSearchKey {
+
+        boolean contains(Integer age) {
+            return age != null && age >= minAge && age <= maxAge;
+        }
+    }
+
+    /**
+     * Players earning strictly more than minSalary, highest salary first.
+     */
+    record SalaryAbove(double minSalary) implements PlayerSearchKey {
+    }
+}
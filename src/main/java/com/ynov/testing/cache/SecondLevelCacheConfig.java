@@ -0,0 +1,90 @@
+package com.ynov.testing.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * SecondLevelCacheConfig Class
+ *
+ * Hibernate second-level and query cache, stored in Caffeine through its JCache adapter.
+ *
+ * Every region of {@link CacheRegions} is created up front, bounded by size and
+ * time-to-live:
+ * - {@code app.cache.regions.<name>.max-size} / {@code .expire-after-write} for one region;
+ * - {@code app.cache.default.max-size} / {@code .expire-after-write} otherwise.
+ * The update timestamps region is never bounded, as evicting it would serve stale queries.
+ *
+ * Hibernate fails on startup if an entity uses a region that is not declared here.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final long DEFAULT_MAX_SIZE = 10_000;
+    private static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    /**
+     * Create the cache manager holding the second-level cache regions.
+     * Each application context gets its own manager, so test contexts do not share entries.
+     *
+     * @param environment The environment holding the region settings
+     * @return The JCache manager
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment) {
+        CaffeineCachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        long defaultMaxSize = environment.getProperty("app.cache.default.max-size", Long.class, DEFAULT_MAX_SIZE);
+        Duration defaultExpiry = duration(environment, "app.cache.default.expire-after-write", DEFAULT_EXPIRE_AFTER_WRITE);
+        for (String region : CacheRegions.CONFIGURABLE) {
+            long maxSize = environment.getProperty("app.cache.regions." + region + ".max-size",
+                Long.class, defaultMaxSize);
+            Duration expiry = duration(environment, "app.cache.regions." + region + ".expire-after-write", defaultExpiry);
+            cacheManager.createCache(region, regionConfiguration(maxSize, expiry));
+        }
+        cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    /**
+     * Hand the cache manager over to Hibernate, and refuse regions that were not declared.
+     *
+     * @param hibernateCacheManager The cache manager holding the regions
+     * @return The customizer of the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static Duration duration(Environment environment, String key, Duration defaultValue) {
+        String value = environment.getProperty(key);
+        return value == null ? defaultValue : DurationStyle.detectAndParse(value);
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maxSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        return configuration;
+    }
+}
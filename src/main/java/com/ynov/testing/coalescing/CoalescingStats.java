@@ -0,0 +1,29 @@
+package com.ynov.testing.coalescing;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * CoalescingStats Record
+ *
+ * Counters of one coalesced read operation since startup.
+ *
+ * @param executions Calls that executed the read (the first caller of each key)
+ * @param coalesced Calls that waited for and shared the result of an identical execution in flight
+ * @param timeouts Calls that gave up waiting after the operation timeout and executed the read themselves
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record CoalescingStats(long executions, long coalesced, long timeouts) {
+
+    /**
+     * Share of calls answered without their own execution.
+     *
+     * @return Coalescing ratio between 0 and 1
+     */
+    @JsonProperty
+    public double coalescingRatio() {
+        long calls = executions + coalesced + timeouts;
+        return calls == 0 ? 0.0 : (double) coalesced / calls;
+    }
+}
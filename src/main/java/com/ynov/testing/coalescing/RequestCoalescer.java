@@ -0,0 +1,247 @@
+package com.ynov.testing.coalescing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * RequestCoalescer Class
+ *
+ * Single-flight execution of identical concurrent reads: the first caller of a key
+ * (operation + arguments) executes the read, and the callers arriving while it is in
+ * flight wait for its result instead of running the same query again. A burst of
+ * identical requests therefore costs one query.
+ *
+ * Waiting is bounded per operation by {@code app.coalescing.timeouts.<operation>},
+ * falling back to {@code app.coalescing.default-timeout}; a caller that times out
+ * executes the read itself. Errors of the execution are rethrown to every waiting caller.
+ *
+ * The leader returns its own result, but waiting callers run in other persistence
+ * contexts and must not get its managed entities: the leader shares a detached form
+ * of the result (such as the IDs it found), from which each waiting caller loads its
+ * own copy. Results that are already immutable (counts, strings) are shared as they are.
+ *
+ * Calls made inside a read-write transaction are never coalesced, since they may
+ * modify the returned entities or depend on uncommitted changes. A caller inside a
+ * read-only transaction only joins a flight that started after its first coalesced
+ * call in that transaction, so it never gets a result older than what it has read.
+ *
+ * The counters are exposed in {@link #stats()} and as the app.coalescing.calls
+ * meter, tagged with the operation and the outcome (executed, coalesced, timeout).
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class RequestCoalescer {
+
+    private final boolean enabled;
+    private final Duration defaultTimeout;
+    private final Environment environment;
+    private static final String METER = "app.coalescing.calls";
+
+    /**
+     * Key of the transaction resource holding the start time of the transaction.
+     */
+    private static final Object TRANSACTION_START = new Object();
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Key, Flight> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Duration> timeouts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RequestCoalescer(@Value("${app.coalescing.enabled:true}") boolean enabled,
+                            @Value("${app.coalescing.default-timeout:2s}") Duration defaultTimeout,
+                            Environment environment,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        this.enabled = enabled;
+        this.defaultTimeout = defaultTimeout;
+        this.environment = environment;
+    }
+
+    /**
+     * Execute a read whose result is immutable, or share the result of the identical
+     * read already in flight.
+     *
+     * @param operation Name of the read operation
+     * @param arguments Arguments of the read (must implement equals and hashCode)
+     * @param read The read to execute, returning an immutable result (never entities)
+     * @param <T> Type of the result
+     * @return The result of the read
+     */
+    public <T> T execute(String operation, Object arguments, Supplier<T> read) {
+        return execute(operation, arguments, read, Function.identity(), Function.identity());
+    }
+
+    /**
+     * Execute a read, or load the result of the identical read already in flight.
+     *
+     * @param operation Name of the read operation
+     * @param arguments Arguments of the read (must implement equals and hashCode)
+     * @param read The read to execute
+     * @param share Detached form of the result handed to the waiting callers (such as IDs)
+     * @param load Loading of the result from its detached form, in the caller's persistence context
+     * @param <T> Type of the result
+     * @param <S> Type of the detached form
+     * @return The result of the read
+     */
+    @SuppressWarnings("unchecked")
+    public <T, S> T execute(String operation, Object arguments, Supplier<T> read,
+                            Function<T, S> share, Function<S, T> load) {
+        if (!enabled || (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+            return read.get();
+        }
+        Counters operationCounters = counters.computeIfAbsent(operation, this::newCounters);
+        Long notBefore = transactionStart();
+        Key key = new Key(operation, arguments);
+        Flight flight = new Flight(new CompletableFuture<>(), System.nanoTime());
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            operationCounters.executions.increment();
+            return lead(key, flight, read, share);
+        }
+        if (notBefore != null && existing.startedAt() - notBefore < 0) {
+            // Started before the caller's transaction: its result may be older than what it has read
+            operationCounters.executions.increment();
+            return read.get();
+        }
+        S shared;
+        try {
+            shared = (S) existing.result().get(timeoutOf(operation).toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            operationCounters.timeouts.increment();
+            return read.get();
+        } catch (ExecutionException e) {
+            operationCounters.coalesced.increment();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + operation, e);
+        }
+        operationCounters.coalesced.increment();
+        return load.apply(shared);
+    }
+
+    /**
+     * Get the counters of every coalesced operation.
+     *
+     * @return Counters keyed by operation name, in name order
+     */
+    public Map<String, CoalescingStats> stats() {
+        Map<String, CoalescingStats> stats = new TreeMap<>();
+        counters.forEach((operation, operationCounters) -> stats.put(operation, operationCounters.snapshot()));
+        return stats;
+    }
+
+    private <T, S> T lead(Key key, Flight flight, Supplier<T> read, Function<T, S> share) {
+        T result;
+        S shared;
+        try {
+            result = read.get();
+            shared = share.apply(result);
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.result().completeExceptionally(e);
+            throw e;
+        }
+        // Later callers start a new execution; those already waiting get this result
+        inFlight.remove(key, flight);
+        flight.result().complete(shared);
+        return result;
+    }
+
+    /**
+     * Get the start of the caller's transaction, taken at its first coalesced call
+     * (which cannot precede the beginning of the transaction).
+     *
+     * @return Start time in nanoseconds, or null outside of a transaction
+     */
+    private static Long transactionStart() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Long start = (Long) TransactionSynchronizationManager.getResource(TRANSACTION_START);
+        if (start == null) {
+            start = System.nanoTime();
+            TransactionSynchronizationManager.bindResource(TRANSACTION_START, start);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_START);
+                }
+            });
+        }
+        return start;
+    }
+
+    private Counters newCounters(String operation) {
+        Counters operationCounters = new Counters();
+        if (meterRegistry != null) {
+            register(operation, "executed", operationCounters.executions);
+            register(operation, "coalesced", operationCounters.coalesced);
+            register(operation, "timeout", operationCounters.timeouts);
+        }
+        return operationCounters;
+    }
+
+    private void register(String operation, String outcome, LongAdder counter) {
+        FunctionCounter.builder(METER, counter, LongAdder::sum)
+            .description("Coalesced read calls")
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private Duration timeoutOf(String operation) {
+        return timeouts.computeIfAbsent(operation, name -> {
+            String value = environment.getProperty("app.coalescing.timeouts." + name);
+            return value == null ? defaultTimeout : DurationStyle.detectAndParse(value);
+        });
+    }
+
+    private record Key(String operation, Object arguments) {
+    }
+
+    private record Flight(CompletableFuture<Object> result, long startedAt) {
+    }
+
+    private static final class Counters {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        CoalescingStats snapshot() {
+            return new CoalescingStats(executions.sum(), coalesced.sum(), timeouts.sum());
+        }
+    }
+}
@@ -1,20 +1,38 @@
 package com.ynov.testing.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ynov.testing.health.HealthMonitor;
+import com.ynov.testing.health.HealthSnapshot;
+import com.ynov.testing.health.PoolStatus;
 import com.ynov.testing.model.Player;
+import com.ynov.testing.model.TeamStats;
+import com.ynov.testing.search.PlayerSuggestion;
+import com.ynov.testing.service.PlayerBatchResult;
+import com.ynov.testing.service.PlayerLookupResult;
+import com.ynov.testing.service.PlayerPatch;
 import com.ynov.testing.service.PlayerService;
+import com.ynov.testing.service.PlayerSlice;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,11 +52,19 @@ import java.util.Optional;
  * 
  * API Endpoints:
  * - GET /api/players - Get all players (with optional pagination)
+ * - GET /api/players (Accept: application/x-ndjson) - Stream all players as NDJSON
+ * - GET /api/players?ids=1,2,3 - Get many players by ID
+ * - POST /api/players/lookup - Get many players by ID (long ID lists)
+ * - GET /api/players/scroll - Get players with keyset (cursor) pagination
  * - GET /api/players/{id} - Get player by ID
  * - POST /api/players - Create new player
+ * - POST /api/players/batch - Create many players at once
  * - PUT /api/players/{id} - Update existing player
+ * - PATCH /api/players/{id} - Partially update a player (JSON Merge Patch)
  * - DELETE /api/players/{id} - Delete player
  * - GET /api/players/search/* - Various search endpoints
+ * - GET /api/players/health/live - Liveness probe
+ * - GET /api/players/health/ready - Readiness probe (database, connection pool)
  * 
  * @author Testing Methodology Course
  * @version 1.0.0
@@ -49,16 +75,38 @@ import java.util.Optional;
 @CrossOrigin(origins = "*") // Allow CORS for frontend testing
 public class PlayerController {
 
+    /**
+     * Media type for newline-delimited JSON exports.
+     */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * Media type for JSON Merge Patch requests (RFC 7396).
+     */
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    /**
+     * Liveness response, shared by every probe.
+     */
+    private static final Map<String, String> LIVE = Map.of("status", "UP");
+
     private final PlayerService playerService;
+    private final HealthMonitor healthMonitor;
+    private final ObjectWriter ndjsonWriter;
 
     /**
-     * Constructor injection for PlayerService.
+     * Constructor injection for PlayerService, HealthMonitor and ObjectMapper.
      * 
      * @param playerService The player service
+     * @param healthMonitor The background health checks used by the health endpoints
+     * @param objectMapper The application object mapper (used for NDJSON exports)
      */
     @Autowired
-    public PlayerController(PlayerService playerService) {
+    public PlayerController(PlayerService playerService, HealthMonitor healthMonitor, ObjectMapper objectMapper) {
         this.playerService = playerService;
+        this.healthMonitor = healthMonitor;
+        this.ndjsonWriter = objectMapper.writerFor(Player.class)
+            .without(SerializationFeature.INDENT_OUTPUT);
     }
 
     /**
@@ -99,6 +147,110 @@ public class PlayerController {
         }
     }
 
+    /**
+     * Stream all players as newline-delimited JSON (one player per line).
+     * Each player is written to the response as soon as it is read from the
+     * database, so memory usage stays flat regardless of the table size.
+     * 
+     * @return StreamingResponseBody writing one JSON document per player
+     */
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllPlayers() {
+        StreamingResponseBody body = outputStream -> {
+            try {
+                playerService.streamAllPlayers(player -> {
+                    try {
+                        outputStream.write(ndjsonWriter.writeValueAsBytes(player));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            outputStream.flush();
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+            .body(body);
+    }
+
+    /**
+     * Get many players by ID in a single query.
+     * 
+     * @param ids Comma-separated player IDs
+     * @return ResponseEntity with the players found (in request order) and the missing IDs
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getPlayersByIds(@RequestParam("ids") List<Long> ids) {
+        return lookupPlayers(ids);
+    }
+
+    /**
+     * Get many players by ID in a single query.
+     * Same as {@code GET /api/players?ids=...} for ID lists too long for a query string.
+     * 
+     * @param ids JSON array of player IDs
+     * @return ResponseEntity with the players found (in request order) and the missing IDs
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<?> lookupPlayersByIds(@RequestBody List<Long> ids) {
+        return lookupPlayers(ids);
+    }
+
+    private ResponseEntity<?> lookupPlayers(List<Long> ids) {
+        try {
+            PlayerLookupResult result = playerService.getPlayersByIds(ids);
+            return ResponseEntity.ok(Map.of(
+                "players", result.players(),
+                "missingIds", result.missingIds()
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Invalid request", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to retrieve players", "message", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get players with keyset (cursor) pagination.
+     * The response contains the players of the slice, whether more players follow
+     * and an opaque cursor to pass back to fetch the next slice. No total count is returned.
+     * 
+     * @param cursor Cursor returned by the previous slice (optional)
+     * @param size Slice size (optional, default: 20)
+     * @param sortBy Field to sort by (optional, default: id)
+     * @param sortDir Sort direction (optional, default: asc)
+     * @return ResponseEntity with the slice of players
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<?> getPlayersSlice(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "sortBy", defaultValue = "id") String sortBy,
+            @RequestParam(value = "sortDir", defaultValue = "asc") String sortDir) {
+        try {
+            PlayerSlice slice = playerService.getPlayersSlice(sortBy, sortDir, cursor, size);
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("content", slice.content());
+            body.put("size", slice.size());
+            body.put("numberOfElements", slice.content().size());
+            body.put("hasNext", slice.hasNext());
+            body.put("nextCursor", slice.nextCursor());
+            return ResponseEntity.ok(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Invalid pagination request", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to retrieve players", "message", e.getMessage()));
+        }
+    }
+
     /**
      * Get a player by ID.
      * 
@@ -145,6 +297,35 @@ public class PlayerController {
         }
     }
 
+    /**
+     * Create many players at once.
+     * Each player is validated individually: the response reports, for every
+     * player of the payload, whether it was created (with its ID) or rejected (with the reason).
+     * 
+     * @param players The players data from request body
+     * @return ResponseEntity with per-player results or error
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> createPlayers(@RequestBody List<Player> players) {
+        try {
+            List<PlayerBatchResult> results = playerService.createPlayers(players);
+            long created = results.stream()
+                .filter(result -> result.status() == PlayerBatchResult.Status.CREATED)
+                .count();
+            return ResponseEntity.ok(Map.of(
+                "created", created,
+                "rejected", results.size() - created,
+                "results", results
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Invalid players data", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to create players", "message", e.getMessage()));
+        }
+    }
+
     /**
      * Update an existing player.
      * 
@@ -172,6 +353,39 @@ public class PlayerController {
         }
     }
 
+    /**
+     * Partially update a player with JSON Merge Patch semantics.
+     * Only the fields present in the body are changed; a null value clears the field.
+     * An optional "version" field enables optimistic locking. The body is bound to
+     * a typed {@link PlayerPatch}, whose present values are validated.
+     * 
+     * @param id The player ID
+     * @param patch The merge patch
+     * @return ResponseEntity with updated player or error
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> patchPlayer(@PathVariable @NotNull @Min(1) Long id,
+                                        @Valid @RequestBody PlayerPatch patch) {
+        try {
+            Player patchedPlayer = playerService.patchPlayer(id, patch);
+            return ResponseEntity.ok(patchedPlayer);
+        } catch (IllegalArgumentException e) {
+            if (e.getMessage().contains("not found")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Player not found", "id", id, "message", e.getMessage()));
+            } else {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Invalid player data", "message", e.getMessage()));
+            }
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "Player was modified concurrently", "id", id, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to update player", "message", e.getMessage()));
+        }
+    }
+
     /**
      * Delete a player.
      * 
@@ -369,15 +583,19 @@ public class PlayerController {
     }
 
     /**
-     * Search players by full name.
+     * Search players by full name, optionally tolerating misspellings.
      * 
      * @param fullName The full name to search for
+     * @param fuzzy Maximum edit distance (0 for an exact substring search)
      * @return ResponseEntity with list of matching players
      */
     @GetMapping("/search/name")
-    public ResponseEntity<?> searchPlayersByFullName(@RequestParam String fullName) {
+    public ResponseEntity<?> searchPlayersByFullName(@RequestParam String fullName,
+                                                     @RequestParam(defaultValue = "0") int fuzzy) {
         try {
-            List<Player> players = playerService.findPlayersByFullName(fullName);
+            List<Player> players = fuzzy == 0
+                ? playerService.findPlayersByFullName(fullName)
+                : playerService.findPlayersByFullName(fullName, fuzzy);
             return ResponseEntity.ok(players);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -388,6 +606,28 @@ public class PlayerController {
         }
     }
 
+    /**
+     * Suggest first names, last names and team names starting with a prefix.
+     * 
+     * @param prefix The typed prefix
+     * @param limit Maximum number of suggestions
+     * @return ResponseEntity with list of suggestions
+     */
+    @GetMapping("/search/suggest")
+    public ResponseEntity<?> suggestPlayers(@RequestParam String prefix,
+                                            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<PlayerSuggestion> suggestions = playerService.suggest(prefix, limit);
+            return ResponseEntity.ok(suggestions);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Invalid suggestion request", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to suggest players", "message", e.getMessage()));
+        }
+    }
+
     /**
      * Get players with salary above a threshold.
      * 
@@ -428,27 +668,77 @@ public class PlayerController {
         }
     }
 
+    /**
+     * Get the statistics of every team.
+     * 
+     * @return ResponseEntity with player count, age and salary sums and averages, and active count per team
+     */
+    @GetMapping("/stats/teams")
+    public ResponseEntity<?> getTeamStatistics() {
+        try {
+            List<TeamStats> statistics = playerService.getTeamStatistics();
+            return ResponseEntity.ok(statistics);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to get team statistics", "message", e.getMessage()));
+        }
+    }
+
     /**
      * Health check endpoint.
+     * Answered from the last background health check, without querying the database.
      * 
      * @return ResponseEntity with status information
      */
     @GetMapping("/health")
     public ResponseEntity<?> healthCheck() {
-        try {
-            long totalPlayers = playerService.getAllPlayers().size();
-            long activePlayers = playerService.countActivePlayers();
+        HealthSnapshot snapshot = healthMonitor.snapshot();
+        boolean ready = healthMonitor.isReady(snapshot, healthMonitor.poolStatus());
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+            "status", ready ? "UP" : "DOWN",
+            "service", "PlayerService",
+            "totalPlayers", snapshot.totalPlayers(),
+            "activePlayers", snapshot.activePlayers(),
+            "timestamp", java.time.LocalDateTime.now()
+        ));
+    }
 
-            return ResponseEntity.ok(Map.of(
-                "status", "UP",
-                "service", "PlayerService",
-                "totalPlayers", totalPlayers,
-                "activePlayers", activePlayers,
-                "timestamp", java.time.LocalDateTime.now()
-            ));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
-                .body(Map.of("status", "DOWN", "error", e.getMessage()));
-        }
+    /**
+     * Liveness probe: the process is up and serving requests.
+     * Does not depend on the database, so a database outage does not restart the application.
+     * 
+     * @return ResponseEntity with status UP
+     */
+    @GetMapping("/health/live")
+    public ResponseEntity<Map<String, String>> liveness() {
+        return ResponseEntity.ok(LIVE);
+    }
+
+    /**
+     * Readiness probe: the application can serve traffic.
+     * Reports the last background database check, the connection pool usage
+     * and the cached player counters.
+     * 
+     * @return ResponseEntity with 200 when ready, 503 otherwise
+     */
+    @GetMapping("/health/ready")
+    public ResponseEntity<Map<String, Object>> readiness() {
+        HealthSnapshot snapshot = healthMonitor.snapshot();
+        PoolStatus pool = healthMonitor.poolStatus();
+        boolean ready = healthMonitor.isReady(snapshot, pool);
+
+        Map<String, Object> database = new LinkedHashMap<>();
+        database.put("status", snapshot.databaseUp() ? "UP" : "DOWN");
+        database.put("error", snapshot.databaseError());
+        database.put("latencyMicros", snapshot.databaseLatencyMicros());
+        database.put("checkedAt", snapshot.checkedAt());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", ready ? "UP" : "DOWN");
+        body.put("database", database);
+        body.put("pool", pool);
+        body.put("totalPlayers", snapshot.totalPlayers());
+        body.put("activePlayers", snapshot.activePlayers());
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(body);
     }
 }
@@ -0,0 +1,59 @@
+package com.ynov.testing.controller;
+
+import com.ynov.testing.service.PlayerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TeamController Class
+ *
+ * REST Controller for team-level views over players.
+ *
+ * API Endpoints:
+ * - GET /api/teams/{name}/free-jerseys - Jersey numbers still available in a team
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/teams")
+@CrossOrigin(origins = "*")
+public class TeamController {
+
+    private final PlayerService playerService;
+
+    @Autowired
+    public TeamController(PlayerService playerService) {
+        this.playerService = playerService;
+    }
+
+    /**
+     * Get the jersey numbers still available in a team.
+     *
+     * @param name The team name
+     * @return ResponseEntity with the free jersey numbers
+     */
+    @GetMapping("/{name}/free-jerseys")
+    public ResponseEntity<?> getFreeJerseyNumbers(@PathVariable String name) {
+        try {
+            List<Integer> freeNumbers = playerService.getFreeJerseyNumbers(name);
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("teamName", name);
+            response.put("freeJerseyNumbers", freeNumbers);
+            response.put("count", freeNumbers.size());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Invalid team name", "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Failed to list free jersey numbers", "message", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.ynov.testing.dataset;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * DatasetGenerator Class
+ *
+ * Bulk-loads a deterministic synthetic dataset (see {@link DatasetPlan}) into
+ * empty players, teams and events tables. Rows bypass JPA: each chunk of
+ * {@value #CHUNK_SIZE} rows is one JDBC batch on its own connection, and chunks
+ * are inserted by {@code app.dataset.parallelism} threads. IDs are assigned by
+ * the generator, then the players sequence and the identity columns are moved
+ * past them.
+ *
+ * Derived data is not updated by the load: call the rebuild methods of the
+ * maintainers of the in-memory indexes, uniqueness guards and team statistics
+ * afterwards (the first two are built when the application is ready).
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class DatasetGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    static final int CHUNK_SIZE = 5_000;
+
+    private static final String INSERT_TEAM = "INSERT INTO teams (id, name, region, founded_date, contact_email, "
+        + "phone_number, budget, wins, losses, is_active, description) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PLAYER = "INSERT INTO players (id, first_name, last_name, email, age, "
+        + "position, team_name, jersey_number, salary, active, created_at, updated_at, version, email_key, "
+        + "full_name_search) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_EVENT = "INSERT INTO events (name, description, event_date, canceled, "
+        + "is_active, team_a_id, team_b_id, city) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int parallelism;
+
+    @Autowired
+    public DatasetGenerator(JdbcTemplate jdbcTemplate,
+                            @Value("${app.dataset.parallelism:4}") int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Dataset parallelism must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Name of a generated team.
+     *
+     * @param team Index of the team, from 0 to the number of teams - 1
+     * @return The team name
+     */
+    public static String teamName(int team) {
+        return DatasetPlan.teamName(team);
+    }
+
+    /**
+     * Generate a dataset into empty tables.
+     *
+     * @param spec Size and seed of the dataset
+     * @return Rows inserted and load duration
+     * @throws IllegalStateException if the tables already contain data
+     */
+    public DatasetSummary generate(DatasetSpec spec) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT (SELECT COUNT(*) FROM players) "
+            + "+ (SELECT COUNT(*) FROM teams) + (SELECT COUNT(*) FROM events)", Integer.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("Dataset generation requires empty players, teams and events tables");
+        }
+
+        long start = System.nanoTime();
+        DatasetPlan plan = new DatasetPlan(spec, LocalDateTime.now());
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            // Events reference teams, so teams are loaded first
+            insert(executor, "teams", INSERT_TEAM, plan.teams(), plan, plan::team);
+            List<Future<?>> chunks = new ArrayList<>();
+            chunks.addAll(submit(executor, "players", INSERT_PLAYER, plan.players(), plan, plan::player));
+            chunks.addAll(submit(executor, "events", INSERT_EVENT, plan.events(), plan, plan::event));
+            await(chunks);
+        }
+
+        // Leave room for the IDs Hibernate allocates in blocks from the sequence
+        jdbcTemplate.execute("ALTER SEQUENCE players_seq RESTART WITH " + (plan.players() + 100));
+        jdbcTemplate.execute("ALTER TABLE teams ALTER COLUMN id RESTART WITH " + (plan.teams() + 1));
+
+        DatasetSummary summary = new DatasetSummary(plan.players(), plan.teams(), plan.events(),
+            (System.nanoTime() - start) / 1_000_000);
+        log.info("Generated {} players, {} teams and {} events in {} ms",
+            summary.players(), summary.teams(), summary.events(), summary.elapsedMillis());
+        return summary;
+    }
+
+    private void insert(ExecutorService executor, String table, String sql, int rows, DatasetPlan plan,
+                        RowFactory factory) {
+        await(submit(executor, table, sql, rows, plan, factory));
+    }
+
+    private List<Future<?>> submit(ExecutorService executor, String table, String sql, int rows, DatasetPlan plan,
+                                   RowFactory factory) {
+        List<Future<?>> chunks = new ArrayList<>();
+        for (int first = 0; first < rows; first += CHUNK_SIZE) {
+            int from = first;
+            int to = Math.min(rows, first + CHUNK_SIZE);
+            chunks.add(executor.submit(() -> {
+                Random random = plan.chunkRandom(table, from);
+                List<Object[]> batch = new ArrayList<>(to - from);
+                for (int row = from; row < to; row++) {
+                    batch.add(factory.row(row, random));
+                }
+                jdbcTemplate.batchUpdate(sql, batch);
+            }));
+        }
+        return chunks;
+    }
+
+    private static void await(List<Future<?>> chunks) {
+        try {
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating the dataset", e);
+        } catch (ExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Dataset generation failed", e.getCause());
+        }
+    }
+
+    /**
+     * Builds the row of a table at the given index.
+     */
+    @FunctionalInterface
+    private interface RowFactory {
+        Object[] row(int index, Random random);
+    }
+}
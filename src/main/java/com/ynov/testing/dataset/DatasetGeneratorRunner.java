@@ -0,0 +1,49 @@
+package com.ynov.testing.dataset;
+
+import com.ynov.testing.service.TeamStatsMaintainer;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * DatasetGeneratorRunner Class
+ *
+ * Loads a synthetic dataset at startup when {@code app.dataset.players} is set,
+ * for load tests against a production-sized database:
+ * {@code java -jar app.jar --app.dataset.players=1000000}
+ * (optional: {@code --app.dataset.events=...}, {@code --app.dataset.seed=...}).
+ *
+ * The load runs once all singletons are created, before the web server starts,
+ * so no request sees a partly loaded database. The team statistics are then
+ * recomputed, and the in-memory indexes and uniqueness guards are built from
+ * the loaded data when the application is ready.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "app.dataset.players")
+public class DatasetGeneratorRunner implements SmartInitializingSingleton {
+
+    private final DatasetGenerator datasetGenerator;
+    private final TeamStatsMaintainer teamStatsMaintainer;
+    private final DatasetSpec spec;
+
+    @Autowired
+    public DatasetGeneratorRunner(DatasetGenerator datasetGenerator, TeamStatsMaintainer teamStatsMaintainer,
+                                  @Value("${app.dataset.players}") int players,
+                                  @Value("${app.dataset.events:-1}") int events,
+                                  @Value("${app.dataset.seed:" + DatasetSpec.DEFAULT_SEED + "}") long seed) {
+        this.datasetGenerator = datasetGenerator;
+        this.teamStatsMaintainer = teamStatsMaintainer;
+        this.spec = new DatasetSpec(players, events >= 0 ? events : players / DatasetSpec.PLAYERS_PER_EVENT, seed);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        datasetGenerator.generate(spec);
+        teamStatsMaintainer.rebuild();
+    }
+}
@@ -0,0 +1,185 @@
+package com.ynov.testing.dataset;
+
+import com.ynov.testing.model.Player;
+import com.ynov.testing.search.TeamJerseyIndex;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * DatasetPlan Class
+ *
+ * Deterministic layout and rows of a synthetic dataset:
+ * - team sizes are skewed: most teams have a small roster, a few are full
+ *   ({@value #MIN_TEAM_SIZE} to {@link TeamJerseyIndex#MAX_JERSEY_NUMBER} players);
+ * - players fill the teams in order, so each team is a contiguous ID range,
+ *   and their jersey numbers are a permutation of 1..99 inside the team;
+ * - emails embed the player ID, so they are unique, and are lower-cased (canonical);
+ * - event dates are spread from two years in the past to one year ahead.
+ *
+ * Rows are generated per chunk from a random seeded by the chunk, so chunks
+ * can be built in any order and on any thread.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+final class DatasetPlan {
+
+    static final int MIN_TEAM_SIZE = 5;
+    static final int MAX_TEAM_SIZE = TeamJerseyIndex.MAX_JERSEY_NUMBER;
+
+    /**
+     * Coprime with {@link #MAX_TEAM_SIZE}, so k -> k * stride mod 99 is a permutation.
+     */
+    private static final int JERSEY_STRIDE = 37;
+
+    private static final String[] FIRST_NAMES = {
+        "John", "Jane", "Lucas", "Emma", "Hugo", "Louise", "Nathan", "Chloe", "Liam", "Olivia",
+        "Noah", "Alice", "Adam", "Lina", "Gabriel", "Mia", "Jules", "Rose", "Arthur", "Lea"};
+    private static final String[] LAST_NAMES = {
+        "Martin", "Bernard", "Dubois", "Thomas", "Robert", "Richard", "Petit", "Durand", "Leroy", "Moreau",
+        "Simon", "Laurent", "Lefebvre", "Michel", "Garcia", "David", "Bertrand", "Roux", "Vincent", "Fournier",
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Miller", "Davis", "Wilson", "Anderson", "Taylor"};
+    private static final String[] POSITIONS = {"Goalkeeper", "Defender", "Midfielder", "Forward"};
+    private static final String[] REGIONS = {"EU", "NA", "KR", "CN", "BR", "JP"};
+    private static final String[] CITIES = {
+        "Paris", "Lyon", "Marseille", "Bordeaux", "Lille", "Nantes", "Berlin", "Madrid", "Seoul", "Los Angeles"};
+
+    private final DatasetSpec spec;
+    private final LocalDateTime reference;
+    private final int[] teamStarts;
+    private final int teams;
+
+    /**
+     * Lay out the teams of a dataset.
+     *
+     * @param spec Size and seed of the dataset
+     * @param reference Reference time of the generated dates
+     */
+    DatasetPlan(DatasetSpec spec, LocalDateTime reference) {
+        this.spec = spec;
+        this.reference = reference;
+        Random random = new Random(spec.seed());
+        int[] starts = new int[Math.max(16, spec.players() / MIN_TEAM_SIZE + 2)];
+        int count = 0;
+        int start = 0;
+        while (start < spec.players()) {
+            starts[count++] = start;
+            // Cubing a uniform draw skews sizes towards the minimum with a long tail
+            int size = MIN_TEAM_SIZE + (int) ((MAX_TEAM_SIZE - MIN_TEAM_SIZE + 1) * Math.pow(random.nextDouble(), 3));
+            start += Math.min(size, spec.players() - start);
+        }
+        starts[count] = spec.players();
+        this.teamStarts = Arrays.copyOf(starts, count + 1);
+        this.teams = count;
+    }
+
+    int players() {
+        return spec.players();
+    }
+
+    int teams() {
+        return teams;
+    }
+
+    int events() {
+        return spec.events();
+    }
+
+    static String teamName(int team) {
+        return "Team-" + team;
+    }
+
+    /**
+     * @return Index of the team of a player
+     */
+    int teamOf(int player) {
+        int found = Arrays.binarySearch(teamStarts, 0, teams, player);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    int teamSize(int team) {
+        return teamStarts[team + 1] - teamStarts[team];
+    }
+
+    /**
+     * Random generator of the chunk of a table starting at the given row.
+     */
+    Random chunkRandom(String table, int firstRow) {
+        return new Random(Objects.hash(spec.seed(), table, firstRow));
+    }
+
+    /**
+     * Row of the teams table: id, name, region, founded_date, contact_email,
+     * phone_number, budget, wins, losses, is_active, description.
+     */
+    Object[] team(int team, Random random) {
+        int wins = random.nextInt(200);
+        return new Object[] {
+            (long) team + 1,
+            teamName(team),
+            REGIONS[random.nextInt(REGIONS.length)],
+            Timestamp.valueOf(reference.minusDays(365 + random.nextInt(20 * 365))),
+            "contact@team-" + team + ".example.com",
+            String.format(Locale.ROOT, "+33 1 %02d %02d %02d %02d",
+                random.nextInt(100), random.nextInt(100), random.nextInt(100), random.nextInt(100)),
+            (double) (50_000 + random.nextInt(5_000_000)),
+            wins,
+            random.nextInt(200),
+            random.nextInt(20) != 0,
+            "Synthetic team with " + teamSize(team) + " players"};
+    }
+
+    /**
+     * Row of the players table: id, first_name, last_name, email, age, position,
+     * team_name, jersey_number, salary, active, created_at, updated_at, version, email_key,
+     * full_name_search.
+     */
+    Object[] player(int player, Random random) {
+        int team = teamOf(player);
+        int rank = player - teamStarts[team];
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        Timestamp createdAt = Timestamp.valueOf(reference.minusMinutes(random.nextInt(3 * 365 * 24 * 60)));
+        String email = (firstName + "." + lastName + "." + (player + 1) + "@example.com").toLowerCase(Locale.ROOT);
+        return new Object[] {
+            (long) player + 1,
+            firstName,
+            lastName,
+            email,
+            17 + (int) Math.min(21, Math.abs(random.nextGaussian()) * 7),
+            POSITIONS[random.nextInt(POSITIONS.length)],
+            teamName(team),
+            rank * JERSEY_STRIDE % MAX_TEAM_SIZE + 1,
+            // Log-normal salaries: most players earn 15k-60k, a few stars much more
+            (double) Math.round(30_000 * Math.exp(random.nextGaussian() * 0.7)),
+            random.nextInt(10) != 0,
+            createdAt,
+            createdAt,
+            0L,
+            email,
+            Player.normalizeFullName(firstName, lastName)};
+    }
+
+    /**
+     * Row of the events table: name, description, event_date, canceled,
+     * is_active, team_a_id, team_b_id, city.
+     */
+    Object[] event(int event, Random random) {
+        int teamA = random.nextInt(teams);
+        int teamB = teams > 1 ? (teamA + 1 + random.nextInt(teams - 1)) % teams : teamA;
+        return new Object[] {
+            teamName(teamA) + " vs " + teamName(teamB) + " #" + (event + 1),
+            "Match between " + teamName(teamA) + " and " + teamName(teamB),
+            Timestamp.valueOf(reference.plusMinutes(random.nextInt(3 * 365 * 24 * 60) - 2 * 365 * 24 * 60)),
+            random.nextInt(20) == 0,
+            true,
+            (long) teamA + 1,
+            (long) teamB + 1,
+            CITIES[random.nextInt(CITIES.length)]};
+    }
+}
@@ -0,0 +1,46 @@
+package com.ynov.testing.dataset;
+
+/**
+ * DatasetSpec Record
+ *
+ * Size and seed of a synthetic dataset. The same spec always produces the
+ * same rows, whatever the number of loader threads.
+ *
+ * @param players Number of players
+ * @param events Number of events
+ * @param seed Seed of the random generators
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record DatasetSpec(int players, int events, long seed) {
+
+    /**
+     * Seed used when none is given.
+     */
+    public static final long DEFAULT_SEED = 42;
+
+    /**
+     * Number of players per event when the number of events is not given.
+     */
+    public static final int PLAYERS_PER_EVENT = 10;
+
+    public DatasetSpec {
+        if (players < 0 || events < 0) {
+            throw new IllegalArgumentException("Dataset sizes must not be negative");
+        }
+        if (events > 0 && players == 0) {
+            throw new IllegalArgumentException("Events need teams, so at least one player");
+        }
+    }
+
+    /**
+     * Spec with the default seed and one event per {@value #PLAYERS_PER_EVENT} players.
+     *
+     * @param players Number of players
+     * @return The spec
+     */
+    public static DatasetSpec ofPlayers(int players) {
+        return new DatasetSpec(players, players / PLAYERS_PER_EVENT, DEFAULT_SEED);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ynov.testing.dataset;
+
+/**
+ * DatasetSummary Record
+ *
+ * Rows loaded by the {@link DatasetGenerator} and how long it took.
+ *
+ * @param players Number of players inserted
+ * @param teams Number of teams inserted
+ * @param events Number of events inserted
+ * @param elapsedMillis Duration of the load
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record DatasetSummary(int players, int teams, int events, long elapsedMillis) {
+}
@@ -0,0 +1,142 @@
+package com.ynov.testing.health;
+
+import com.ynov.testing.repository.PlayerRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+
+/**
+ * HealthMonitor Class
+ *
+ * Backs the liveness and readiness endpoints. Probes must be answered in well
+ * under a millisecond, so nothing is queried on the request path:
+ * - database connectivity and the player counters are refreshed in the
+ *   background every {@code app.health.refresh-interval-ms} and published as
+ *   an immutable {@link HealthSnapshot};
+ * - connection pool usage is read from the Hikari pool MXBean, which only
+ *   reads counters.
+ *
+ * The application is ready when the last database check succeeded, is not
+ * older than three refresh intervals, and the pool is not saturated.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class HealthMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(HealthMonitor.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource dataSource;
+    private final PlayerRepository playerRepository;
+    private final long refreshIntervalMs;
+    private volatile HealthSnapshot snapshot = HealthSnapshot.NOT_CHECKED;
+
+    @Autowired
+    public HealthMonitor(DataSource dataSource, PlayerRepository playerRepository,
+                         @Value("${app.health.refresh-interval-ms:5000}") long refreshIntervalMs) {
+        this.dataSource = dataSource;
+        this.playerRepository = playerRepository;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    /**
+     * Check the database and refresh the player counters.
+     * Runs in the background; the previous counters are kept if the database is down.
+     */
+    @Scheduled(fixedDelayString = "${app.health.refresh-interval-ms:5000}")
+    public void refresh() {
+        HealthSnapshot previous = snapshot;
+        long start = System.nanoTime();
+        String error = null;
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                error = "Connection validation failed";
+            }
+        } catch (SQLException e) {
+            error = e.getMessage();
+        }
+        long latencyMicros = (System.nanoTime() - start) / 1_000;
+
+        long totalPlayers = previous.totalPlayers();
+        long activePlayers = previous.activePlayers();
+        if (error == null) {
+            try {
+                totalPlayers = playerRepository.count();
+                activePlayers = playerRepository.countByActive(true);
+            } catch (RuntimeException e) {
+                error = e.getMessage();
+            }
+        }
+        if (error != null) {
+            log.warn("Health check failed: {}", error);
+        }
+        snapshot = new HealthSnapshot(error == null, error, latencyMicros, totalPlayers, activePlayers, Instant.now());
+    }
+
+    /**
+     * Get the result of the last background check.
+     *
+     * @return The last snapshot
+     */
+    public HealthSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Read the current connection pool usage.
+     *
+     * @return The pool status, or null if the pool is not a started Hikari pool
+     */
+    public PoolStatus poolStatus() {
+        HikariDataSource hikari = hikariDataSource();
+        if (hikari != null) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            if (pool != null) {
+                return new PoolStatus(pool.getActiveConnections(), pool.getIdleConnections(),
+                    pool.getTotalConnections(), hikari.getMaximumPoolSize(), pool.getThreadsAwaitingConnection());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The Hikari pool, possibly behind a wrapping data source (see SlowQueryDataSource).
+     */
+    private HikariDataSource hikariDataSource() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari;
+        }
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Check whether the application can serve traffic.
+     *
+     * @param current The snapshot to evaluate
+     * @param pool The pool status to evaluate, or null if unknown
+     * @return true if the database is reachable, recently checked, and the pool is not saturated
+     */
+    public boolean isReady(HealthSnapshot current, PoolStatus pool) {
+        return current.databaseUp()
+            && current.checkedAt() != null
+            && current.checkedAt().toEpochMilli() >= System.currentTimeMillis() - 3 * refreshIntervalMs
+            && (pool == null || !pool.saturated());
+    }
+}
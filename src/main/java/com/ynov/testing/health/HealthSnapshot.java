@@ -0,0 +1,28 @@
+package com.ynov.testing.health;
+
+import java.time.Instant;
+
+/**
+ * HealthSnapshot Record
+ *
+ * Result of the last background health check: database connectivity and the
+ * player counters reported by the health endpoints.
+ *
+ * @param databaseUp Whether a connection could be obtained and validated
+ * @param databaseError The error of the last failed check, or null
+ * @param databaseLatencyMicros Time taken to obtain and validate a connection
+ * @param totalPlayers Number of players at the last check
+ * @param activePlayers Number of active players at the last check
+ * @param checkedAt When the check ran, or null if it never ran
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record HealthSnapshot(boolean databaseUp, String databaseError, long databaseLatencyMicros,
+                             long totalPlayers, long activePlayers, Instant checkedAt) {
+
+    /**
+     * Snapshot used until the first check has run.
+     */
+    static final HealthSnapshot NOT_CHECKED = new HealthSnapshot(false, "Not checked yet", 0, 0, 0, null);
+}
@@ -0,0 +1,27 @@
+package com.ynov.testing.health;
+
+/**
+ * PoolStatus Record
+ *
+ * Point-in-time usage of the JDBC connection pool.
+ *
+ * @param active Connections currently in use
+ * @param idle Connections available in the pool
+ * @param total Connections currently open
+ * @param max Maximum pool size
+ * @param awaiting Threads waiting for a connection
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record PoolStatus(int active, int idle, int total, int max, int awaiting) {
+
+    /**
+     * A pool is saturated when every connection is in use and threads are queueing for one.
+     *
+     * @return true if the pool is saturated
+     */
+    public boolean saturated() {
+        return active >= max && awaiting > 0;
+    }
+}
@@ -1,7 +1,10 @@
 package com.ynov.testing.model;
 
+import com.ynov.testing.cache.CacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -10,14 +13,26 @@ import java.util.List;
  *
  * This entity represents a basic event with minimal fields
  * to focus on testing fundamentals and date mocking.
+ * Events are kept in the second-level cache.
+ * The table is created by the Flyway migrations (db/migration), indexed by date,
+ * with unique event names.
  *
  * @author Testing Methodology Course
  * @version 1.0.0
  */
 @Entity
-@Table(name = "events")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.EVENT)
+@Table(name = "events",
+       uniqueConstraints = @UniqueConstraint(name = Event.NAME_CONSTRAINT, columnNames = "name"),
+       indexes = @Index(name = "idx_events_event_date", columnList = "event_date"))
 public class Event {
 
+    /**
+     * Name of the unique constraint on the event name.
+     */
+    public static final String NAME_CONSTRAINT = "uk_events_name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -1,12 +1,17 @@
 package com.ynov.testing.model;
 
+import com.ynov.testing.cache.CacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -21,15 +26,49 @@ import java.util.Objects;
  * - Validation constraints
  * - Relationships possibilities for future extensions
  * 
+ * Updates are optimistic-locked through the version column, and UPDATE
+ * statements only contain the columns that actually changed (@DynamicUpdate).
+ * Players are kept in the second-level cache (read-write, invalidated on update).
+ * The table and its indexes are created by the Flyway migrations (db/migration);
+ * emails are unique ignoring case (on their canonical form, {@link #normalizeEmail}),
+ * and so is a jersey number within a team (unique constraints). The lower-cased
+ * full name is stored as well, searched by the LIKE query of the name search.
+ * 
  * @author Testing Methodology Course
  * @version 1.0.0
  */
 @Entity
-@Table(name = "players")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PLAYER)
+@Table(name = "players",
+       uniqueConstraints = {
+           @UniqueConstraint(name = Player.EMAIL_CONSTRAINT, columnNames = "email_key"),
+           @UniqueConstraint(name = Player.TEAM_JERSEY_CONSTRAINT, columnNames = {"team_name", "jersey_number"})
+       },
+       indexes = {
+           @Index(name = "idx_players_active_team", columnList = "active, team_name"),
+           @Index(name = "idx_players_salary", columnList = "salary")
+       })
 public class Player {
 
+    /**
+     * Name of the unique constraint on the canonical email.
+     */
+    public static final String EMAIL_CONSTRAINT = "uk_players_email";
+
+    /**
+     * Name of the unique constraint on the jersey number within a team.
+     */
+    public static final String TEAM_JERSEY_CONSTRAINT = "uk_players_team_jersey";
+
+    /**
+     * Sequence-based IDs (pooled by 50) let Hibernate batch INSERT statements,
+     * which IDENTITY columns prevent.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "players_seq")
+    @SequenceGenerator(name = "players_seq", sequenceName = "players_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "First name is mandatory")
@@ -44,9 +83,23 @@ public class Player {
 
     @Email(message = "Email should be valid")
     @NotBlank(message = "Email is mandatory")
-    @Column(name = "email", nullable = false, unique = true, length = 100)
+    @Column(name = "email", nullable = false, length = 100)
     private String email;
 
+    /**
+     * Canonical form of the email, kept in sync with it. Every email lookup is an
+     * exact match on this column, backed by its unique index.
+     */
+    @Column(name = "email_key", nullable = false, length = 100)
+    private String emailKey;
+
+    /**
+     * Lower-cased full name, refreshed before every insert and update, so
+     * that the name search does not compute it for every row.
+     */
+    @Column(name = "full_name_search", nullable = false, length = 101)
+    private String fullNameSearch;
+
     @NotNull(message = "Age is mandatory")
     @Column(name = "age", nullable = false)
     private Integer age;
@@ -74,6 +127,10 @@ public class Player {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     // Default constructor (required by JPA)
     public Player() {
     }
@@ -83,6 +140,7 @@ public class Player {
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
+        this.emailKey = normalizeEmail(email);
         this.age = age;
         this.position = position;
         this.active = true;
@@ -101,15 +159,39 @@ public class Player {
     }
 
     // JPA lifecycle callbacks
+    /**
+     * Canonical form of an email: trimmed and lower-cased, so that emails differing
+     * only by case or surrounding spaces are the same email.
+     *
+     * @param email The email, possibly null
+     * @return The canonical email, or null
+     */
+    public static String normalizeEmail(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * Searchable form of a full name: "first last", lower-cased.
+     *
+     * @param firstName The first name
+     * @param lastName The last name
+     * @return The searchable full name
+     */
+    public static String normalizeFullName(String firstName, String lastName) {
+        return (firstName + " " + lastName).toLowerCase(Locale.ROOT);
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        fullNameSearch = normalizeFullName(firstName, lastName);
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        fullNameSearch = normalizeFullName(firstName, lastName);
     }
 
     // Getters and Setters
@@ -143,6 +225,7 @@ public class Player {
 
     public void setEmail(String email) {
         this.email = email;
+        this.emailKey = normalizeEmail(email);
     }
 
     public Integer getAge() {
@@ -209,6 +292,14 @@ public class Player {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // Utility methods
     public String getFullName() {
         return firstName + " " + lastName;
@@ -245,6 +336,7 @@ public class Player {
                 ", active=" + active +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
                 '}';
     }
 }
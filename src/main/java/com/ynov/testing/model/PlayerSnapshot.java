@@ -0,0 +1,54 @@
+package com.ynov.testing.model;
+
+/**
+ * PlayerSnapshot Record
+ *
+ * Immutable copy of the state of a Player at a given moment.
+ * Snapshots are used to describe player changes (before/after) to
+ * components that maintain derived data, such as in-memory indexes,
+ * without sharing the mutable JPA entity with them.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record PlayerSnapshot(Long id,
+                             String firstName,
+                             String lastName,
+                             String email,
+                             Integer age,
+                             String position,
+                             String teamName,
+                             Integer jerseyNumber,
+                             Double salary,
+                             Boolean active) {
+
+    /**
+     * Take a snapshot of the current state of a player.
+     *
+     * @param player The player
+     * @return The snapshot
+     */
+    public static PlayerSnapshot of(Player player) {
+        return new PlayerSnapshot(
+            player.getId(),
+            player.getFirstName(),
+            player.getLastName(),
+            player.getEmail(),
+            player.getAge(),
+            player.getPosition(),
+            player.getTeamName(),
+            player.getJerseyNumber(),
+            player.getSalary(),
+            player.getActive()
+        );
+    }
+
+    /**
+     * Full name of the player, as returned by {@link Player#getFullName()}.
+     *
+     * @return First name and last name separated by a space
+     */
+    public String fullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -1,7 +1,10 @@
 package com.ynov.testing.model;
 
+import com.ynov.testing.cache.CacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -16,11 +19,16 @@ import java.util.List;
  * - ADC (Attack Damage Carry)
  * - Support
  *
+ * Teams and their player collections are kept in the second-level cache.
+ * The table is created by the Flyway migrations (db/migration), indexed by region.
+ *
  * @author Testing Methodology Course
  * @version 1.0.0
  */
 @Entity
-@Table(name = "teams")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TEAM)
+@Table(name = "teams", indexes = @Index(name = "idx_teams_region", columnList = "region"))
 public class Team {
 
     @Id
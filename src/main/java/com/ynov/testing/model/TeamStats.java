@@ -0,0 +1,106 @@
+package com.ynov.testing.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * TeamStats Entity
+ *
+ * Materialized statistics of the players of one team: player count, sum of
+ * ages, sum of salaries and active player count. Rows are maintained
+ * incrementally, in the same transaction as the player writes, so averages are
+ * read from a single row instead of aggregating the players table.
+ *
+ * Players without a team are not counted. Missing salaries count as 0.
+ * The table is created by the Flyway migrations (db/migration).
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "team_stats")
+public class TeamStats {
+
+    @Id
+    @Column(name = "team_name", length = 100)
+    private String teamName;
+
+    @Column(name = "player_count", nullable = false)
+    private long playerCount;
+
+    @Column(name = "age_sum", nullable = false)
+    private long ageSum;
+
+    @Column(name = "salary_sum", nullable = false)
+    private double salarySum;
+
+    @Column(name = "active_count", nullable = false)
+    private long activeCount;
+
+    // Default constructor (required by JPA)
+    public TeamStats() {
+    }
+
+    public TeamStats(String teamName, long playerCount, long ageSum, double salarySum, long activeCount) {
+        this.teamName = teamName;
+        this.playerCount = playerCount;
+        this.ageSum = ageSum;
+        this.salarySum = salarySum;
+        this.activeCount = activeCount;
+    }
+
+    // Business methods
+
+    /**
+     * Average age of the players of the team.
+     *
+     * @return Average age, or 0 if the team has no players
+     */
+    public double getAverageAge() {
+        return playerCount == 0 ? 0.0 : (double) ageSum / playerCount;
+    }
+
+    /**
+     * Average salary of the players of the team.
+     *
+     * @return Average salary, or 0 if the team has no players
+     */
+    public double getAverageSalary() {
+        return playerCount == 0 ? 0.0 : salarySum / playerCount;
+    }
+
+    // Getters
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public long getPlayerCount() {
+        return playerCount;
+    }
+
+    public long getAgeSum() {
+        return ageSum;
+    }
+
+    public double getSalarySum() {
+        return salarySum;
+    }
+
+    public long getActiveCount() {
+        return activeCount;
+    }
+
+    @Override
+    public String toString() {
+        return "TeamStats{" +
+                "teamName='" + teamName + '\'' +
+                ", playerCount=" + playerCount +
+                ", ageSum=" + ageSum +
+                ", salarySum=" + salarySum +
+                ", activeCount=" + activeCount +
+                '}';
+    }
+}
@@ -2,9 +2,11 @@ package com.ynov.testing.repository;
 
 import com.ynov.testing.model.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Event entity
@@ -22,4 +24,11 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     List<Event> findByEventDateBeforeAndActiveTrue(LocalDateTime date);
     List<Event> findByEventDateAfterAndDateBefore(LocalDateTime startDate , LocalDateTime endDate);
     boolean existsByName(String name);
+
+    /**
+     * Stream the names of all events, used to warm up the event name uniqueness guard.
+     * The stream must be consumed inside a transaction and closed after use.
+     */
+    @Query("SELECT e.name FROM Event e")
+    Stream<String> streamAllNames();
 }
@@ -0,0 +1,27 @@
+package com.ynov.testing.repository;
+
+import com.ynov.testing.model.Player;
+
+import java.util.List;
+
+/**
+ * PlayerLookupRepository Interface
+ *
+ * Repository fragment loading players by ID through the caches, implemented
+ * by {@link PlayerLookupRepositoryImpl} and exposed by {@link PlayerRepository}.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public interface PlayerLookupRepository {
+
+    /**
+     * Load players by ID, in the order of the given IDs.
+     * Players already in the persistence context or in the second-level cache
+     * are not queried; the others are loaded with batched IN queries.
+     *
+     * @param ids The player IDs
+     * @return Players found, in the order of the IDs (missing IDs are skipped)
+     */
+    List<Player> findAllByIdInOrder(List<Long> ids);
+}
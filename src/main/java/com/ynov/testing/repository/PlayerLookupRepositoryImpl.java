@@ -0,0 +1,49 @@
+package com.ynov.testing.repository;
+
+import com.ynov.testing.model.Player;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * PlayerLookupRepositoryImpl Class
+ *
+ * Implementation of {@link PlayerLookupRepository} with Hibernate multi-load.
+ * Unlike {@code findAllById}, which always runs a JPQL IN query, multi-load
+ * first resolves each ID from the persistence context, then from the
+ * second-level cache (with the NORMAL cache mode, which it does not use by
+ * default), and only queries the missing ones.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public class PlayerLookupRepositoryImpl implements PlayerLookupRepository {
+
+    /**
+     * Maximum number of IDs per IN query.
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Player> findAllByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class)
+            .byMultipleIds(Player.class)
+            .enableSessionCheck(true)
+            .with(CacheMode.NORMAL)
+            .withBatchSize(BATCH_SIZE)
+            .multiLoad(ids)
+            .stream()
+            .filter(Objects::nonNull)
+            .toList();
+    }
+}
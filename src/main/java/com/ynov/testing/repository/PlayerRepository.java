@@ -1,14 +1,24 @@
 package com.ynov.testing.repository;
 
+import com.ynov.testing.cache.CacheRegions;
 import com.ynov.testing.model.Player;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * PlayerRepository Interface
@@ -21,21 +31,81 @@ import java.util.Optional;
  * - Custom query methods using method naming conventions
  * - Custom JPQL queries using @Query annotation
  * - Various finder methods for testing purposes
+ * - Hot lookups (email, team, position) served from the query cache
+ * - Lookups by ID through the caches ({@link PlayerLookupRepository})
  * 
  * @author Testing Methodology Course
  * @version 1.0.0
  */
 @Repository
-public interface PlayerRepository extends JpaRepository<Player, Long> {
+public interface PlayerRepository extends JpaRepository<Player, Long>, PlayerLookupRepository {
 
     /**
-     * Find a player by email address.
-     * This method demonstrates Spring Data JPA's query derivation from method names.
+     * Number of rows fetched per JDBC round trip when streaming players.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Stream all players ordered by ID.
+     * Rows are fetched from the JDBC cursor in chunks of {@link #STREAM_FETCH_SIZE}
+     * instead of being materialized in a single list.
+     * The stream must be consumed inside a transaction and closed after use.
+     * 
+     * @return Stream of all players
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Player p ORDER BY p.id")
+    Stream<Player> streamAll();
+
+    /**
+     * Stream the canonical emails of all players, used to warm up the email uniqueness guard.
+     * The stream must be consumed inside a transaction and closed after use.
+     * 
+     * @return Stream of all canonical player emails
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT p.emailKey FROM Player p")
+    Stream<String> streamAllEmailKeys();
+
+    /**
+     * Scroll through players using keyset pagination.
+     * With a keyset position, the query seeks directly after the last row
+     * returned (WHERE (sortKey, id) > (...)) instead of skipping an offset,
+     * and no COUNT query is issued.
+     * 
+     * @param position The position to scroll from (keyset-based)
+     * @param sort The sort, which must end with the ID as a tie-breaker
+     * @param limit Maximum number of players to return
+     * @return Window of players following the position
+     */
+    Window<Player> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Find a player by email address, ignoring case and surrounding spaces.
      * 
      * @param email The email address to search for
      * @return Optional containing the player if found, empty otherwise
      */
-    Optional<Player> findByEmail(String email);
+    default Optional<Player> findByEmail(String email) {
+        return findByEmailKey(Player.normalizeEmail(email));
+    }
+
+    /**
+     * Find a player by canonical email (see {@link Player#normalizeEmail}).
+     * This method demonstrates Spring Data JPA's query derivation from method names.
+     * It probes the unique index of the email_key column.
+     * 
+     * @param emailKey The canonical email
+     * @return Optional containing the player if found, empty otherwise
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PLAYER_QUERIES)
+    })
+    Optional<Player> findByEmailKey(String emailKey);
 
     /**
      * Find players by first name (case-insensitive).
@@ -59,6 +129,10 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
      * @param teamName The team name to search for
      * @return List of players in the specified team
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PLAYER_QUERIES)
+    })
     List<Player> findByTeamName(String teamName);
 
     /**
@@ -67,6 +141,10 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
      * @param position The position to search for
      * @return List of players with the specified position
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PLAYER_QUERIES)
+    })
     List<Player> findByPosition(String position);
 
     /**
@@ -102,6 +180,10 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
      * @param position The position
      * @return List of players matching both criteria
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PLAYER_QUERIES)
+    })
     List<Player> findByTeamNameAndPosition(String teamName, String position);
 
     /**
@@ -114,12 +196,22 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
     List<Player> findByTeamNameAndActive(String teamName, Boolean active);
 
     /**
-     * Check if a player exists with the given email.
+     * Check if a player exists with the given email, ignoring case and surrounding spaces.
      * 
      * @param email The email to check
      * @return true if a player with this email exists, false otherwise
      */
-    boolean existsByEmail(String email);
+    default boolean existsByEmail(String email) {
+        return existsByEmailKey(Player.normalizeEmail(email));
+    }
+
+    /**
+     * Check if a player exists with the given canonical email (unique index probe).
+     * 
+     * @param emailKey The canonical email
+     * @return true if a player with this email exists, false otherwise
+     */
+    boolean existsByEmailKey(String emailKey);
 
     /**
      * Check if a player exists with the given jersey number in a specific team.
@@ -130,6 +222,26 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
      */
     boolean existsByJerseyNumberAndTeamName(Integer jerseyNumber, String teamName);
 
+    /**
+     * Find which of the given canonical emails are already used by a player.
+     * This checks the uniqueness of a whole batch of emails in a single query.
+     * 
+     * @param emailKeys The canonical emails to check
+     * @return The canonical emails that already exist
+     */
+    @Query("SELECT p.emailKey FROM Player p WHERE p.emailKey IN :emailKeys")
+    List<String> findExistingEmailKeys(@Param("emailKeys") Collection<String> emailKeys);
+
+    /**
+     * Find the jersey numbers already taken in the given teams.
+     * This checks the jersey uniqueness of a whole batch of players in a single query.
+     * 
+     * @param teamNames The team names
+     * @return Pairs of [teamName, jerseyNumber] for every numbered player in these teams
+     */
+    @Query("SELECT p.teamName, p.jerseyNumber FROM Player p WHERE p.teamName IN :teamNames AND p.jerseyNumber IS NOT NULL")
+    List<Object[]> findJerseyNumbersByTeamNames(@Param("teamNames") Collection<String> teamNames);
+
     /**
      * Count players in a specific team.
      * 
@@ -148,11 +260,12 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
     /**
      * Custom JPQL query to find players by full name (first name + last name).
      * This demonstrates the use of @Query annotation.
+     * It matches on the stored lower-cased full name, but still reads every row.
      * 
      * @param fullName The full name to search for (case-insensitive)
      * @return List of players matching the full name
      */
-    @Query("SELECT p FROM Player p WHERE LOWER(CONCAT(p.firstName, ' ', p.lastName)) LIKE LOWER(CONCAT('%', :fullName, '%'))")
+    @Query("SELECT p FROM Player p WHERE p.fullNameSearch LIKE CONCAT('%', LOWER(:fullName), '%')")
     List<Player> findByFullNameContaining(@Param("fullName") String fullName);
 
     /**
@@ -2,10 +2,12 @@ package com.ynov.testing.repository;
 
 import com.ynov.testing.model.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Team entity
@@ -28,6 +30,15 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
      */
     boolean existsByName(String name);
 
+    /**
+     * Stream the names of all teams, used to warm up the team name uniqueness guard.
+     * The stream must be consumed inside a transaction and closed after use.
+     *
+     * @return Stream of all team names
+     */
+    @Query("SELECT t.name FROM Team t")
+    Stream<String> streamAllNames();
+
     /**
      * Find teams by region
      *
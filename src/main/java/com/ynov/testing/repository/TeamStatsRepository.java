@@ -0,0 +1,65 @@
+package com.ynov.testing.repository;
+
+import com.ynov.testing.model.TeamStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * TeamStatsRepository Interface
+ *
+ * Data access for the materialized team statistics. Statistics are changed
+ * with relative (delta) updates, so concurrent transactions touching the same
+ * team serialize on the row lock instead of overwriting each other. The first
+ * row of a team is created by the same statement, so that two transactions
+ * adding the first players of a team cannot both try to insert it.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Repository
+public interface TeamStatsRepository extends JpaRepository<TeamStats, String> {
+
+    /**
+     * Add deltas to the statistics of a team, creating its row with them if it has none yet.
+     * The query declares the only table it writes, otherwise Hibernate would evict
+     * every second-level cache region after each player write.
+     *
+     * @return Number of rows merged (1)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_stats"))
+    @Query(value = "MERGE INTO team_stats t " +
+           "USING (SELECT CAST(:teamName AS VARCHAR(100)) AS team_name) d ON t.team_name = d.team_name " +
+           "WHEN MATCHED THEN UPDATE SET player_count = t.player_count + :count, age_sum = t.age_sum + :ageSum, " +
+           "salary_sum = t.salary_sum + :salarySum, active_count = t.active_count + :activeCount " +
+           "WHEN NOT MATCHED THEN INSERT (team_name, player_count, age_sum, salary_sum, active_count) " +
+           "VALUES (d.team_name, :count, :ageSum, :salarySum, :activeCount)",
+           nativeQuery = true)
+    int mergeDelta(@Param("teamName") String teamName, @Param("count") long count, @Param("ageSum") long ageSum,
+                   @Param("salarySum") double salarySum, @Param("activeCount") long activeCount);
+
+    /**
+     * Remove the statistics row of a team once it has no players left.
+     */
+    @Modifying
+    @Query("DELETE FROM TeamStats t WHERE t.teamName = :teamName AND t.playerCount <= 0")
+    int deleteIfEmpty(@Param("teamName") String teamName);
+
+    /**
+     * Recompute all statistics from the players table, after {@link #deleteAllInBatch()}.
+     *
+     * @return Number of teams
+     */
+    @Modifying
+    @Query("INSERT INTO TeamStats (teamName, playerCount, ageSum, salarySum, activeCount) " +
+           "SELECT p.teamName, COUNT(p), SUM(p.age), SUM(COALESCE(p.salary, 0.0)), " +
+           "SUM(CASE WHEN p.active = true THEN 1 ELSE 0 END) " +
+           "FROM Player p WHERE p.teamName IS NOT NULL GROUP BY p.teamName")
+    int insertFromPlayers();
+}
@@ -0,0 +1,298 @@
+package com.ynov.testing.search;
+
+import com.ynov.testing.model.PlayerSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * PlayerFuzzyNameIndex Class
+ *
+ * In-memory BK-tree over normalized player names, used to find players whose
+ * name is within a small edit (Levenshtein) distance of a misspelled query.
+ * Each player contributes three terms: first name, last name and full name,
+ * normalized to lower case without accents.
+ *
+ * In a BK-tree every child hangs under its parent at its exact distance to
+ * the parent term. By the triangle inequality, a query at distance d from a
+ * node can only match children at distance d - k to d + k, so most of the
+ * tree is skipped instead of computing the distance to every name.
+ *
+ * BK-trees cannot unlink a node without rebuilding its subtree, so a term no
+ * longer used by any player (after a rename or a removal) stays in the tree
+ * with an empty posting list. These dead terms are counted, and the tree is
+ * rebuilt from the live terms once they make up half of it (and at least
+ * {@value #MIN_DEAD_TERMS_TO_COMPACT}), which keeps searches from walking an
+ * ever-growing tree at an amortized constant cost per change.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class PlayerFuzzyNameIndex implements PlayerIndex {
+
+    static final int MIN_DEAD_TERMS_TO_COMPACT = 1_000;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Node> nodesByTerm = new HashMap<>();
+    private final Map<Long, Set<String>> termsById = new HashMap<>();
+    private Node root;
+    private int deadTerms;
+    private volatile boolean ready;
+
+    @Override
+    public void index(PlayerSnapshot player) {
+        Set<String> terms = termsOf(player);
+        lock.writeLock().lock();
+        try {
+            removeLocked(player.id());
+            termsById.put(player.id(), terms);
+            for (String term : terms) {
+                Node node = nodesByTerm.get(term);
+                if (node == null) {
+                    node = new Node(term);
+                    nodesByTerm.put(term, node);
+                    insert(node);
+                } else if (node.ids.isEmpty()) {
+                    deadTerms--;
+                }
+                node.ids.add(player.id());
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long playerId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(playerId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            nodesByTerm.clear();
+            termsById.clear();
+            root = null;
+            deadTerms = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Find the players having a name within an edit distance of the query.
+     *
+     * @param text The (possibly misspelled) name to search for
+     * @param maxDistance The maximum edit distance
+     * @return IDs of the matching players, closest first, then by ascending ID
+     */
+    public List<Long> search(String text, int maxDistance) {
+        String query = normalize(text);
+        Map<Long, Integer> distances = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            if (root == null) {
+                return List.of();
+            }
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                int limit = maxDistance + node.children.length - 1;
+                int distance = distance(query, node.term, Math.max(limit, maxDistance));
+                if (distance <= maxDistance) {
+                    for (int i = 0; i < node.ids.size(); i++) {
+                        distances.merge(node.ids.get(i), distance, Math::min);
+                    }
+                }
+                int from = Math.max(1, distance - maxDistance);
+                int to = Math.min(node.children.length - 1, distance + maxDistance);
+                for (int d = from; d <= to; d++) {
+                    if (node.children[d] != null) {
+                        pending.push(node.children[d]);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return distances.entrySet().stream()
+            .sorted(Map.Entry.<Long, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    /**
+     * Normalize a name for fuzzy comparison: lower case, no accents, single spaces.
+     *
+     * @param text The text to normalize
+     * @return The normalized text
+     */
+    static String normalize(String text) {
+        String withoutAccents = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return withoutAccents.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Levenshtein distance, computed with two rows and abandoned as soon as it exceeds a limit.
+     *
+     * @return The distance, or limit + 1 if it is greater than the limit
+     */
+    static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit + 1);
+    }
+
+    /**
+     * @return Number of terms in the tree, dead ones included
+     */
+    int termCount() {
+        lock.readLock().lock();
+        try {
+            return nodesByTerm.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long playerId) {
+        Set<String> terms = termsById.remove(playerId);
+        if (terms != null) {
+            for (String term : terms) {
+                Node node = nodesByTerm.get(term);
+                node.ids.remove(playerId);
+                if (node.ids.isEmpty()) {
+                    deadTerms++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuild the tree from its live terms once dead terms make up half of it.
+     */
+    private void compactIfNeeded() {
+        if (deadTerms < MIN_DEAD_TERMS_TO_COMPACT || deadTerms * 2 < nodesByTerm.size()) {
+            return;
+        }
+        List<Node> live = new ArrayList<>(nodesByTerm.size() - deadTerms);
+        for (Node node : nodesByTerm.values()) {
+            if (!node.ids.isEmpty()) {
+                node.children = Node.NO_CHILDREN;
+                live.add(node);
+            }
+        }
+        nodesByTerm.clear();
+        root = null;
+        deadTerms = 0;
+        for (Node node : live) {
+            nodesByTerm.put(node.term, node);
+            insert(node);
+        }
+    }
+
+    private void insert(Node created) {
+        if (root == null) {
+            root = created;
+            return;
+        }
+        String term = created.term;
+        Node node = root;
+        while (true) {
+            int distance = distance(term, node.term, Integer.MAX_VALUE - 1);
+            if (distance >= node.children.length) {
+                node.children = Arrays.copyOf(node.children, distance + 1);
+            }
+            if (node.children[distance] == null) {
+                node.children[distance] = created;
+                return;
+            }
+            node = node.children[distance];
+        }
+    }
+
+    private static Set<String> termsOf(PlayerSnapshot player) {
+        Set<String> terms = new LinkedHashSet<>();
+        List<String> names = new ArrayList<>(2);
+        for (String name : new String[]{player.firstName(), player.lastName()}) {
+            if (name != null && !name.isBlank()) {
+                names.add(normalize(name));
+            }
+        }
+        terms.addAll(names);
+        if (names.size() == 2) {
+            terms.add(names.get(0) + " " + names.get(1));
+        }
+        return terms;
+    }
+
+    /**
+     * BK-tree node; children are indexed by their distance to this node's term.
+     */
+    private static final class Node {
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String term;
+        private final PostingList ids = new PostingList();
+        private Node[] children = NO_CHILDREN;
+
+        private Node(String term) {
+            this.term = term;
+        }
+    }
+}
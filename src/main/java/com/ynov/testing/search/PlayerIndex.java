@@ -0,0 +1,49 @@
+package com.ynov.testing.search;
+
+import com.ynov.testing.model.PlayerSnapshot;
+
+/**
+ * PlayerIndex Interface
+ *
+ * In-memory index over players, kept up to date by {@link PlayerIndexMaintainer}:
+ * it is fully loaded from the database at startup, then updated after each
+ * committed player change.
+ *
+ * Implementations must be thread-safe: searches run concurrently with updates.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public interface PlayerIndex {
+
+    /**
+     * Add or replace a player in the index.
+     *
+     * @param player The player state to index
+     */
+    void index(PlayerSnapshot player);
+
+    /**
+     * Remove a player from the index. Does nothing if the player is not indexed.
+     *
+     * @param playerId The player ID
+     */
+    void remove(Long playerId);
+
+    /**
+     * Remove every player from the index and mark it as not ready.
+     */
+    void clear();
+
+    /**
+     * Mark the index as fully loaded.
+     */
+    void markReady();
+
+    /**
+     * Check whether the index has been fully loaded and can answer searches.
+     *
+     * @return true if the index is ready, false while it is (re)loading
+     */
+    boolean isReady();
+}
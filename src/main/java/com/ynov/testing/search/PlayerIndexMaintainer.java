@@ -0,0 +1,104 @@
+package com.ynov.testing.search;
+
+import com.ynov.testing.model.PlayerSnapshot;
+import com.ynov.testing.service.PlayerChangedEvent;
+import com.ynov.testing.service.PlayerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PlayerIndexMaintainer Class
+ *
+ * Keeps every {@link PlayerIndex} in sync with the players table:
+ * - once the application is ready, all players are streamed from the database
+ *   into the indexes, after which they are marked ready;
+ * - after each committed {@link PlayerChangedEvent}, the changed player is
+ *   re-indexed or removed. Changes of rolled-back transactions are ignored.
+ *
+ * Changes committed while the players are being streamed are buffered, then
+ * replayed once the stream is done: the stream may have read a player before
+ * its change, so applying the change right away could be overwritten (or, for
+ * a deletion, leave a ghost entry).
+ *
+ * Until an index is ready, services fall back to the equivalent SQL query.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class PlayerIndexMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerIndexMaintainer.class);
+
+    private final PlayerService playerService;
+    private final List<PlayerIndex> indexes;
+    private final Object changesLock = new Object();
+    private List<PlayerChangedEvent> bufferedChanges;
+
+    @Autowired
+    public PlayerIndexMaintainer(PlayerService playerService, List<PlayerIndex> indexes) {
+        this.playerService = playerService;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Load all players into the indexes once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndexes() {
+        long start = System.nanoTime();
+        synchronized (changesLock) {
+            bufferedChanges = new ArrayList<>();
+            indexes.forEach(PlayerIndex::clear);
+        }
+        long count;
+        try {
+            count = playerService.streamAllPlayers(player -> {
+                PlayerSnapshot snapshot = PlayerSnapshot.of(player);
+                indexes.forEach(index -> index.index(snapshot));
+            });
+        } finally {
+            synchronized (changesLock) {
+                bufferedChanges.forEach(this::apply);
+                bufferedChanges = null;
+            }
+        }
+        indexes.forEach(PlayerIndex::markReady);
+        log.info("Loaded {} players into {} in-memory indexes in {} ms",
+            count, indexes.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Apply a committed player change to the indexes.
+     *
+     * @param event The player change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        synchronized (changesLock) {
+            if (bufferedChanges != null) {
+                bufferedChanges.add(event);
+            } else {
+                apply(event);
+            }
+        }
+    }
+
+    private void apply(PlayerChangedEvent event) {
+        for (PlayerIndex index : indexes) {
+            if (event.after() != null) {
+                index.index(event.after());
+            } else if (event.before() != null) {
+                index.remove(event.before().id());
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.ynov.testing.search;
+
+import com.ynov.testing.model.PlayerSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * PlayerNameIndex Class
+ *
+ * In-memory trigram inverted index over player full names ("first last").
+ * It answers the same case-insensitive substring search as
+ * {@code PlayerRepository.findByFullNameContaining} without scanning every row:
+ *
+ * - every lower-cased full name is split into its overlapping 3-character
+ *   sequences (trigrams), and each trigram maps to the sorted list of IDs
+ *   of the players whose name contains it;
+ * - a query is split the same way, the posting lists of its trigrams are
+ *   intersected starting from the shortest one, and the few remaining
+ *   candidates are verified against their full name.
+ *
+ * Queries shorter than 3 characters have no trigram and fall back to a scan
+ * of the indexed names, which is still done in memory.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class PlayerNameIndex implements PlayerIndex {
+
+    private static final int GRAM_SIZE = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, String> namesById = new HashMap<>();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private volatile boolean ready;
+
+    @Override
+    public void index(PlayerSnapshot player) {
+        String name = normalize(player.fullName());
+        lock.writeLock().lock();
+        try {
+            removeLocked(player.id());
+            namesById.put(player.id(), name);
+            for (long trigram : trigrams(name)) {
+                postings.computeIfAbsent(trigram, key -> new PostingList()).add(player.id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long playerId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(playerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            namesById.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Find the players whose full name contains the given text (case-insensitive).
+     *
+     * @param text The text to search for
+     * @return IDs of the matching players, in ascending order
+     */
+    public List<Long> search(String text) {
+        String query = normalize(text);
+        List<Long> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (query.length() < GRAM_SIZE) {
+                namesById.forEach((id, name) -> {
+                    if (name.contains(query)) {
+                        matches.add(id);
+                    }
+                });
+                matches.sort(Comparator.naturalOrder());
+                return matches;
+            }
+
+            long[] queryTrigrams = trigrams(query);
+            PostingList[] lists = new PostingList[queryTrigrams.length];
+            for (int i = 0; i < queryTrigrams.length; i++) {
+                lists[i] = postings.get(queryTrigrams[i]);
+                if (lists[i] == null) {
+                    return matches;
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+
+            PostingList shortest = lists[0];
+            for (int i = 0; i < shortest.size(); i++) {
+                long id = shortest.get(i);
+                if (containsInAll(lists, id) && namesById.get(id).contains(query)) {
+                    matches.add(id);
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of players currently indexed.
+     *
+     * @return The number of indexed players
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return namesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long playerId) {
+        String name = namesById.remove(playerId);
+        if (name == null) {
+            return;
+        }
+        for (long trigram : trigrams(name)) {
+            PostingList list = postings.get(trigram);
+            if (list != null) {
+                list.remove(playerId);
+                if (list.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private static boolean containsInAll(PostingList[] lists, long id) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Normalize a name the same way the SQL search does (LOWER).
+     *
+     * @param text The text to normalize
+     * @return The lower-cased text
+     */
+    static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Distinct trigrams of a text, each packed into a long (3 x 16-bit chars).
+     */
+    private static long[] trigrams(String text) {
+        if (text.length() < GRAM_SIZE) {
+            return new long[0];
+        }
+        long[] grams = new long[text.length() - GRAM_SIZE + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+}
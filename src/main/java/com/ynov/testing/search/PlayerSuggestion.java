@@ -0,0 +1,18 @@
+package com.ynov.testing.search;
+
+/**
+ * PlayerSuggestion Record
+ *
+ * One type-ahead suggestion: a first name, last name or team name starting
+ * with the typed prefix, with the number of players it refers to.
+ *
+ * @param text The suggested text, as stored on the players
+ * @param field The player field the text comes from (firstName, lastName or teamName)
+ * @param players Number of players having this value
+ * @param activePlayers Number of active players having this value
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record PlayerSuggestion(String text, String field, long players, long activePlayers) {
+}
@@ -0,0 +1,388 @@
+package com.ynov.testing.search;
+
+import com.ynov.testing.model.PlayerSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * PlayerSuggestionIndex Class
+ *
+ * In-memory prefix index used for type-ahead suggestions over player first
+ * names, last names and team names. Terms are stored lower-cased in a compact
+ * radix trie: chains of single-child nodes are collapsed into one edge labelled
+ * with the whole substring, so the trie has at most one node per distinct
+ * term plus one per branching point.
+ *
+ * Each term keeps per-value counters (all players, active players), and each
+ * node the best counters of its subtree. A prefix lookup walks down to the
+ * node of the prefix, then visits its subtree best-first, keeping the best
+ * suggestions in a bounded heap (values used by more active players first):
+ * it stops as soon as no remaining subtree can beat the worst kept suggestion,
+ * so short prefixes do not read the whole subtree. Counters are updated
+ * incrementally on every player change, along the path of the changed term.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class PlayerSuggestionIndex implements PlayerIndex {
+
+    /**
+     * Ranking of suggestions: most active players first, then most players, then alphabetical.
+     */
+    private static final Comparator<PlayerSuggestion> RANKING = Comparator
+        .comparingLong(PlayerSuggestion::activePlayers).reversed()
+        .thenComparing(Comparator.comparingLong(PlayerSuggestion::players).reversed())
+        .thenComparing(PlayerSuggestion::text)
+        .thenComparing(PlayerSuggestion::field);
+
+    /**
+     * Order of the subtrees to visit: best counters of the subtree first.
+     */
+    private static final Comparator<Node> SUBTREE_RANKING = Comparator
+        .comparingLong((Node node) -> node.bestActive).reversed()
+        .thenComparing(Comparator.comparingLong((Node node) -> node.bestPlayers).reversed());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node("");
+    private final Map<Long, IndexedPlayer> playersById = new HashMap<>();
+    private volatile boolean ready;
+
+    @Override
+    public void index(PlayerSnapshot player) {
+        IndexedPlayer indexed = IndexedPlayer.of(player);
+        lock.writeLock().lock();
+        try {
+            removeLocked(player.id());
+            playersById.put(player.id(), indexed);
+            indexed.forEachTerm((field, text) -> add(field, text, 1, indexed.active ? 1 : 0));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long playerId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(playerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            playersById.clear();
+            root.children = Node.NO_CHILDREN;
+            root.values = null;
+            root.refreshBest();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Suggest the best first names, last names and team names starting with a prefix.
+     *
+     * @param prefix The typed prefix (case-insensitive)
+     * @param limit Maximum number of suggestions
+     * @return Suggestions, best first
+     */
+    public List<PlayerSuggestion> suggest(String prefix, int limit) {
+        String key = prefix.toLowerCase(Locale.ROOT);
+        PriorityQueue<PlayerSuggestion> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int matched = 0;
+            while (matched < key.length()) {
+                Node child = node.child(key.charAt(matched));
+                if (child == null) {
+                    return List.of();
+                }
+                int common = commonPrefixLength(child.label, key, matched);
+                if (matched + common < key.length() && common < child.label.length()) {
+                    return List.of();
+                }
+                matched += common;
+                node = child;
+            }
+            collect(node, best, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<PlayerSuggestion> suggestions = new ArrayList<>(best);
+        suggestions.sort(RANKING);
+        return suggestions;
+    }
+
+    private void collect(Node start, PriorityQueue<PlayerSuggestion> best, int limit) {
+        PriorityQueue<Node> frontier = new PriorityQueue<>(SUBTREE_RANKING);
+        frontier.add(start);
+        while (!frontier.isEmpty()) {
+            Node node = frontier.poll();
+            PlayerSuggestion worst = best.peek();
+            if (best.size() == limit && (node.bestActive < worst.activePlayers()
+                    || node.bestActive == worst.activePlayers() && node.bestPlayers < worst.players())) {
+                // Subtrees are visited best first: none of the remaining ones can do better
+                return;
+            }
+            if (node.values != null) {
+                for (Map.Entry<String, long[]> value : node.values.entrySet()) {
+                    String[] fieldAndText = value.getKey().split("\u0000", 2);
+                    best.add(new PlayerSuggestion(fieldAndText[1], fieldAndText[0],
+                        value.getValue()[0], value.getValue()[1]));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+            frontier.addAll(Arrays.asList(node.children));
+        }
+    }
+
+    private void removeLocked(Long playerId) {
+        IndexedPlayer indexed = playersById.remove(playerId);
+        if (indexed != null) {
+            indexed.forEachTerm((field, text) -> add(field, text, -1, indexed.active ? -1 : 0));
+        }
+    }
+
+    /**
+     * Add (or subtract, with negative deltas) a player to the counters of a term.
+     */
+    private void add(String field, String text, int playersDelta, int activeDelta) {
+        String key = text.toLowerCase(Locale.ROOT);
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            path.add(node);
+            Node child = node.child(key.charAt(matched));
+            if (child == null) {
+                if (playersDelta < 0) {
+                    return;
+                }
+                child = new Node(key.substring(matched));
+                node.addChild(child);
+                matched = key.length();
+            } else {
+                int common = commonPrefixLength(child.label, key, matched);
+                if (common < child.label.length()) {
+                    if (playersDelta < 0) {
+                        return;
+                    }
+                    child = node.split(child, common);
+                }
+                matched += common;
+            }
+            node = child;
+        }
+
+        String valueKey = field + "\u0000" + text;
+        if (node.values == null) {
+            node.values = new LinkedHashMap<>(2);
+        }
+        long[] counters = node.values.computeIfAbsent(valueKey, k -> new long[2]);
+        counters[0] += playersDelta;
+        counters[1] += activeDelta;
+        if (counters[0] <= 0) {
+            node.values.remove(valueKey);
+            if (node.values.isEmpty()) {
+                node.values = null;
+            }
+            prune(path, node);
+        }
+        node.refreshBest();
+        for (int i = path.size() - 1; i >= 0; i--) {
+            path.get(i).refreshBest();
+        }
+    }
+
+    /**
+     * Remove nodes left without values and merge single-child chains back into one edge.
+     */
+    private void prune(List<Node> path, Node node) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node parent = path.get(i);
+            if (node.values == null && node.children.length == 0) {
+                parent.removeChild(node);
+            } else if (node.values == null && node.children.length == 1) {
+                Node only = node.children[0];
+                Node merged = new Node(node.label + only.label);
+                merged.children = only.children;
+                merged.values = only.values;
+                merged.refreshBest();
+                parent.replaceChild(node, merged);
+                return;
+            } else {
+                return;
+            }
+            node = parent;
+            if (node == root) {
+                return;
+            }
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Radix trie node. Children are kept sorted by the first character of their label.
+     */
+    private static final class Node {
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String label;
+        private Node[] children = NO_CHILDREN;
+        private Map<String, long[]> values;
+        /**
+         * Best (active players, players) counters of the values in this subtree.
+         */
+        private long bestActive;
+        private long bestPlayers;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        private void addChild(Node child) {
+            int at = 0;
+            while (at < children.length && children[at].label.charAt(0) < child.label.charAt(0)) {
+                at++;
+            }
+            Node[] updated = new Node[children.length + 1];
+            System.arraycopy(children, 0, updated, 0, at);
+            updated[at] = child;
+            System.arraycopy(children, at, updated, at + 1, children.length - at);
+            children = updated;
+        }
+
+        private void removeChild(Node child) {
+            Node[] updated = Arrays.stream(children).filter(c -> c != child).toArray(Node[]::new);
+            children = updated.length == 0 ? NO_CHILDREN : updated;
+        }
+
+        private void replaceChild(Node oldChild, Node newChild) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == oldChild) {
+                    children[i] = newChild;
+                }
+            }
+        }
+
+        /**
+         * Recompute the best counters of this subtree from its values and children.
+         */
+        private void refreshBest() {
+            long active = 0;
+            long players = 0;
+            if (values != null) {
+                for (long[] counters : values.values()) {
+                    if (counters[1] > active || counters[1] == active && counters[0] > players) {
+                        active = counters[1];
+                        players = counters[0];
+                    }
+                }
+            }
+            for (Node child : children) {
+                if (child.bestActive > active || child.bestActive == active && child.bestPlayers > players) {
+                    active = child.bestActive;
+                    players = child.bestPlayers;
+                }
+            }
+            bestActive = active;
+            bestPlayers = players;
+        }
+
+        /**
+         * Split a child edge after its first {@code at} characters.
+         *
+         * @return The new intermediate node
+         */
+        private Node split(Node child, int at) {
+            Node middle = new Node(child.label.substring(0, at));
+            Node tail = new Node(child.label.substring(at));
+            tail.children = child.children;
+            tail.values = child.values;
+            tail.bestActive = middle.bestActive = child.bestActive;
+            tail.bestPlayers = middle.bestPlayers = child.bestPlayers;
+            middle.children = new Node[]{tail};
+            replaceChild(child, middle);
+            return middle;
+        }
+    }
+
+    /**
+     * Terms indexed for a player, remembered to remove them on update or delete.
+     */
+    private record IndexedPlayer(String firstName, String lastName, String teamName, boolean active) {
+
+        private static IndexedPlayer of(PlayerSnapshot player) {
+            return new IndexedPlayer(player.firstName(), player.lastName(), player.teamName(),
+                Boolean.TRUE.equals(player.active()));
+        }
+
+        private void forEachTerm(java.util.function.BiConsumer<String, String> action) {
+            if (firstName != null && !firstName.isBlank()) {
+                action.accept("firstName", firstName);
+            }
+            if (lastName != null && !lastName.isBlank()) {
+                action.accept("lastName", lastName);
+            }
+            if (teamName != null && !teamName.isBlank()) {
+                action.accept("teamName", teamName);
+            }
+        }
+    }
+}
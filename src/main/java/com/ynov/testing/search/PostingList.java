@@ -0,0 +1,81 @@
+package com.ynov.testing.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted set of player IDs stored in a primitive array.
+ *
+ * Posting lists are the values of inverted indexes: one list per term,
+ * holding the IDs of the players containing that term. A primitive array
+ * keeps millions of postings compact (8 bytes per entry instead of a boxed
+ * Long in a HashSet), and keeping it sorted allows binary-search lookups
+ * and cheap appends, since new players get increasing IDs.
+ *
+ * This class is not thread-safe; callers synchronize access.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+final class PostingList {
+
+    private long[] ids = new long[4];
+    private int size;
+
+    /**
+     * Add an ID to the list. Does nothing if it is already present.
+     *
+     * @param id The ID to add
+     */
+    void add(long id) {
+        if (size > 0 && ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            return;
+        }
+        int insertAt = -position - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    /**
+     * Remove an ID from the list. Does nothing if it is absent.
+     *
+     * @param id The ID to remove
+     */
+    void remove(long id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+    }
+}
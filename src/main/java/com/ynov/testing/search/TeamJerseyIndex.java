@@ -0,0 +1,223 @@
+package com.ynov.testing.search;
+
+import com.ynov.testing.model.PlayerSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+
+/**
+ * TeamJerseyIndex Class
+ *
+ * In-memory jersey number occupancy per team. Each team gets:
+ * - an occupancy count per jersey number: the number of committed players
+ *   wearing it, maintained from player changes like every other
+ *   {@link PlayerIndex}. Legacy data may have several players on the same
+ *   number, so removing one of them must not free the number;
+ * - a 128-bit reserved map, stored as two longs in an AtomicLongArray, holding
+ *   the numbers claimed by in-flight transactions.
+ *
+ * A number is reserved with a compare-and-set on its reserved bit, so two
+ * concurrent transactions can never both claim the same free number. This
+ * closes the race between the existence check and the insert. A free number
+ * is reserved without any query. If the number is occupied, the database
+ * probe has the final word. This way, players deleted outside the services
+ * cannot block their number forever.
+ *
+ * Once the reserving transaction commits, {@link #confirm} records the number
+ * as occupied before releasing the reservation, so that it is never seen free
+ * in between; on rollback it is only released.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class TeamJerseyIndex implements PlayerIndex {
+
+    /**
+     * Smallest valid jersey number.
+     */
+    public static final int MIN_JERSEY_NUMBER = 1;
+
+    /**
+     * Largest valid jersey number.
+     */
+    public static final int MAX_JERSEY_NUMBER = 99;
+
+    private final ConcurrentMap<String, TeamSlots> teams = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Assignment> assignments = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @Override
+    public void index(PlayerSnapshot player) {
+        if (player.teamName() != null && isTracked(player.jerseyNumber())) {
+            assign(player.id(), new Assignment(player.teamName(), player.jerseyNumber()));
+        } else {
+            remove(player.id());
+        }
+    }
+
+    @Override
+    public void remove(Long playerId) {
+        assignments.computeIfPresent(playerId, (id, previous) -> {
+            slots(previous.teamName()).occupied().decrementAndGet(previous.jerseyNumber());
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        ready = false;
+        assignments.clear();
+        teams.values().forEach(slots -> {
+            for (int number = MIN_JERSEY_NUMBER; number <= MAX_JERSEY_NUMBER; number++) {
+                slots.occupied().set(number, 0);
+            }
+        });
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Atomically reserve a jersey number in a team for the current transaction.
+     * Once the transaction completes, the reservation must be confirmed with
+     * {@link #confirm} if it committed, or released with {@link #release} otherwise.
+     *
+     * @param teamName The team name
+     * @param jerseyNumber The jersey number
+     * @param databaseProbe Database check, called only if the number looks occupied
+     * @return true if the number was reserved, false if it is taken or being taken
+     */
+    public boolean tryReserve(String teamName, int jerseyNumber, BooleanSupplier databaseProbe) {
+        if (!isTracked(jerseyNumber)) {
+            throw new IllegalArgumentException("Jersey number must be between " + MIN_JERSEY_NUMBER +
+                " and " + MAX_JERSEY_NUMBER);
+        }
+        TeamSlots slots = slots(teamName);
+        if (!set(slots.reserved(), jerseyNumber)) {
+            return false;
+        }
+        if (slots.occupied().get(jerseyNumber) > 0 && databaseProbe.getAsBoolean()) {
+            clear(slots.reserved(), jerseyNumber);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Confirm a reservation made by {@link #tryReserve} once its transaction has
+     * committed: the number is recorded as worn by the player, then released.
+     *
+     * @param playerId The ID of the player now wearing the number
+     * @param teamName The team name
+     * @param jerseyNumber The jersey number
+     */
+    public void confirm(Long playerId, String teamName, int jerseyNumber) {
+        assign(playerId, new Assignment(teamName, jerseyNumber));
+        release(teamName, jerseyNumber);
+    }
+
+    /**
+     * Release a reservation made by {@link #tryReserve}, without occupying the number.
+     *
+     * @param teamName The team name
+     * @param jerseyNumber The jersey number
+     */
+    public void release(String teamName, int jerseyNumber) {
+        clear(slots(teamName).reserved(), jerseyNumber);
+    }
+
+    /**
+     * List the jersey numbers neither used nor being reserved in a team.
+     *
+     * @param teamName The team name
+     * @return Free jersey numbers in ascending order
+     */
+    public List<Integer> freeNumbers(String teamName) {
+        TeamSlots slots = teams.get(teamName);
+        List<Integer> free = new ArrayList<>();
+        for (int number = MIN_JERSEY_NUMBER; number <= MAX_JERSEY_NUMBER; number++) {
+            if (slots == null || (slots.occupied().get(number) == 0 && !isSet(slots.reserved(), number))) {
+                free.add(number);
+            }
+        }
+        return free;
+    }
+
+    private static boolean isTracked(Integer jerseyNumber) {
+        return jerseyNumber != null && jerseyNumber >= MIN_JERSEY_NUMBER && jerseyNumber <= MAX_JERSEY_NUMBER;
+    }
+
+    /**
+     * Record the number worn by a player, freeing its previous one.
+     */
+    private void assign(Long playerId, Assignment assignment) {
+        assignments.compute(playerId, (id, previous) -> {
+            if (!assignment.equals(previous)) {
+                slots(assignment.teamName()).occupied().incrementAndGet(assignment.jerseyNumber());
+                if (previous != null) {
+                    slots(previous.teamName()).occupied().decrementAndGet(previous.jerseyNumber());
+                }
+            }
+            return assignment;
+        });
+    }
+
+    private TeamSlots slots(String teamName) {
+        return teams.computeIfAbsent(teamName,
+            name -> new TeamSlots(new AtomicIntegerArray(MAX_JERSEY_NUMBER + 1), new AtomicLongArray(2)));
+    }
+
+    private static boolean isSet(AtomicLongArray bitmap, int number) {
+        return (bitmap.get(number >>> 6) & (1L << number)) != 0;
+    }
+
+    /**
+     * Set a bit with compare-and-set.
+     *
+     * @return true if this call set the bit, false if it was already set
+     */
+    private static boolean set(AtomicLongArray bitmap, int number) {
+        int word = number >>> 6;
+        long mask = 1L << number;
+        long current;
+        do {
+            current = bitmap.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!bitmap.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    private static void clear(AtomicLongArray bitmap, int number) {
+        int word = number >>> 6;
+        long mask = 1L << number;
+        long current;
+        do {
+            current = bitmap.get(word);
+        } while ((current & mask) != 0 && !bitmap.compareAndSet(word, current, current & ~mask));
+    }
+
+    private record Assignment(String teamName, int jerseyNumber) {
+    }
+
+    /**
+     * Occupancy counts (indexed by jersey number) and reserved bits of a team.
+     */
+    private record TeamSlots(AtomicIntegerArray occupied, AtomicLongArray reserved) {
+    }
+}
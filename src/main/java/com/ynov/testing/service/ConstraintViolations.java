@@ -0,0 +1,34 @@
+package com.ynov.testing.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * ConstraintViolations Class
+ *
+ * Helpers to tell which database constraint a failed write violated, so that
+ * services can report unique constraint violations as validation errors.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * @return The lower-cased name of the violated constraint, or the database message
+     *         (which names the constraint index) if the driver did not report it
+     */
+    static String violatedConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        return String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,12 +1,20 @@
 package com.ynov.testing.service;
 
 import com.ynov.testing.model.Event;
+import com.ynov.testing.coalescing.RequestCoalescer;
 import com.ynov.testing.repository.EventRepository;
+import com.ynov.testing.uniqueness.UniquenessGuards;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import com.ynov.testing.model.Player;
 
@@ -15,22 +23,35 @@ import com.ynov.testing.model.Player;
  *
  * Students must implement this service and achieve 100% test coverage.
  * Focus on business logic and proper exception handling.
+ *
+ * Read methods go through the {@link RequestCoalescer}, so identical
+ * concurrent reads share one query.
+ *
+ * Every public method is timed (app.service metric, tagged with the method).
  */
 @Service
+@Timed(value = "app.service", histogram = true)
 public class EventService {
 
+    private static final List<Object> NO_ARGUMENTS = List.of();
+
     private final EventRepository eventRepository;
+    private final UniquenessGuards uniquenessGuards;
+    private final RequestCoalescer requestCoalescer;
 
     @Autowired
-    public EventService(EventRepository eventRepository) {
+    public EventService(EventRepository eventRepository, UniquenessGuards uniquenessGuards,
+                        RequestCoalescer requestCoalescer) {
         this.eventRepository = eventRepository;
+        this.uniquenessGuards = uniquenessGuards;
+        this.requestCoalescer = requestCoalescer;
     }
 
     /**
      * Retrieve all events from the database
      */
     public List<Event> getAllEvents() {
-        return eventRepository.findAll();
+        return coalescedEvents("events", NO_ARGUMENTS, eventRepository::findAll);
     }
 
     /**
@@ -40,22 +61,25 @@ public class EventService {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("Event ID must be positive");
         }
-        return eventRepository.findById(id);
+        return requestCoalescer.execute("event-by-id", id, () -> eventRepository.findById(id),
+                found -> found.map(Event::getId), found -> found.flatMap(eventRepository::findById));
     }
 
     /**
      * Create a new event
+     * The name is checked up front, and the unique constraint on it (uk_events_name)
+     * rejects concurrent creations of the same name with the same error.
      */
     public Event createEvent(Event event) {
         validateEvent(event);
 
-        if (eventRepository.existsByName(event.getName())) {
-            throw new IllegalArgumentException("Event name already exists: " + event.getName());
-        }
+        checkNameIsFree(event.getName());
         String teaser = generateTeaser(event);
         event.setTeaser(teaser);
 
-        return eventRepository.save(event);
+        Event savedEvent = save(event);
+        uniquenessGuards.eventNames().register(event.getName());
+        return savedEvent;
     }
 
     /**
@@ -66,6 +90,9 @@ public class EventService {
                 .orElseThrow(() -> new IllegalArgumentException("Event not found with ID: " + id));
 
         validateEvent(eventData);
+        if (!eventData.getName().equals(existingEvent.getName())) {
+            checkNameIsFree(eventData.getName());
+        }
 
         existingEvent.setName(eventData.getName());
         existingEvent.setDescription(eventData.getDescription());
@@ -76,7 +103,9 @@ public class EventService {
         existingEvent.setCity(eventData.getCity());
         existingEvent.setTeaser(eventData.getTeaser());
 
-        return eventRepository.save(existingEvent);
+        Event savedEvent = save(existingEvent);
+        uniquenessGuards.eventNames().register(existingEvent.getName());
+        return savedEvent;
     }
 
     /**
@@ -93,21 +122,23 @@ public class EventService {
      * Get upcoming events (after current date)
      */
     public List<Event> getUpcomingEvents() {
-        return eventRepository.findByEventDateAfter(LocalDateTime.now());
+        return coalescedEvents("events-upcoming", NO_ARGUMENTS,
+                () -> eventRepository.findByEventDateAfter(LocalDateTime.now()));
     }
 
     /**
      * Get past events (before current date)
      */
     public List<Event> getPastEvents() {
-        return eventRepository.findByEventDateBefore(LocalDateTime.now());
+        return coalescedEvents("events-past", NO_ARGUMENTS,
+                () -> eventRepository.findByEventDateBefore(LocalDateTime.now()));
     }
 
     /**
      * Get active events only
      */
     public List<Event> getActiveEvents() {
-        return eventRepository.findByActiveTrue();
+        return coalescedEvents("events-active", NO_ARGUMENTS, eventRepository::findByActiveTrue);
     }
 
     public void archiveOldEvents() {
@@ -160,12 +191,54 @@ public class EventService {
         LocalDateTime startOfDay = LocalDateTime.now().toLocalDate().atStartOfDay();
         LocalDateTime endOfDay = LocalDateTime.now().toLocalDate().atTime(23, 59, 59);
 
-        List<Event> events = eventRepository.findByEventDateAfterAndDateBefore(startOfDay, endOfDay);
+        List<Event> events = coalescedEvents("events-today", startOfDay,
+                () -> eventRepository.findByEventDateAfterAndDateBefore(startOfDay, endOfDay));
         
         return events;
         
     }
 
+    /**
+     * Run an event read through the request coalescer: callers waiting for the read
+     * in flight get the IDs it found and load the events in their own persistence context.
+     */
+    private List<Event> coalescedEvents(String operation, Object arguments, Supplier<List<Event>> read) {
+        return requestCoalescer.execute(operation, arguments, read,
+                events -> events.stream().map(Event::getId).toList(), this::findAllInOrder);
+    }
+
+    /**
+     * Load events by ID, in the order of the IDs (skipping those deleted since).
+     */
+    private List<Event> findAllInOrder(List<Long> ids) {
+        Map<Long, Event> events = eventRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        return ids.stream().map(events::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * @throws IllegalArgumentException if an event already has this name
+     */
+    private void checkNameIsFree(String name) {
+        if (uniquenessGuards.eventNames().exists(name, eventRepository::existsByName)) {
+            throw new IllegalArgumentException("Event name already exists: " + name);
+        }
+    }
+
+    /**
+     * Save an event, reporting a violation of the unique name like the up-front check does.
+     */
+    private Event save(Event event) {
+        try {
+            return eventRepository.save(event);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.violatedConstraint(e).contains(Event.NAME_CONSTRAINT)) {
+                throw new IllegalArgumentException("Event name already exists: " + event.getName());
+            }
+            throw e;
+        }
+    }
+
     // Méthode privée de validation
     private void validateEvent(Event event) {
         if (event == null) {
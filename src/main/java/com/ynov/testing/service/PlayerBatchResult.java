@@ -0,0 +1,34 @@
+package com.ynov.testing.service;
+
+/**
+ * PlayerBatchResult Record
+ *
+ * Outcome of one player of a bulk creation request.
+ *
+ * @param index Position of the player in the request payload
+ * @param status CREATED if the player was inserted, REJECTED otherwise
+ * @param id Generated ID of the created player, or null if rejected
+ * @param email Email of the player, to help correlate results
+ * @param error Reason of the rejection, or null if created
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record PlayerBatchResult(int index, Status status, Long id, String email, String error) {
+
+    /**
+     * Outcome of a bulk creation item.
+     */
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    static PlayerBatchResult created(int index, Long id, String email) {
+        return new PlayerBatchResult(index, Status.CREATED, id, email, null);
+    }
+
+    static PlayerBatchResult rejected(int index, String email, String error) {
+        return new PlayerBatchResult(index, Status.REJECTED, null, email, error);
+    }
+}
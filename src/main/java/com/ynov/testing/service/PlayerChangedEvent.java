@@ -0,0 +1,32 @@
+package com.ynov.testing.service;
+
+import com.ynov.testing.model.PlayerSnapshot;
+
+/**
+ * PlayerChangedEvent Record
+ *
+ * Application event published by {@link PlayerService} whenever a player is
+ * created, updated or deleted. Components maintaining data derived from
+ * players (indexes, caches, statistics) listen to it instead of being
+ * called explicitly by the service.
+ *
+ * @param before State of the player before the change, or null on creation
+ * @param after State of the player after the change, or null on deletion
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record PlayerChangedEvent(PlayerSnapshot before, PlayerSnapshot after) {
+
+    public static PlayerChangedEvent created(PlayerSnapshot after) {
+        return new PlayerChangedEvent(null, after);
+    }
+
+    public static PlayerChangedEvent updated(PlayerSnapshot before, PlayerSnapshot after) {
+        return new PlayerChangedEvent(before, after);
+    }
+
+    public static PlayerChangedEvent deleted(PlayerSnapshot before) {
+        return new PlayerChangedEvent(before, null);
+    }
+}
@@ -0,0 +1,148 @@
+package com.ynov.testing.service;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * PlayerCursor Class
+ *
+ * Opaque continuation token used by the keyset (cursor) pagination of players.
+ * A cursor remembers the sort key, the sort direction and the values of
+ * (sortKey, id) of the last player returned, so that the next slice can seek
+ * directly after it instead of skipping an offset.
+ *
+ * Only non-nullable columns can be used as sort keys, because keyset
+ * comparisons cannot order NULL values.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public final class PlayerCursor {
+
+    /**
+     * Sort keys allowed for cursor pagination, with the parser of their values.
+     */
+    private static final Map<String, Function<String, Object>> SORT_KEYS = Map.of(
+        "id", Long::valueOf,
+        "firstName", value -> value,
+        "lastName", value -> value,
+        "email", value -> value,
+        "position", value -> value,
+        "age", Integer::valueOf,
+        "createdAt", LocalDateTime::parse
+    );
+
+    private static final String SEPARATOR = ":";
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final Long lastId;
+    private final Object lastValue;
+
+    private PlayerCursor(String sortBy, Sort.Direction direction, Long lastId, Object lastValue) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    /**
+     * Check whether a field can be used as a cursor sort key.
+     *
+     * @param sortBy The field name
+     * @return true if the field is supported, false otherwise
+     */
+    public static boolean isSupportedSortKey(String sortBy) {
+        return sortBy != null && SORT_KEYS.containsKey(sortBy);
+    }
+
+    /**
+     * Build the sort used by cursor pagination: the sort key followed by the ID
+     * as a tie-breaker, both in the same direction.
+     *
+     * @param sortBy The sort key
+     * @param direction The sort direction
+     * @return Sort on (sortBy, id)
+     */
+    public static Sort sortFor(String sortBy, Sort.Direction direction) {
+        if ("id".equals(sortBy)) {
+            return Sort.by(direction, "id");
+        }
+        return Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * Build the cursor pointing after the given keyset position.
+     *
+     * @param sortBy The sort key
+     * @param direction The sort direction
+     * @param position The keyset position of the last player returned
+     * @return The cursor
+     */
+    public static PlayerCursor after(String sortBy, Sort.Direction direction, KeysetScrollPosition position) {
+        Map<String, ?> keys = position.getKeys();
+        return new PlayerCursor(sortBy, direction, (Long) keys.get("id"), keys.get(sortBy));
+    }
+
+    /**
+     * Decode an opaque cursor token.
+     *
+     * @param token The token returned by {@link #encode()}
+     * @return The decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static PlayerCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 4);
+            if (parts.length != 4 || !isSupportedSortKey(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            Sort.Direction direction = Sort.Direction.fromString(parts[1]);
+            Long lastId = Long.valueOf(parts[2]);
+            Object lastValue = SORT_KEYS.get(parts[0]).apply(parts[3]);
+            return new PlayerCursor(parts[0], direction, lastId, lastValue);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Encode this cursor as an opaque, URL-safe token.
+     *
+     * @return The token
+     */
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + lastId + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Convert this cursor to the keyset position to seek from.
+     *
+     * @return Forward keyset position after the last player returned
+     */
+    public ScrollPosition toScrollPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sortBy, lastValue);
+        keys.put("id", lastId);
+        return ScrollPosition.forward(keys);
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ynov.testing.service;
+
+import com.ynov.testing.model.Player;
+
+import java.util.List;
+
+/**
+ * PlayerLookupResult Record
+ *
+ * Result of a multi-get of players by ID.
+ *
+ * @param players Players found, in the order of the requested IDs
+ * @param missingIds Requested IDs that do not match any player
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record PlayerLookupResult(List<Player> players, List<Long> missingIds) {
+}
@@ -0,0 +1,148 @@
+package com.ynov.testing.service;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.util.Optional;
+
+/**
+ * PlayerPatch Class
+ *
+ * Typed body of a JSON Merge Patch (RFC 7396) on a player. Each field tells
+ * apart the three cases of a merge patch:
+ * - null: the field is absent from the patch and stays unchanged;
+ * - Optional.empty(): the field is set to null in the patch and is cleared;
+ * - Optional.of(value): the field is set to this value.
+ *
+ * Jackson only calls the setters of the fields present in the body, and maps a
+ * JSON null to Optional.empty(). The constraints apply to the values present in
+ * the patch (validated with @Valid), so a mandatory field cannot be cleared.
+ * Fields that cannot be patched (such as "id") are rejected.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public class PlayerPatch {
+
+    private Optional<@NotBlank(message = "First name is mandatory")
+        @Size(min = 2, max = 50, message = "First name must be between 2 and 50 characters") String> firstName;
+
+    private Optional<@NotBlank(message = "Last name is mandatory")
+        @Size(min = 2, max = 50, message = "Last name must be between 2 and 50 characters") String> lastName;
+
+    private Optional<@NotBlank(message = "Email is mandatory")
+        @Email(message = "Email should be valid") String> email;
+
+    private Optional<@NotNull(message = "Age is mandatory")
+        @Min(value = 0, message = "Age must be between 0 and 150")
+        @Max(value = 150, message = "Age must be between 0 and 150") Integer> age;
+
+    private Optional<@NotBlank(message = "Position is mandatory")
+        @Size(min = 2, max = 30, message = "Position must be between 2 and 30 characters") String> position;
+
+    private Optional<@Size(max = 50, message = "Team name must be at most 50 characters") String> teamName;
+
+    private Optional<@Min(value = 1, message = "Jersey number must be between 1 and 99")
+        @Max(value = 99, message = "Jersey number must be between 1 and 99") Integer> jerseyNumber;
+
+    private Optional<@PositiveOrZero(message = "Salary cannot be negative") Double> salary;
+
+    private Optional<@NotNull(message = "Active status is required") Boolean> active;
+
+    /**
+     * Expected current version of the player (optimistic locking), or null.
+     */
+    private Long version;
+
+    @JsonAnySetter
+    void rejectUnknownField(String field, Object value) {
+        throw new IllegalArgumentException("Field cannot be patched: " + field);
+    }
+
+    // Getters and Setters
+    public Optional<String> getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(Optional<String> firstName) {
+        this.firstName = firstName;
+    }
+
+    public Optional<String> getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(Optional<String> lastName) {
+        this.lastName = lastName;
+    }
+
+    public Optional<String> getEmail() {
+        return email;
+    }
+
+    public void setEmail(Optional<String> email) {
+        this.email = email;
+    }
+
+    public Optional<Integer> getAge() {
+        return age;
+    }
+
+    public void setAge(Optional<Integer> age) {
+        this.age = age;
+    }
+
+    public Optional<String> getPosition() {
+        return position;
+    }
+
+    public void setPosition(Optional<String> position) {
+        this.position = position;
+    }
+
+    public Optional<String> getTeamName() {
+        return teamName;
+    }
+
+    public void setTeamName(Optional<String> teamName) {
+        this.teamName = teamName;
+    }
+
+    public Optional<Integer> getJerseyNumber() {
+        return jerseyNumber;
+    }
+
+    public void setJerseyNumber(Optional<Integer> jerseyNumber) {
+        this.jerseyNumber = jerseyNumber;
+    }
+
+    public Optional<Double> getSalary() {
+        return salary;
+    }
+
+    public void setSalary(Optional<Double> salary) {
+        this.salary = salary;
+    }
+
+    public Optional<Boolean> getActive() {
+        return active;
+    }
+
+    public void setActive(Optional<Boolean> active) {
+        this.active = active;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
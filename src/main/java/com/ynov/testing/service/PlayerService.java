@@ -1,16 +1,56 @@
 package com.ynov.testing.service;
 
+import com.ynov.testing.cache.PlayerSearchCache;
+import com.ynov.testing.cache.PlayerSearchKey;
+import com.ynov.testing.coalescing.RequestCoalescer;
 import com.ynov.testing.model.Player;
+import com.ynov.testing.model.PlayerSnapshot;
+import com.ynov.testing.model.TeamStats;
 import com.ynov.testing.repository.PlayerRepository;
+import com.ynov.testing.repository.TeamStatsRepository;
+import com.ynov.testing.search.PlayerFuzzyNameIndex;
+import com.ynov.testing.search.PlayerNameIndex;
+import com.ynov.testing.search.PlayerSuggestion;
+import com.ynov.testing.search.PlayerSuggestionIndex;
+import com.ynov.testing.search.TeamJerseyIndex;
+import com.ynov.testing.uniqueness.UniquenessGuard;
+import com.ynov.testing.uniqueness.UniquenessGuards;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * PlayerService Class
@@ -25,56 +65,263 @@ import java.util.Optional;
  * - Exception handling
  * - Complex operations combining multiple repository calls
  * 
+ * Hot reads (by ID, searches, counts) go through the {@link RequestCoalescer}:
+ * identical concurrent calls share one execution. They do not open a transaction
+ * themselves (SUPPORTS), so callers waiting for a shared result hold no connection.
+ * 
+ * Every public method is timed (app.service metric, tagged with the method).
+ * 
  * This class is perfect for testing service layer functionality.
  * 
  * @author Testing Methodology Course
  * @version 1.0.0
  */
 @Service
+@Timed(value = "app.service", histogram = true)
 @Transactional
 public class PlayerService {
 
+    /**
+     * Maximum number of players returned in one cursor slice.
+     */
+    public static final int MAX_SLICE_SIZE = 1000;
+
+    /**
+     * Maximum number of players accepted in one bulk creation request.
+     */
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    /**
+     * Maximum number of IDs accepted in one multi-get request.
+     */
+    public static final int MAX_LOOKUP_SIZE = 1000;
+
+    /**
+     * Maximum number of suggestions returned by the autocomplete.
+     */
+    public static final int MAX_SUGGESTIONS = 50;
+
+    /**
+     * Maximum edit distance accepted by the fuzzy name search.
+     */
+    public static final int MAX_FUZZY_DISTANCE = 2;
+
+    /**
+     * Number of inserts flushed and committed together by the bulk creation,
+     * aligned with hibernate.jdbc.batch_size.
+     */
+    private static final int INSERT_FLUSH_SIZE = 50;
+
     private final PlayerRepository playerRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlayerNameIndex playerNameIndex;
+    private final PlayerSuggestionIndex playerSuggestionIndex;
+    private final PlayerFuzzyNameIndex playerFuzzyNameIndex;
+    private final UniquenessGuard emailGuard;
+    private final TeamJerseyIndex teamJerseyIndex;
+    private final TeamStatsRepository teamStatsRepository;
+    private final PlayerSearchCache playerSearchCache;
+    private final RequestCoalescer requestCoalescer;
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * Constructor injection for PlayerRepository.
+     * Constructor injection for PlayerService dependencies.
      * 
      * @param playerRepository The player repository
+     * @param entityManager The entity manager (used to detach streamed players)
+     * @param eventPublisher Publisher of {@link PlayerChangedEvent}s for derived data
+     * @param playerNameIndex In-memory index used for full-name search
+     * @param playerSuggestionIndex In-memory prefix index used for autocomplete
+     * @param playerFuzzyNameIndex In-memory edit-distance index used for fuzzy name search
+     * @param uniquenessGuards Guards skipping email existence probes for emails that are definitely new
+     * @param teamJerseyIndex In-memory jersey occupancy used to reserve jersey numbers
+     * @param teamStatsRepository Materialized per-team statistics
+     * @param playerSearchCache Cache of the IDs returned by the team, position, age and salary searches
+     * @param requestCoalescer Single-flight execution of identical concurrent reads
+     * @param transactionManager Transaction manager of the bulk creation chunks
      */
     @Autowired
-    public PlayerService(PlayerRepository playerRepository) {
+    public PlayerService(PlayerRepository playerRepository, EntityManager entityManager,
+                         ApplicationEventPublisher eventPublisher, PlayerNameIndex playerNameIndex,
+                         PlayerSuggestionIndex playerSuggestionIndex, PlayerFuzzyNameIndex playerFuzzyNameIndex,
+                         UniquenessGuards uniquenessGuards, TeamJerseyIndex teamJerseyIndex,
+                         TeamStatsRepository teamStatsRepository, PlayerSearchCache playerSearchCache,
+                         RequestCoalescer requestCoalescer, PlatformTransactionManager transactionManager) {
         this.playerRepository = playerRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.playerNameIndex = playerNameIndex;
+        this.playerSuggestionIndex = playerSuggestionIndex;
+        this.playerFuzzyNameIndex = playerFuzzyNameIndex;
+        this.emailGuard = uniquenessGuards.playerEmails();
+        this.teamJerseyIndex = teamJerseyIndex;
+        this.teamStatsRepository = teamStatsRepository;
+        this.playerSearchCache = playerSearchCache;
+        this.requestCoalescer = requestCoalescer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Create a new player.
+     * Email and jersey uniqueness are enforced by the database unique constraints:
+     * the player is inserted right away, without existence queries, and a violated
+     * constraint is reported like the other validation errors. Concurrent creations
+     * of the same email or jersey number cannot both succeed.
      * 
      * @param player The player to create
      * @return The created player with generated ID
-     * @throws IllegalArgumentException if player data is invalid
+     * @throws IllegalArgumentException if player data is invalid, or the email or jersey number is taken
      */
     public Player createPlayer(Player player) {
         validatePlayerForCreation(player);
 
-        // Check if email already exists
-        if (playerRepository.existsByEmail(player.getEmail())) {
-            throw new IllegalArgumentException("Player with email " + player.getEmail() + " already exists");
+        // Set default values
+        if (player.getActive() == null) {
+            player.setActive(true);
         }
 
-        // Check jersey number uniqueness within team
-        if (player.getTeamName() != null && player.getJerseyNumber() != null) {
-            if (playerRepository.existsByJerseyNumberAndTeamName(player.getJerseyNumber(), player.getTeamName())) {
-                throw new IllegalArgumentException("Jersey number " + player.getJerseyNumber() + 
-                    " is already taken in team " + player.getTeamName());
+        return saveAndPublish(null, player);
+    }
+
+    /**
+     * Create many players at once.
+     * The whole payload is validated in memory, email and jersey uniqueness are
+     * checked with one set-based query each, and valid players are inserted in
+     * JDBC batches. Once the jersey occupancy is loaded, jersey numbers are
+     * reserved in memory instead of being queried.
+     * Invalid players are rejected individually without failing the others.
+     * 
+     * Each chunk of {@link #INSERT_FLUSH_SIZE} players is inserted in its own
+     * transaction. An email or jersey number taken by a concurrent write since
+     * the checks makes the unique constraints fail the chunk: it is rolled back
+     * and retried player by player, so that only the conflicting players are
+     * rejected. An unexpected error stops the batch, but keeps the chunks
+     * committed before it.
+     * 
+     * @param players The players to create
+     * @return One result per player, in payload order
+     * @throws IllegalArgumentException if the payload is empty or too large
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PlayerBatchResult> createPlayers(List<Player> players) {
+        if (players == null || players.isEmpty()) {
+            throw new IllegalArgumentException("Players list cannot be null or empty");
+        }
+        if (players.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot create more than " + MAX_BATCH_SIZE + " players at once");
+        }
+
+        PlayerBatchResult[] results = new PlayerBatchResult[players.size()];
+        List<Integer> candidates = new ArrayList<>();
+        Set<String> payloadEmailKeys = new HashSet<>();
+        Set<String> payloadJerseys = new HashSet<>();
+        Set<String> teamNames = new HashSet<>();
+
+        // Validate in memory, including duplicates inside the payload itself
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            String email = player != null ? player.getEmail() : null;
+            try {
+                validatePlayerForCreation(player);
+            } catch (IllegalArgumentException e) {
+                results[i] = PlayerBatchResult.rejected(i, email, e.getMessage());
+                continue;
+            }
+            if (!payloadEmailKeys.add(Player.normalizeEmail(email))) {
+                results[i] = PlayerBatchResult.rejected(i, email, "Player with email " + email + " already exists");
+                continue;
+            }
+            if (hasJersey(player)) {
+                if (!payloadJerseys.add(jerseyKey(player.getTeamName(), player.getJerseyNumber()))) {
+                    results[i] = PlayerBatchResult.rejected(i, email, "Jersey number " + player.getJerseyNumber() +
+                        " is already taken in team " + player.getTeamName());
+                    continue;
+                }
+                teamNames.add(player.getTeamName());
             }
+            candidates.add(i);
         }
 
-        // Set default values
-        if (player.getActive() == null) {
-            player.setActive(true);
+        // Check uniqueness against the database with set-based queries,
+        // skipping emails the guard knows to be new
+        Set<String> existingEmails = new HashSet<>();
+        List<String> emailsToProbe = payloadEmailKeys.stream().filter(emailGuard::mightExist).toList();
+        if (!emailsToProbe.isEmpty()) {
+            existingEmails.addAll(playerRepository.findExistingEmailKeys(emailsToProbe));
+        }
+        Set<String> takenJerseys = new HashSet<>();
+        if (!teamNames.isEmpty() && !teamJerseyIndex.isReady()) {
+            for (Object[] row : playerRepository.findJerseyNumbersByTeamNames(teamNames)) {
+                takenJerseys.add(jerseyKey((String) row[0], (Integer) row[1]));
+            }
+        }
+
+        List<Integer> accepted = new ArrayList<>();
+        for (int i : candidates) {
+            Player player = players.get(i);
+            if (existingEmails.contains(Player.normalizeEmail(player.getEmail()))) {
+                results[i] = PlayerBatchResult.rejected(i, player.getEmail(),
+                    "Player with email " + player.getEmail() + " already exists");
+            } else if (hasJersey(player)
+                    && takenJerseys.contains(jerseyKey(player.getTeamName(), player.getJerseyNumber()))) {
+                results[i] = PlayerBatchResult.rejected(i, player.getEmail(), "Jersey number " +
+                    player.getJerseyNumber() + " is already taken in team " + player.getTeamName());
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        // Insert the remaining players in JDBC batches, one transaction per chunk
+        for (int from = 0; from < accepted.size(); from += INSERT_FLUSH_SIZE) {
+            List<Integer> chunk = accepted.subList(from, Math.min(from + INSERT_FLUSH_SIZE, accepted.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertChunk(players, chunk, results));
+            } catch (DataIntegrityViolationException e) {
+                // Written concurrently since the checks: find the conflicting players
+                for (int i : chunk) {
+                    Player player = players.get(i);
+                    player.setId(null);
+                    player.setVersion(null);
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> insertChunk(players, List.of(i), results));
+                    } catch (DataIntegrityViolationException violation) {
+                        results[i] = PlayerBatchResult.rejected(i, player.getEmail(),
+                            uniquenessViolation(player, violation).getMessage());
+                    }
+                }
+            }
         }
+        return Arrays.asList(results);
+    }
 
-        return playerRepository.save(player);
+    /**
+     * Insert a chunk of validated players of a bulk creation, in the current
+     * transaction, and flush the inserts so that the unique constraints are checked.
+     * Jersey numbers are reserved here once the jersey occupancy is loaded.
+     *
+     * @param players The players of the bulk creation
+     * @param chunk Positions of the players to insert
+     * @param results Results of the bulk creation, updated for the chunk
+     * @throws DataIntegrityViolationException if an insert violates a constraint
+     */
+    private void insertChunk(List<Player> players, List<Integer> chunk, PlayerBatchResult[] results) {
+        for (int i : chunk) {
+            Player player = players.get(i);
+            if (teamJerseyIndex.isReady() && hasJersey(player)
+                    && !tryReserveJerseyNumber(player, player.getTeamName(), player.getJerseyNumber())) {
+                results[i] = PlayerBatchResult.rejected(i, player.getEmail(), "Jersey number " +
+                    player.getJerseyNumber() + " is already taken in team " + player.getTeamName());
+                continue;
+            }
+            if (player.getActive() == null) {
+                player.setActive(true);
+            }
+            Player saved = playerRepository.save(player);
+            eventPublisher.publishEvent(new PlayerChangedEvent(null, PlayerSnapshot.of(saved)));
+            results[i] = PlayerBatchResult.created(i, saved.getId(), saved.getEmail());
+        }
+        playerRepository.flush();
     }
 
     /**
@@ -87,6 +334,27 @@ public class PlayerService {
         return playerRepository.findAll();
     }
 
+    /**
+     * Stream all players one by one to the given consumer.
+     * Each player is detached from the persistence context once consumed,
+     * so memory usage stays flat regardless of the table size.
+     * 
+     * @param consumer Callback invoked for each player, in ID order
+     * @return Number of players streamed
+     */
+    @Transactional(readOnly = true)
+    public long streamAllPlayers(Consumer<Player> consumer) {
+        long count = 0;
+        try (Stream<Player> players = playerRepository.streamAll()) {
+            for (Player player : (Iterable<Player>) players::iterator) {
+                consumer.accept(player);
+                entityManager.detach(player);
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Get all players with pagination.
      * 
@@ -98,22 +366,107 @@ public class PlayerService {
         return playerRepository.findAll(pageable);
     }
 
+    /**
+     * Get a slice of players using keyset (cursor) pagination.
+     * Each slice seeks on (sortBy, id) after the position encoded in the cursor,
+     * so deep slices cost the same as the first one and no total count is computed.
+     * 
+     * @param sortBy Field to sort by (ignored when a cursor is given)
+     * @param sortDir Sort direction (ignored when a cursor is given)
+     * @param cursor Opaque token returned with the previous slice, or null for the first slice
+     * @param size Maximum number of players in the slice
+     * @return Slice of players with the cursor to the next slice
+     * @throws IllegalArgumentException if the sort key, size or cursor is invalid
+     */
+    @Transactional(readOnly = true)
+    public PlayerSlice getPlayersSlice(String sortBy, String sortDir, String cursor, int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new IllegalArgumentException("Slice size must be between 1 and " + MAX_SLICE_SIZE);
+        }
+
+        ScrollPosition position;
+        Sort.Direction direction;
+        if (cursor != null && !cursor.isBlank()) {
+            PlayerCursor decoded = PlayerCursor.decode(cursor.trim());
+            sortBy = decoded.getSortBy();
+            direction = decoded.getDirection();
+            position = decoded.toScrollPosition();
+        } else {
+            if (!PlayerCursor.isSupportedSortKey(sortBy)) {
+                throw new IllegalArgumentException("Unsupported sort key for cursor pagination: " + sortBy);
+            }
+            direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+            position = ScrollPosition.keyset();
+        }
+
+        Window<Player> window = playerRepository.findAllBy(
+            position, PlayerCursor.sortFor(sortBy, direction), Limit.of(size));
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            KeysetScrollPosition last = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            nextCursor = PlayerCursor.after(sortBy, direction, last).encode();
+        }
+        return new PlayerSlice(window.getContent(), size, window.hasNext(), nextCursor);
+    }
+
     /**
      * Get a player by ID.
      * 
      * @param id The player ID
      * @return Optional containing the player if found
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<Player> getPlayerById(Long id) {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("Player ID must be positive");
         }
-        return playerRepository.findById(id);
+        return requestCoalescer.execute("player-by-id", id, () -> playerRepository.findById(id),
+            found -> found.map(Player::getId), found -> found.flatMap(playerRepository::findById));
+    }
+
+    /**
+     * Get many players by ID with a single IN query.
+     * Duplicate IDs are ignored; players are returned in the order of the
+     * requested IDs and IDs without a player are reported separately.
+     * 
+     * @param ids The player IDs
+     * @return Players found and missing IDs
+     * @throws IllegalArgumentException if the IDs are empty, too many or not positive
+     */
+    @Transactional(readOnly = true)
+    public PlayerLookupResult getPlayersByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Player IDs cannot be null or empty");
+        }
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.size() > MAX_LOOKUP_SIZE) {
+            throw new IllegalArgumentException("Cannot look up more than " + MAX_LOOKUP_SIZE + " players at once");
+        }
+        for (Long id : uniqueIds) {
+            if (id == null || id <= 0) {
+                throw new IllegalArgumentException("Player ID must be positive");
+            }
+        }
+
+        Map<Long, Player> playersById = playerRepository.findAllById(uniqueIds).stream()
+            .collect(Collectors.toMap(Player::getId, Function.identity()));
+
+        List<Player> players = new ArrayList<>(playersById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            Player player = playersById.get(id);
+            if (player != null) {
+                players.add(player);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new PlayerLookupResult(players, missingIds);
     }
 
     /**
-     * Get a player by email.
+     * Get a player by email, ignoring case and surrounding spaces.
      * 
      * @param email The player email
      * @return Optional containing the player if found
@@ -123,7 +476,7 @@ public class PlayerService {
         if (email == null || email.trim().isEmpty()) {
             throw new IllegalArgumentException("Email cannot be null or empty");
         }
-        return playerRepository.findByEmail(email.trim().toLowerCase());
+        return playerRepository.findByEmail(email);
     }
 
     /**
@@ -145,13 +498,19 @@ public class PlayerService {
         validatePlayerForUpdate(updatedPlayer, existingPlayer);
 
         // Check email uniqueness (excluding current player)
-        if (!existingPlayer.getEmail().equals(updatedPlayer.getEmail()) && 
-            playerRepository.existsByEmail(updatedPlayer.getEmail())) {
+        String emailKey = Player.normalizeEmail(updatedPlayer.getEmail());
+        if (!emailKey.equals(Player.normalizeEmail(existingPlayer.getEmail())) &&
+            emailGuard.exists(emailKey, playerRepository::existsByEmail)) {
             throw new IllegalArgumentException("Player with email " + updatedPlayer.getEmail() + " already exists");
         }
 
         // Check jersey number uniqueness within team (excluding current player)
-        if (updatedPlayer.getTeamName() != null && updatedPlayer.getJerseyNumber() != null) {
+        if (updatedPlayer.getTeamName() != null && updatedPlayer.getJerseyNumber() != null && teamJerseyIndex.isReady()) {
+            if (!updatedPlayer.getTeamName().equals(existingPlayer.getTeamName()) ||
+                !updatedPlayer.getJerseyNumber().equals(existingPlayer.getJerseyNumber())) {
+                reserveJerseyNumber(existingPlayer, updatedPlayer.getTeamName(), updatedPlayer.getJerseyNumber());
+            }
+        } else if (updatedPlayer.getTeamName() != null && updatedPlayer.getJerseyNumber() != null) {
             boolean jerseyExists = playerRepository.existsByJerseyNumberAndTeamName(
                 updatedPlayer.getJerseyNumber(), updatedPlayer.getTeamName());
             if (jerseyExists && (!existingPlayer.getTeamName().equals(updatedPlayer.getTeamName()) || 
@@ -161,6 +520,8 @@ public class PlayerService {
             }
         }
 
+        PlayerSnapshot before = PlayerSnapshot.of(existingPlayer);
+
         // Update fields
         existingPlayer.setFirstName(updatedPlayer.getFirstName());
         existingPlayer.setLastName(updatedPlayer.getLastName());
@@ -173,7 +534,86 @@ public class PlayerService {
         existingPlayer.setActive(updatedPlayer.getActive());
         existingPlayer.setUpdatedAt(LocalDateTime.now());
 
-        return playerRepository.save(existingPlayer);
+        return saveAndPublish(before, existingPlayer);
+    }
+
+    /**
+     * Partially update a player with JSON Merge Patch semantics (RFC 7396).
+     * Only the fields present in the patch are considered: an empty value clears
+     * the field, an absent field is left unchanged (see {@link PlayerPatch}).
+     * Validation and uniqueness checks only run for the fields whose value
+     * actually changes, and the resulting UPDATE statement only contains those columns.
+     * 
+     * If the patch contains a version, it must match the current version of
+     * the player, otherwise the update is rejected as a concurrent modification.
+     * 
+     * @param id The player ID
+     * @param patch The merge patch
+     * @return The updated player
+     * @throws IllegalArgumentException if player not found or patch is invalid
+     * @throws OptimisticLockingFailureException if the version does not match
+     */
+    public Player patchPlayer(Long id, PlayerPatch patch) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("Player ID must be positive");
+        }
+        if (patch == null) {
+            throw new IllegalArgumentException("Patch cannot be null");
+        }
+
+        Player existingPlayer = playerRepository.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Player not found with ID: " + id));
+
+        if (patch.getVersion() != null && !patch.getVersion().equals(existingPlayer.getVersion())) {
+            throw new OptimisticLockingFailureException("Player with ID " + id +
+                " was modified concurrently (expected version " + patch.getVersion() +
+                ", current version " + existingPlayer.getVersion() + ")");
+        }
+
+        // Keep only the fields whose value changes, and validate them
+        List<Runnable> changes = new ArrayList<>();
+        stageChange(changes, patch.getFirstName(), existingPlayer.getFirstName(),
+            PlayerService::validateFirstName, existingPlayer::setFirstName);
+        stageChange(changes, patch.getLastName(), existingPlayer.getLastName(),
+            PlayerService::validateLastName, existingPlayer::setLastName);
+        stageChange(changes, patch.getEmail(), existingPlayer.getEmail(),
+            PlayerService::validateEmail, existingPlayer::setEmail);
+        stageChange(changes, patch.getAge(), existingPlayer.getAge(),
+            PlayerService::validateAge, existingPlayer::setAge);
+        stageChange(changes, patch.getPosition(), existingPlayer.getPosition(),
+            PlayerService::validatePosition, existingPlayer::setPosition);
+        boolean teamChanges = stageChange(changes, patch.getTeamName(), existingPlayer.getTeamName(),
+            teamName -> { }, existingPlayer::setTeamName);
+        boolean jerseyChanges = stageChange(changes, patch.getJerseyNumber(), existingPlayer.getJerseyNumber(),
+            PlayerService::validateJerseyNumber, existingPlayer::setJerseyNumber);
+        stageChange(changes, patch.getSalary(), existingPlayer.getSalary(),
+            PlayerService::validateSalary, existingPlayer::setSalary);
+        stageChange(changes, patch.getActive(), existingPlayer.getActive(),
+            PlayerService::validateActive, existingPlayer::setActive);
+        if (changes.isEmpty()) {
+            return existingPlayer;
+        }
+
+        // Re-check uniqueness only for the keys that change
+        String email = patchedValue(patch.getEmail(), existingPlayer.getEmail());
+        String emailKey = Player.normalizeEmail(email);
+        if (!Objects.equals(emailKey, Player.normalizeEmail(existingPlayer.getEmail())) &&
+            emailGuard.exists(emailKey, playerRepository::existsByEmail)) {
+            throw new IllegalArgumentException("Player with email " + email + " already exists");
+        }
+        if (teamChanges || jerseyChanges) {
+            String teamName = patchedValue(patch.getTeamName(), existingPlayer.getTeamName());
+            Integer jerseyNumber = patchedValue(patch.getJerseyNumber(), existingPlayer.getJerseyNumber());
+            if (teamName != null && jerseyNumber != null) {
+                reserveJerseyNumber(existingPlayer, teamName, jerseyNumber);
+            }
+        }
+
+        PlayerSnapshot before = PlayerSnapshot.of(existingPlayer);
+        changes.forEach(Runnable::run);
+        existingPlayer.setUpdatedAt(LocalDateTime.now());
+
+        return saveAndPublish(before, existingPlayer);
     }
 
     /**
@@ -187,49 +627,57 @@ public class PlayerService {
             throw new IllegalArgumentException("Player ID must be positive");
         }
 
-        if (!playerRepository.existsById(id)) {
-            throw new IllegalArgumentException("Player not found with ID: " + id);
-        }
+        Player existingPlayer = playerRepository.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Player not found with ID: " + id));
 
-        playerRepository.deleteById(id);
+        playerRepository.delete(existingPlayer);
+        eventPublisher.publishEvent(PlayerChangedEvent.deleted(PlayerSnapshot.of(existingPlayer)));
     }
 
     /**
      * Get players by team name.
+     * Results are cached until a player joins or leaves the team.
      * 
      * @param teamName The team name
      * @return List of players in the team
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Player> getPlayersByTeam(String teamName) {
         if (teamName == null || teamName.trim().isEmpty()) {
             throw new IllegalArgumentException("Team name cannot be null or empty");
         }
-        return playerRepository.findByTeamName(teamName.trim());
+        String team = teamName.trim();
+        return coalescedPlayers("players-by-team", team,
+            () -> cachedSearch(new PlayerSearchKey.Team(team), () -> playerRepository.findByTeamName(team)));
     }
 
     /**
      * Get players by position.
+     * Results are cached until a player takes or leaves the position.
      * 
      * @param position The position
      * @return List of players with the specified position
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Player> getPlayersByPosition(String position) {
         if (position == null || position.trim().isEmpty()) {
             throw new IllegalArgumentException("Position cannot be null or empty");
         }
-        return playerRepository.findByPosition(position.trim());
+        String trimmedPosition = position.trim();
+        return coalescedPlayers("players-by-position", trimmedPosition,
+            () -> cachedSearch(new PlayerSearchKey.Position(trimmedPosition),
+                () -> playerRepository.findByPosition(trimmedPosition)));
     }
 
     /**
      * Get players by age range.
+     * Results are cached until a player enters or leaves the range.
      * 
      * @param minAge Minimum age
      * @param maxAge Maximum age
      * @return List of players within the age range
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Player> getPlayersByAgeRange(Integer minAge, Integer maxAge) {
         if (minAge == null || maxAge == null) {
             throw new IllegalArgumentException("Age range bounds cannot be null");
@@ -240,7 +688,9 @@ public class PlayerService {
         if (minAge > maxAge) {
             throw new IllegalArgumentException("Minimum age cannot be greater than maximum age");
         }
-        return playerRepository.findByAgeBetween(minAge, maxAge);
+        return coalescedPlayers("players-by-age", List.of(minAge, maxAge),
+            () -> cachedSearch(new PlayerSearchKey.AgeRange(minAge, maxAge),
+                () -> playerRepository.findByAgeBetween(minAge, maxAge)));
     }
 
     /**
@@ -248,9 +698,9 @@ public class PlayerService {
      * 
      * @return List of active players
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Player> getActivePlayers() {
-        return playerRepository.findByActive(true);
+        return coalescedPlayers("players-by-active", true, () -> playerRepository.findByActive(true));
     }
 
     /**
@@ -258,9 +708,9 @@ public class PlayerService {
      * 
      * @return List of inactive players
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Player> getInactivePlayers() {
-        return playerRepository.findByActive(false);
+        return coalescedPlayers("players-by-active", false, () -> playerRepository.findByActive(false));
     }
 
     /**
@@ -273,10 +723,11 @@ public class PlayerService {
         Player player = getPlayerById(id)
             .orElseThrow(() -> new IllegalArgumentException("Player not found with ID: " + id));
 
+        PlayerSnapshot before = PlayerSnapshot.of(player);
         player.setActive(false);
         player.setUpdatedAt(LocalDateTime.now());
 
-        return playerRepository.save(player);
+        return saveAndPublish(before, player);
     }
 
     /**
@@ -289,10 +740,11 @@ public class PlayerService {
         Player player = getPlayerById(id)
             .orElseThrow(() -> new IllegalArgumentException("Player not found with ID: " + id));
 
+        PlayerSnapshot before = PlayerSnapshot.of(player);
         player.setActive(true);
         player.setUpdatedAt(LocalDateTime.now());
 
-        return playerRepository.save(player);
+        return saveAndPublish(before, player);
     }
 
     /**
@@ -301,12 +753,13 @@ public class PlayerService {
      * @param teamName The team name
      * @return Number of players in the team
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long countPlayersByTeam(String teamName) {
         if (teamName == null || teamName.trim().isEmpty()) {
             throw new IllegalArgumentException("Team name cannot be null or empty");
         }
-        return playerRepository.countByTeamName(teamName.trim());
+        String team = teamName.trim();
+        return requestCoalescer.execute("count-by-team", team, () -> playerRepository.countByTeamName(team));
     }
 
     /**
@@ -314,13 +767,15 @@ public class PlayerService {
      * 
      * @return Number of active players
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long countActivePlayers() {
-        return playerRepository.countByActive(true);
+        return requestCoalescer.execute("count-by-active", true, () -> playerRepository.countByActive(true));
     }
 
     /**
      * Find players by full name (first name + last name).
+     * The search is answered by the in-memory trigram index once it is loaded.
+     * Before that, it uses the SQL LIKE query on the stored full name.
      * 
      * @param fullName The full name to search for
      * @return List of players matching the full name
@@ -330,36 +785,269 @@ public class PlayerService {
         if (fullName == null || fullName.trim().isEmpty()) {
             throw new IllegalArgumentException("Full name cannot be null or empty");
         }
-        return playerRepository.findByFullNameContaining(fullName.trim());
+        if (!playerNameIndex.isReady()) {
+            return playerRepository.findByFullNameContaining(fullName.trim());
+        }
+        return playerRepository.findAllByIdInOrder(playerNameIndex.search(fullName.trim()));
+    }
+
+    /**
+     * Find players by name, tolerating misspellings.
+     * A player matches when its first name, last name or full name is within
+     * the given edit distance of the query; closest matches come first.
+     * With a distance of 0 this is the regular full-name search. While the
+     * fuzzy index is loading, the regular search is used instead.
+     * 
+     * @param fullName The (possibly misspelled) name to search for
+     * @param fuzzy Maximum edit distance (0 to {@value #MAX_FUZZY_DISTANCE})
+     * @return List of matching players, closest first
+     */
+    @Transactional(readOnly = true)
+    public List<Player> findPlayersByFullName(String fullName, int fuzzy) {
+        if (fuzzy < 0 || fuzzy > MAX_FUZZY_DISTANCE) {
+            throw new IllegalArgumentException("Fuzzy distance must be between 0 and " + MAX_FUZZY_DISTANCE);
+        }
+        if (fuzzy == 0 || !playerFuzzyNameIndex.isReady()) {
+            return findPlayersByFullName(fullName);
+        }
+        if (fullName == null || fullName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Full name cannot be null or empty");
+        }
+        return playerRepository.findAllByIdInOrder(playerFuzzyNameIndex.search(fullName, fuzzy));
+    }
+
+    /**
+     * Suggest first names, last names and team names starting with a prefix.
+     * Suggestions are served from memory only, never from the database (no
+     * transaction, no connection), and values used by active players are ranked first.
+     * 
+     * @param prefix The typed prefix
+     * @param limit Maximum number of suggestions (1 to {@value #MAX_SUGGESTIONS})
+     * @return Suggestions, best first
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PlayerSuggestion> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            throw new IllegalArgumentException("Prefix cannot be null or empty");
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return playerSuggestionIndex.suggest(prefix.trim(), limit);
+    }
+
+    /**
+     * List the jersey numbers still available in a team.
+     * Served from the in-memory jersey occupancy once it is loaded,
+     * and from the database before that.
+     * 
+     * @param teamName The team name
+     * @return Free jersey numbers in ascending order
+     */
+    @Transactional(readOnly = true)
+    public List<Integer> getFreeJerseyNumbers(String teamName) {
+        if (teamName == null || teamName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Team name cannot be null or empty");
+        }
+        if (teamJerseyIndex.isReady()) {
+            return teamJerseyIndex.freeNumbers(teamName);
+        }
+        Set<Integer> taken = new HashSet<>();
+        for (Object[] row : playerRepository.findJerseyNumbersByTeamNames(List.of(teamName))) {
+            taken.add((Integer) row[1]);
+        }
+        List<Integer> free = new ArrayList<>();
+        for (int number = TeamJerseyIndex.MIN_JERSEY_NUMBER; number <= TeamJerseyIndex.MAX_JERSEY_NUMBER; number++) {
+            if (!taken.contains(number)) {
+                free.add(number);
+            }
+        }
+        return free;
     }
 
     /**
      * Get players with salary above a certain amount.
+     * Results are cached until a salary above the threshold changes.
      * 
      * @param minSalary The minimum salary threshold
      * @return List of players with salary above the threshold
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Player> getPlayersWithSalaryAbove(Double minSalary) {
         if (minSalary == null || minSalary < 0) {
             throw new IllegalArgumentException("Minimum salary must be non-negative");
         }
-        return playerRepository.findPlayersWithSalaryAbove(minSalary);
+        return coalescedPlayers("players-by-salary", minSalary,
+            () -> cachedSearch(new PlayerSearchKey.SalaryAbove(minSalary),
+                () -> playerRepository.findPlayersWithSalaryAbove(minSalary)));
     }
 
     /**
      * Calculate average age of players in a team.
+     * Read from the materialized team statistics, without loading the players.
      * 
      * @param teamName The team name
      * @return Average age of players in the team
      */
     @Transactional(readOnly = true)
     public Double calculateAverageAgeByTeam(String teamName) {
-        List<Player> players = getPlayersByTeam(teamName);
-        if (players.isEmpty()) {
-            return 0.0;
+        if (teamName == null || teamName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Team name cannot be null or empty");
+        }
+        return teamStatsRepository.findById(teamName.trim())
+            .map(TeamStats::getAverageAge)
+            .orElse(0.0);
+    }
+
+    /**
+     * Get the materialized statistics of every team.
+     * 
+     * @return Statistics of every team having players, ordered by team name
+     */
+    @Transactional(readOnly = true)
+    public List<TeamStats> getTeamStatistics() {
+        return teamStatsRepository.findAll(Sort.by("teamName"));
+    }
+
+    /**
+     * Save a player and publish the corresponding {@link PlayerChangedEvent}.
+     * The write is flushed right away, so that an email or jersey number taken
+     * by a concurrent write is reported like the other validation errors
+     * instead of failing the commit.
+     * 
+     * @param before State of the player before the change, or null on creation
+     * @param player The player to save
+     * @return The saved player
+     * @throws IllegalArgumentException if the email or jersey number is taken
+     */
+    private Player saveAndPublish(PlayerSnapshot before, Player player) {
+        Player saved;
+        try {
+            saved = playerRepository.saveAndFlush(player);
+        } catch (DataIntegrityViolationException e) {
+            throw uniquenessViolation(player, e);
+        }
+        eventPublisher.publishEvent(new PlayerChangedEvent(before, PlayerSnapshot.of(saved)));
+        return saved;
+    }
+
+    /**
+     * Run a player read through the request coalescer. Callers waiting for the
+     * read in flight get the IDs it found and load the players in their own
+     * persistence context (from the second-level cache).
+     * 
+     * @param operation Name of the read operation
+     * @param arguments Arguments of the read
+     * @param read The read
+     * @return Players found, in result order
+     */
+    private List<Player> coalescedPlayers(String operation, Object arguments, Supplier<List<Player>> read) {
+        return requestCoalescer.execute(operation, arguments, read,
+            players -> players.stream().map(Player::getId).toList(), playerRepository::findAllByIdInOrder);
+    }
+
+    /**
+     * Run a search through the search cache.
+     * On a hit, the cached IDs are loaded (from the second-level cache, without SQL
+     * for the players it holds); on a miss, the
+     * query runs and the IDs it returned are cached. Searches running inside a
+     * read-write transaction bypass the cache, as they may see uncommitted changes.
+     * 
+     * @param key The search
+     * @param query The query executing the search
+     * @return Players found, in result order
+     */
+    private List<Player> cachedSearch(PlayerSearchKey key, Supplier<List<Player>> query) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return query.get();
+        }
+        Optional<List<Long>> ids = playerSearchCache.get(key);
+        if (ids.isPresent()) {
+            return playerRepository.findAllByIdInOrder(ids.get());
+        }
+        long stamp = playerSearchCache.stamp(key);
+        List<Player> players = query.get();
+        playerSearchCache.put(key, players.stream().map(Player::getId).toList(), stamp);
+        return players;
+    }
+
+    /**
+     * Translate the violation of a player unique constraint into the validation
+     * error reported for it.
+     *
+     * @param player The player being written
+     * @param e The violation
+     * @return The validation error
+     * @throws DataIntegrityViolationException if the violation is not a player uniqueness rule
+     */
+    private static IllegalArgumentException uniquenessViolation(Player player, DataIntegrityViolationException e) {
+        String constraint = ConstraintViolations.violatedConstraint(e);
+        if (constraint.contains(Player.EMAIL_CONSTRAINT)) {
+            return new IllegalArgumentException("Player with email " + player.getEmail() + " already exists");
+        }
+        if (constraint.contains(Player.TEAM_JERSEY_CONSTRAINT)) {
+            return new IllegalArgumentException("Jersey number " + player.getJerseyNumber() +
+                " is already taken in team " + player.getTeamName());
+        }
+        throw e;
+    }
+
+    /**
+     * Reserve a jersey number in a team for a player, or fail if it is already taken.
+     *
+     * @throws IllegalArgumentException if the number is taken
+     */
+    private void reserveJerseyNumber(Player player, String teamName, Integer jerseyNumber) {
+        if (!tryReserveJerseyNumber(player, teamName, jerseyNumber)) {
+            throw new IllegalArgumentException("Jersey number " + jerseyNumber +
+                " is already taken in team " + teamName);
         }
-        return players.stream().mapToInt(Player::getAge).average().orElse(0.0);
+    }
+
+    /**
+     * Reserve a jersey number in a team for a player until the current transaction
+     * completes. On commit, the number is recorded as the player's before the
+     * reservation is released, in the same callback; on rollback it is only released.
+     * Before the jersey index is loaded, this falls back to a database check.
+     *
+     * @param player The player who will wear the number (its ID is read on commit)
+     * @return true if the number was free and is now reserved, false if it is taken
+     */
+    private boolean tryReserveJerseyNumber(Player player, String teamName, Integer jerseyNumber) {
+        if (!teamJerseyIndex.isReady()) {
+            return !playerRepository.existsByJerseyNumberAndTeamName(jerseyNumber, teamName);
+        }
+        if (!teamJerseyIndex.tryReserve(teamName, jerseyNumber,
+                () -> playerRepository.existsByJerseyNumberAndTeamName(jerseyNumber, teamName))) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    teamJerseyIndex.confirm(player.getId(), teamName, jerseyNumber);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        teamJerseyIndex.release(teamName, jerseyNumber);
+                    }
+                }
+            });
+        } else {
+            teamJerseyIndex.release(teamName, jerseyNumber);
+        }
+        return true;
+    }
+
+    private static boolean hasJersey(Player player) {
+        return player.getTeamName() != null && player.getJerseyNumber() != null;
+    }
+
+    private static String jerseyKey(String teamName, Integer jerseyNumber) {
+        return teamName + "#" + jerseyNumber;
     }
 
     /**
@@ -396,26 +1084,100 @@ public class PlayerService {
      * @throws IllegalArgumentException if validation fails
      */
     private void validateCommonPlayerData(Player player) {
-        if (player.getFirstName() == null || player.getFirstName().trim().isEmpty()) {
+        validateFirstName(player.getFirstName());
+        validateLastName(player.getLastName());
+        validateEmail(player.getEmail());
+        validateAge(player.getAge());
+        validatePosition(player.getPosition());
+        validateSalary(player.getSalary());
+        validateJerseyNumber(player.getJerseyNumber());
+    }
+
+    private static void validateFirstName(String firstName) {
+        if (isBlank(firstName)) {
             throw new IllegalArgumentException("First name is required");
         }
-        if (player.getLastName() == null || player.getLastName().trim().isEmpty()) {
+    }
+
+    private static void validateLastName(String lastName) {
+        if (isBlank(lastName)) {
             throw new IllegalArgumentException("Last name is required");
         }
-        if (player.getEmail() == null || player.getEmail().trim().isEmpty()) {
+    }
+
+    private static void validateEmail(String email) {
+        if (isBlank(email)) {
             throw new IllegalArgumentException("Email is required");
         }
-        if (player.getAge() == null || player.getAge() < 0 || player.getAge() > 150) {
+    }
+
+    private static void validateAge(Integer age) {
+        if (age == null || age < 0 || age > 150) {
             throw new IllegalArgumentException("Age must be between 0 and 150");
         }
-        if (player.getPosition() == null || player.getPosition().trim().isEmpty()) {
+    }
+
+    private static void validatePosition(String position) {
+        if (isBlank(position)) {
             throw new IllegalArgumentException("Position is required");
         }
-        if (player.getSalary() != null && player.getSalary() < 0) {
+    }
+
+    private static void validateSalary(Double salary) {
+        if (salary != null && salary < 0) {
             throw new IllegalArgumentException("Salary cannot be negative");
         }
-        if (player.getJerseyNumber() != null && (player.getJerseyNumber() < 1 || player.getJerseyNumber() > 99)) {
+    }
+
+    private static void validateJerseyNumber(Integer jerseyNumber) {
+        if (jerseyNumber != null && (jerseyNumber < 1 || jerseyNumber > 99)) {
             throw new IllegalArgumentException("Jersey number must be between 1 and 99");
         }
     }
+
+    /**
+     * Only checked on partial updates: a full update or a creation without
+     * active status is given the default.
+     */
+    private static void validateActive(Boolean active) {
+        if (active == null) {
+            throw new IllegalArgumentException("Active status is required");
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    /**
+     * Stage the change of a field by a merge patch, if the patch sets it to a
+     * different value, after validating the new value.
+     * 
+     * @param changes The staged changes
+     * @param patchValue The value in the patch (null if absent, empty to clear it)
+     * @param current The current value
+     * @param validator Validates the new value, throwing IllegalArgumentException if invalid
+     * @param setter Applies the new value
+     * @return true if the change was staged
+     */
+    private static <T> boolean stageChange(List<Runnable> changes, Optional<T> patchValue, T current,
+                                           Consumer<T> validator, Consumer<T> setter) {
+        if (patchValue == null) {
+            return false;
+        }
+        T value = patchValue.orElse(null);
+        if (Objects.equals(value, current)) {
+            return false;
+        }
+        validator.accept(value);
+        changes.add(() -> setter.accept(value));
+        return true;
+    }
+
+    /**
+     * Value of a field after a merge patch.
+     */
+    private static <T> T patchedValue(Optional<T> patchValue, T current) {
+        return patchValue != null ? patchValue.orElse(null) : current;
+    }
 }
@@ -0,0 +1,23 @@
+package com.ynov.testing.service;
+
+import com.ynov.testing.model.Player;
+
+import java.util.List;
+
+/**
+ * PlayerSlice Record
+ *
+ * One slice of players returned by cursor pagination.
+ * Unlike a {@link org.springframework.data.domain.Page}, a slice carries no
+ * total count: it only knows whether more players follow and how to fetch them.
+ *
+ * @param content Players of this slice
+ * @param size Requested slice size
+ * @param hasNext Whether more players follow this slice
+ * @param nextCursor Opaque token to fetch the next slice, or null if none
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record PlayerSlice(List<Player> content, int size, boolean hasNext, String nextCursor) {
+}
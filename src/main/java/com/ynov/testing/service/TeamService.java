@@ -2,6 +2,8 @@ package com.ynov.testing.service;
 
 import com.ynov.testing.model.Team;
 import com.ynov.testing.repository.TeamRepository;
+import com.ynov.testing.uniqueness.UniquenessGuards;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.util.List;
@@ -13,15 +15,21 @@ import java.util.Optional;
  * This service provides CRUD operations for League of Legends teams
  * and includes business logic for team management.
  *
+ * Every public method is timed (app.service metric, tagged with the method).
+ *
  * @author Testing Methodology Course
  * @version 1.0.0
  */
 @Service
+@Timed(value = "app.service", histogram = true)
 public class TeamService {
 
     @Autowired
     private TeamRepository teamRepository;
 
+    @Autowired
+    private UniquenessGuards uniquenessGuards;
+
     /**
      * Retrieve all teams from the database
      *
@@ -56,11 +64,13 @@ public class TeamService {
         validateTeam(team);
 
         // Check if team name already exists
-        if (teamRepository.existsByName(team.getName())) {
+        if (uniquenessGuards.teamNames().exists(team.getName(), teamRepository::existsByName)) {
             throw new IllegalArgumentException("Team name already exists: " + team.getName());
         }
 
-        return teamRepository.save(team);
+        Team savedTeam = teamRepository.save(team);
+        uniquenessGuards.teamNames().register(team.getName());
+        return savedTeam;
     }
 
     /**
@@ -90,7 +100,9 @@ public class TeamService {
         existingTeam.setName(teamData.getName());
         existingTeam.setRegion(teamData.getRegion());
         existingTeam.setFoundedDate(teamData.getFoundedDate());
-        return teamRepository.save(existingTeam);
+        Team savedTeam = teamRepository.save(existingTeam);
+        uniquenessGuards.teamNames().register(existingTeam.getName());
+        return savedTeam;
     }
 
 
@@ -0,0 +1,159 @@
+package com.ynov.testing.service;
+
+import com.ynov.testing.model.PlayerSnapshot;
+import com.ynov.testing.repository.TeamStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * TeamStatsMaintainer Class
+ *
+ * Keeps the team_stats table in sync with the players table.
+ * - Each {@link PlayerChangedEvent} is turned into per-team deltas: the state
+ *   before the change is subtracted and the state after is added.
+ * - Deltas are summed per team for the whole transaction. They are written
+ *   just before commit, with one MERGE per team (which also creates the row of
+ *   a new team), in the same transaction as the player writes, so a rollback
+ *   undoes both.
+ * - At startup the statistics are recomputed from the players table, which
+ *   also repairs changes made outside the services. This happens once all
+ *   singletons are created, before the web server starts: deleting and
+ *   recomputing the rows while players are being written would lose the
+ *   deltas of the writes committed in between.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class TeamStatsMaintainer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(TeamStatsMaintainer.class);
+
+    private final TeamStatsRepository teamStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public TeamStatsMaintainer(TeamStatsRepository teamStatsRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.teamStatsRepository = teamStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Recompute all team statistics at startup, before requests are accepted.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Recompute all team statistics from the players table, in one transaction.
+     * Must not run while players are being written.
+     */
+    public void rebuild() {
+        Integer teams = transactionTemplate.execute(status -> {
+            teamStatsRepository.deleteAllInBatch();
+            return teamStatsRepository.insertFromPlayers();
+        });
+        log.info("Recomputed statistics of {} teams", teams);
+    }
+
+    /**
+     * Record the team deltas of a player change in the current transaction.
+     *
+     * @param event The player change
+     */
+    @EventListener
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        Map<String, TeamDelta> deltas = new LinkedHashMap<>();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            deltas = pendingDeltas();
+        }
+        subtract(deltas, event.before());
+        add(deltas, event.after());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(deltas);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, TeamDelta> pendingDeltas() {
+        Map<String, TeamDelta> deltas = (Map<String, TeamDelta>) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            Map<String, TeamDelta> created = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    apply(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TeamStatsMaintainer.this);
+                }
+            });
+            deltas = created;
+        }
+        return deltas;
+    }
+
+    private void apply(Map<String, TeamDelta> deltas) {
+        deltas.forEach((teamName, delta) -> {
+            if (delta.isEmpty()) {
+                return;
+            }
+            teamStatsRepository.mergeDelta(teamName, delta.count, delta.ageSum, delta.salarySum, delta.activeCount);
+            if (delta.count < 0) {
+                teamStatsRepository.deleteIfEmpty(teamName);
+            }
+        });
+        deltas.clear();
+    }
+
+    private static void add(Map<String, TeamDelta> deltas, PlayerSnapshot player) {
+        if (player != null && player.teamName() != null) {
+            deltas.computeIfAbsent(player.teamName(), team -> new TeamDelta()).add(player, 1);
+        }
+    }
+
+    private static void subtract(Map<String, TeamDelta> deltas, PlayerSnapshot player) {
+        if (player != null && player.teamName() != null) {
+            deltas.computeIfAbsent(player.teamName(), team -> new TeamDelta()).add(player, -1);
+        }
+    }
+
+    /**
+     * Pending changes to the statistics of one team.
+     */
+    private static final class TeamDelta {
+
+        private long count;
+        private long ageSum;
+        private double salarySum;
+        private long activeCount;
+
+        private void add(PlayerSnapshot player, int sign) {
+            count += sign;
+            ageSum += (long) sign * (player.age() != null ? player.age() : 0);
+            salarySum += sign * (player.salary() != null ? player.salary() : 0.0);
+            activeCount += Boolean.TRUE.equals(player.active()) ? sign : 0;
+        }
+
+        private boolean isEmpty() {
+            return count == 0 && ageSum == 0 && salarySum == 0.0 && activeCount == 0;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ynov.testing.sql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * SampledSqlLog Class
+ *
+ * Full SQL logging (statement, parameters, rows and time) for a sample of the
+ * HTTP requests, instead of logging every statement of every request. The
+ * {@link SqlTrackingFilter} turns it on for a fraction
+ * ({@code app.sql-log.sample-rate}) of the requests; statements are then logged
+ * by the {@link SlowQueryDataSource} under this class's logger.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public final class SampledSqlLog {
+
+    private static final Logger log = LoggerFactory.getLogger(SampledSqlLog.class);
+
+    private static final ThreadLocal<String> REQUEST = new ThreadLocal<>();
+
+    private SampledSqlLog() {
+    }
+
+    /**
+     * Log every statement of the current thread until {@link #end()}.
+     *
+     * @param request Description of the sampled request, prefixed to each line
+     */
+    static void begin(String request) {
+        REQUEST.set(request);
+    }
+
+    static void end() {
+        REQUEST.remove();
+    }
+
+    static boolean isActive() {
+        return REQUEST.get() != null;
+    }
+
+    static void log(String sql, List<String> parameters, long rows, long nanos) {
+        String request = REQUEST.get();
+        if (request != null) {
+            log.info("[{}] {} ms, {} rows: {} {}", request, nanos / 1_000_000.0, rows, sql,
+                parameters != null ? parameters : "");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ynov.testing.sql;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * SlowQuery Record
+ *
+ * One statement that ran longer than the slow-query threshold.
+ *
+ * @param executedAt When the statement started
+ * @param durationMillis Execution time, plus the time spent reading its result set
+ * @param fetchMillis Part of the duration spent reading the result set
+ * @param sql The SQL, as sent to the driver
+ * @param parameters The bound parameters, in order (null if none were bound),
+ *                   masked as "?" unless {@code app.slow-query.show-parameters=true}
+ * @param rows Rows read from the result set, or rows updated
+ * @param plan Execution plan captured right after ({@code EXPLAIN ANALYZE} for
+ *             queries, {@code EXPLAIN} for updates), or null if not captured
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record SlowQuery(Instant executedAt,
+                        double durationMillis,
+                        double fetchMillis,
+                        String sql,
+                        List<String> parameters,
+                        long rows,
+                        String plan) {
+}
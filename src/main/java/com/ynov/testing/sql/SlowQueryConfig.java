@@ -0,0 +1,44 @@
+package com.ynov.testing.sql;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * SlowQueryConfig Class
+ *
+ * Wraps the application data source in a {@link SlowQueryDataSource}, so that
+ * every statement (Hibernate, Spring Data, JdbcTemplate) is timed at the JDBC
+ * level. Disabled with {@code app.slow-query.enabled=false}.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    /**
+     * Wrap every data source bean once it is initialized.
+     * Static, as post-processors are created before the other beans.
+     *
+     * @param recorder The slow-query recorder, resolved on first statement
+     * @return The post-processor
+     */
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SlowQueryDataSource)) {
+                    return new SlowQueryDataSource(dataSource, recorder::getObject);
+                }
+                return bean;
+            }
+        };
+    }
+}
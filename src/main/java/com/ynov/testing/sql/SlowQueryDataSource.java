@@ -0,0 +1,242 @@
+package com.ynov.testing.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * SlowQueryDataSource Class
+ *
+ * Data source wrapper timing every statement run through its connections, and
+ * reporting each completed statement to the {@link SlowQueryRecorder} with its
+ * SQL, bound parameters and row count:
+ * - queries complete when their result set (or statement) is closed. Their time
+ *   is the execution plus the time spent in {@code ResultSet.next()}, measured
+ *   separately: the time the application spends between two rows (a streamed
+ *   read processing each row) is not counted;
+ * - updates and batches complete when they return.
+ *
+ * Pool-specific features remain reachable through {@link #unwrap(Class)}.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+        "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final Supplier<SlowQueryRecorder> recorderSupplier;
+    private volatile SlowQueryRecorder recorder;
+
+    /**
+     * @param target The data source to wrap
+     * @param recorder Supplies the recorder, resolved on first use
+     */
+    public SlowQueryDataSource(DataSource target, Supplier<SlowQueryRecorder> recorder) {
+        super(target);
+        this.recorderSupplier = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (result instanceof Statement statement) {
+                    String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                    return new StatementHandler(statement, sql).proxy();
+                }
+                return result;
+            });
+    }
+
+    private void completed(String sql, Object[] parameters, long rows, long executeNanos, long fetchNanos) {
+        if (sql == null) {
+            return;
+        }
+        SlowQueryRecorder current = recorder;
+        if (current == null) {
+            current = recorderSupplier.get();
+            recorder = current;
+        }
+        current.completed(getTargetDataSource(), sql, parameters, rows, executeNanos, fetchNanos);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Captures the parameters of a statement and times its executions.
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private Object[] parameters;
+        private int parameterCount;
+        private Execution pending;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        private Statement proxy() {
+            Class<?> type = target instanceof CallableStatement ? CallableStatement.class
+                : target instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+            return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (preparedSql != null && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer index) {
+                bind(index, "setNull".equals(name) ? null : args[1]);
+            } else if ("clearParameters".equals(name)) {
+                parameters = null;
+                parameterCount = 0;
+            } else if ("close".equals(name)) {
+                finishPending();
+            }
+            if (!EXECUTE_METHODS.contains(name)) {
+                return SlowQueryDataSource.invoke(target, method, args);
+            }
+
+            finishPending();
+            String sql = preparedSql != null ? preparedSql : args != null && args.length > 0 ? (String) args[0] : null;
+            Object[] bound = parameters != null ? Arrays.copyOf(parameters, parameterCount) : null;
+            long start = System.nanoTime();
+            Object result = SlowQueryDataSource.invoke(target, method, args);
+            long executeNanos = System.nanoTime() - start;
+            if (result instanceof ResultSet resultSet) {
+                pending = new Execution(sql, bound, executeNanos);
+                return new ResultSetHandler(resultSet, pending).proxy();
+            }
+            completed(sql, bound, rows(result), executeNanos, 0);
+            return result;
+        }
+
+        private void bind(int index, Object value) {
+            if (parameters == null) {
+                parameters = new Object[Math.max(index, 8)];
+            } else if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+
+        private void finishPending() {
+            if (pending != null) {
+                pending.finish();
+                pending = null;
+            }
+        }
+
+        private static long rows(Object result) {
+            if (result instanceof Number count) {
+                return count.longValue();
+            }
+            if (result instanceof int[] counts) {
+                return Arrays.stream(counts).filter(count -> count > 0).asLongStream().sum();
+            }
+            if (result instanceof long[] counts) {
+                return Arrays.stream(counts).filter(count -> count > 0).sum();
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A query whose result set is being read.
+     */
+    private final class Execution {
+
+        private final String sql;
+        private final Object[] parameters;
+        private final long executeNanos;
+        private long fetchNanos;
+        private long rows;
+        private boolean finished;
+
+        private Execution(String sql, Object[] parameters, long executeNanos) {
+            this.sql = sql;
+            this.parameters = parameters;
+            this.executeNanos = executeNanos;
+        }
+
+        private void finish() {
+            if (!finished) {
+                finished = true;
+                completed(sql, parameters, rows, executeNanos, fetchNanos);
+            }
+        }
+    }
+
+    /**
+     * Counts the rows read from a result set and the time spent reading them,
+     * and completes its query on close.
+     */
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final Execution execution;
+
+        private ResultSetHandler(ResultSet target, Execution execution) {
+            this.target = target;
+            this.execution = execution;
+        }
+
+        private ResultSet proxy() {
+            return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {ResultSet.class},
+                this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("next".equals(method.getName())) {
+                long start = System.nanoTime();
+                Object result = SlowQueryDataSource.invoke(target, method, args);
+                execution.fetchNanos += System.nanoTime() - start;
+                if (Boolean.TRUE.equals(result)) {
+                    execution.rows++;
+                }
+                return result;
+            }
+            Object result = SlowQueryDataSource.invoke(target, method, args);
+            if ("close".equals(method.getName())) {
+                execution.finish();
+            }
+            return result;
+        }
+    }
+}
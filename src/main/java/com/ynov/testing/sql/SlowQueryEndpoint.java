@@ -0,0 +1,51 @@
+package com.ynov.testing.sql;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * SlowQueryEndpoint Class
+ *
+ * Actuator endpoint exposing the slow-query log: the last statements that ran
+ * longer than the threshold, with their parameters (masked by default), row
+ * count and plan. Like the other actuator endpoints, it is only reachable over
+ * HTTP once listed in {@code management.endpoints.web.exposure.include}, which
+ * only the dev profile does.
+ *
+ * Operations:
+ * - GET /actuator/slowqueries - Settings, counter and captured slow statements
+ * - DELETE /actuator/slowqueries - Empty the log
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryRecorder slowQueryRecorder;
+
+    @Autowired
+    public SlowQueryEndpoint(SlowQueryRecorder slowQueryRecorder) {
+        this.slowQueryRecorder = slowQueryRecorder;
+    }
+
+    /**
+     * @return The settings, counter and captured slow statements, newest first
+     */
+    @ReadOperation
+    public SlowQueryReport slowQueries() {
+        return slowQueryRecorder.report();
+    }
+
+    /**
+     * Empty the slow-query log.
+     */
+    @DeleteOperation
+    public void clear() {
+        slowQueryRecorder.clear();
+    }
+}
@@ -0,0 +1,231 @@
+package com.ynov.testing.sql;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SlowQueryRecorder Class
+ *
+ * Keeps the statements that ran for at least {@code app.slow-query.threshold}, as
+ * reported by the {@link SlowQueryDataSource}, in a ring buffer of the last
+ * {@code app.slow-query.capacity} captures (served by the {@link SlowQueryEndpoint}):
+ * - the time of a query is its execution plus the time spent fetching its rows
+ *   (see {@link SlowQueryDataSource}), both reported;
+ * - the bound parameters may hold personal data: their values are masked
+ *   unless {@code app.slow-query.show-parameters=true};
+ * - only a fraction ({@code app.slow-query.sample-rate}) of the slow statements is
+ *   captured;
+ * - with {@code app.slow-query.explain=true} (off by default), the plan is captured
+ *   on a background thread, on a separate connection, with {@code EXPLAIN ANALYZE}
+ *   for queries (which runs the query again, full scans included) and a plain
+ *   {@code EXPLAIN} for updates. At most one plan is captured per
+ *   {@code app.slow-query.explain-interval}, and captures are dropped while
+ *   {@value #PENDING_CAPTURES} are already waiting.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class SlowQueryRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryRecorder.class);
+
+    private static final int PENDING_CAPTURES = 100;
+    private static final int PARAMETER_MAX_LENGTH = 200;
+    private static final String MASKED_PARAMETER = "?";
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final boolean explain;
+    private final boolean showParameters;
+    private final long explainIntervalNanos;
+    private final AtomicLong nextExplain = new AtomicLong(System.nanoTime());
+    private final AtomicReferenceArray<SlowQuery> buffer;
+    private final AtomicLong captured = new AtomicLong();
+    private final LongAdder slowStatements = new LongAdder();
+    private final ThreadPoolExecutor captureExecutor;
+
+    @Autowired
+    public SlowQueryRecorder(@Value("${app.slow-query.threshold:100ms}") Duration threshold,
+                             @Value("${app.slow-query.sample-rate:1.0}") double sampleRate,
+                             @Value("${app.slow-query.capacity:100}") int capacity,
+                             @Value("${app.slow-query.explain:false}") boolean explain,
+                             @Value("${app.slow-query.explain-interval:10s}") Duration explainInterval,
+                             @Value("${app.slow-query.show-parameters:false}") boolean showParameters) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Slow query capacity must be at least 1");
+        }
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.explain = explain;
+        this.explainIntervalNanos = explainInterval.toNanos();
+        this.showParameters = showParameters;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.captureExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(PENDING_CAPTURES), runnable -> {
+                Thread thread = new Thread(runnable, "slow-query-capture");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        captureExecutor.shutdownNow();
+    }
+
+    /**
+     * Report a completed statement.
+     *
+     * @param target Data source to capture the plan from, not tracked itself
+     * @param sql The SQL
+     * @param parameters The bound parameters, or null
+     * @param rows Rows read or updated
+     * @param executeNanos Execution time
+     * @param fetchNanos Time spent fetching the rows of a query
+     */
+    void completed(DataSource target, String sql, Object[] parameters, long rows, long executeNanos,
+                   long fetchNanos) {
+        long nanos = executeNanos + fetchNanos;
+        boolean slow = nanos >= thresholdNanos;
+        if (!slow && !SampledSqlLog.isActive()) {
+            return;
+        }
+        List<String> rendered = render(parameters);
+        SampledSqlLog.log(sql, rendered, rows, nanos);
+        if (!slow) {
+            return;
+        }
+        slowStatements.increment();
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        Instant executedAt = Instant.now().minusNanos(nanos);
+        double durationMillis = nanos / 1_000_000.0;
+        double fetchMillis = fetchNanos / 1_000_000.0;
+        List<String> shown = showParameters || rendered == null
+            ? rendered
+            : rendered.stream().map(value -> MASKED_PARAMETER).toList();
+        if (!explain || !reserveExplain()) {
+            add(new SlowQuery(executedAt, durationMillis, fetchMillis, sql, shown, rows, null));
+            return;
+        }
+        Object[] values = parameters != null ? parameters.clone() : null;
+        captureExecutor.execute(() -> add(new SlowQuery(executedAt, durationMillis, fetchMillis, sql, shown,
+            rows, plan(target, sql, values))));
+    }
+
+    /**
+     * @return The settings, counters and captured statements, newest first
+     */
+    public SlowQueryReport report() {
+        long end = captured.get();
+        int capacity = buffer.length();
+        List<SlowQuery> queries = new ArrayList<>();
+        for (long index = end - 1; index >= Math.max(0, end - capacity); index--) {
+            SlowQuery query = buffer.get((int) (index % capacity));
+            if (query != null) {
+                queries.add(query);
+            }
+        }
+        return new SlowQueryReport(thresholdNanos / 1_000_000.0, sampleRate, slowStatements.sum(), queries);
+    }
+
+    /**
+     * Empty the buffer and reset the counter.
+     */
+    public void clear() {
+        for (int i = 0; i < buffer.length(); i++) {
+            buffer.set(i, null);
+        }
+        slowStatements.reset();
+    }
+
+    /**
+     * @return Whether the interval since the last plan capture has elapsed (and a new one may start)
+     */
+    private boolean reserveExplain() {
+        long now = System.nanoTime();
+        long next = nextExplain.get();
+        return now - next >= 0 && nextExplain.compareAndSet(next, now + explainIntervalNanos);
+    }
+
+    private void add(SlowQuery query) {
+        long index = captured.getAndIncrement();
+        buffer.set((int) (index % buffer.length()), query);
+        log.warn("Slow statement ({} ms, {} rows): {}", query.durationMillis(), query.rows(), query.sql());
+    }
+
+    private static String plan(DataSource target, String sql, Object[] parameters) {
+        boolean query = isQuery(sql);
+        try (Connection connection = target.getConnection()) {
+            if (!"H2".equals(connection.getMetaData().getDatabaseProductName())) {
+                return null;
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    (query ? "EXPLAIN ANALYZE " : "EXPLAIN ") + sql)) {
+                if (parameters != null) {
+                    for (int i = 0; i < parameters.length; i++) {
+                        statement.setObject(i + 1, parameters[i]);
+                    }
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString().strip();
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("Could not capture the plan of {}", sql, e);
+            return null;
+        }
+    }
+
+    private static boolean isQuery(String sql) {
+        String start = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return start.startsWith("select") || start.startsWith("with");
+    }
+
+    private static List<String> render(Object[] parameters) {
+        if (parameters == null) {
+            return null;
+        }
+        return Arrays.stream(parameters)
+            .map(value -> {
+                if (value == null) {
+                    return "null";
+                }
+                if (value instanceof byte[] bytes) {
+                    return "byte[" + bytes.length + "]";
+                }
+                String text = String.valueOf(value);
+                return text.length() > PARAMETER_MAX_LENGTH ? text.substring(0, PARAMETER_MAX_LENGTH) + "..." : text;
+            })
+            .toList();
+    }
+}
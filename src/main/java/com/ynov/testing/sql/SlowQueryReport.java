@@ -0,0 +1,22 @@
+package com.ynov.testing.sql;
+
+import java.util.List;
+
+/**
+ * SlowQueryReport Record
+ *
+ * Settings and content of the slow-query log.
+ *
+ * @param thresholdMillis Statements running at least this long are slow
+ * @param sampleRate Fraction of slow statements captured with their plan
+ * @param slowStatements Slow statements seen since startup, captured or not
+ * @param queries The captured slow statements still in the buffer, newest first
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record SlowQueryReport(double thresholdMillis,
+                              double sampleRate,
+                              long slowStatements,
+                              List<SlowQuery> queries) {
+}
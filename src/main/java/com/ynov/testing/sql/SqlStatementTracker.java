@@ -0,0 +1,143 @@
+package com.ynov.testing.sql;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SqlStatementTracker Class
+ *
+ * Counts the SQL statements, loaded rows and JDBC time of the current thread
+ * between {@link #begin()} and {@link #end()}. The counters are fed by Hibernate
+ * (see {@link SqlTrackingConfig}) and cost nothing when no tracking is active.
+ * Tracking scopes can be nested: an inner scope's activity also counts for the
+ * outer one.
+ *
+ * Only work done on the tracked thread is counted: queries run by another thread
+ * (coalesced reads executed by a concurrent caller, {@code @Async} tasks,
+ * streamed responses) are not.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<Counters> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementTracker() {
+    }
+
+    /**
+     * Start tracking the current thread.
+     */
+    public static void begin() {
+        CURRENT.set(new Counters(CURRENT.get()));
+    }
+
+    /**
+     * Stop the innermost tracking scope of the current thread.
+     *
+     * @return The activity recorded since the matching {@link #begin()}
+     */
+    public static SqlStats end() {
+        Counters counters = CURRENT.get();
+        if (counters == null) {
+            return SqlStats.NONE;
+        }
+        if (counters.parent != null) {
+            CURRENT.set(counters.parent);
+            counters.parent.merge(counters);
+        } else {
+            CURRENT.remove();
+        }
+        return counters.stats();
+    }
+
+    /**
+     * Run an action in its own tracking scope.
+     *
+     * @param action The action
+     * @return The SQL activity of the action
+     */
+    public static SqlStats track(Runnable action) {
+        SqlStats stats;
+        begin();
+        try {
+            action.run();
+        } finally {
+            stats = end();
+        }
+        return stats;
+    }
+
+    /**
+     * Activity recorded so far by the innermost tracking scope, which keeps running.
+     *
+     * @return The activity, or {@link SqlStats#NONE} if the current thread is not tracked
+     */
+    public static SqlStats current() {
+        Counters counters = CURRENT.get();
+        return counters != null ? counters.stats() : SqlStats.NONE;
+    }
+
+    /**
+     * @return true if the current thread is tracked
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void statement(String sql) {
+        Counters counters = CURRENT.get();
+        if (counters != null) {
+            counters.statements++;
+            counters.executions.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void rowsLoaded(long rows) {
+        Counters counters = CURRENT.get();
+        if (counters != null) {
+            counters.rows += rows;
+        }
+    }
+
+    static void jdbcTime(long nanos) {
+        Counters counters = CURRENT.get();
+        if (counters != null) {
+            counters.jdbcNanos += nanos;
+        }
+    }
+
+    /**
+     * Counters of one tracking scope, only used by its own thread.
+     */
+    private static final class Counters {
+
+        private final Counters parent;
+        private final Map<String, Integer> executions = new HashMap<>();
+        private int statements;
+        private long rows;
+        private long jdbcNanos;
+
+        private Counters(Counters parent) {
+            this.parent = parent;
+        }
+
+        private void merge(Counters child) {
+            statements += child.statements;
+            rows += child.rows;
+            jdbcNanos += child.jdbcNanos;
+            child.executions.forEach((sql, count) -> executions.merge(sql, count, Integer::sum));
+        }
+
+        private SqlStats stats() {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            executions.entrySet().stream()
+                .filter(entry -> entry.getValue() > 1)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return new SqlStats(statements, rows, jdbcNanos / 1_000, repeated);
+        }
+    }
+}
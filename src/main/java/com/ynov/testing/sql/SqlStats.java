@@ -0,0 +1,32 @@
+package com.ynov.testing.sql;
+
+import java.util.Map;
+
+/**
+ * SqlStats Record
+ *
+ * SQL activity of one tracked unit of work, usually an HTTP request.
+ *
+ * @param statements Number of SQL statements prepared by Hibernate
+ * @param rows Number of entity rows loaded (from JDBC or the second-level cache)
+ * @param jdbcMicros Time spent executing statements and batches
+ * @param repeatedStatements Statements executed more than once, with their number
+ *                           of executions: a high count is the sign of an N+1 query
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record SqlStats(int statements, long rows, long jdbcMicros, Map<String, Integer> repeatedStatements) {
+
+    public static final SqlStats NONE = new SqlStats(0, 0, 0, Map.of());
+
+    /**
+     * Largest number of executions of a single statement.
+     *
+     * @return 1 if no statement was repeated, 0 if nothing was executed
+     */
+    public int maxRepeats() {
+        return repeatedStatements.values().stream().mapToInt(Integer::intValue).max()
+            .orElse(statements > 0 ? 1 : 0);
+    }
+}
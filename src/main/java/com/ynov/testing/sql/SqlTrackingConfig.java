@@ -0,0 +1,113 @@
+package com.ynov.testing.sql;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * SqlTrackingConfig Class
+ *
+ * Feeds the {@link SqlStatementTracker} from Hibernate:
+ * - a {@link StatementInspector} sees the SQL of every statement Hibernate prepares;
+ * - a {@link SessionEventListener}, created for each session, times the JDBC
+ *   executions and batches;
+ * - a post-load event listener counts the entity rows loaded.
+ *
+ * Disabled with {@code app.sql-tracking.enabled=false}.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql-tracking.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTrackingConfig {
+
+    /**
+     * Register the statement inspector, the session listener and the row counter.
+     *
+     * @return The customizer of the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlTrackingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new TrackingStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, TrackingSessionListener.class.getName());
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(new RowCountIntegrator()));
+        };
+    }
+
+    /**
+     * Records every statement, unchanged.
+     */
+    static final class TrackingStatementInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            SqlStatementTracker.statement(sql);
+            return sql;
+        }
+    }
+
+    /**
+     * Times the JDBC executions of one session. Must be public with a public
+     * no-argument constructor, as Hibernate instantiates it for each session.
+     */
+    public static final class TrackingSessionListener implements SessionEventListener {
+
+        private long executeStart;
+        private long batchStart;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            executeStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            SqlStatementTracker.jdbcTime(System.nanoTime() - executeStart);
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            batchStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            SqlStatementTracker.jdbcTime(System.nanoTime() - batchStart);
+        }
+    }
+
+    /**
+     * Appends a post-load listener counting loaded entity rows.
+     */
+    static final class RowCountIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                              SessionFactoryImplementor sessionFactory) {
+            sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> SqlStatementTracker.rowsLoaded(1));
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.ynov.testing.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * SqlTrackingFilter Class
+ *
+ * Tracks the SQL activity of each HTTP request (see {@link SqlStatementTracker}):
+ * - records the number of statements per endpoint (app.sql.statements metric,
+ *   when a meter registry is available);
+ * - logs a warning when a request runs more than {@code app.sql-tracking.statement-budget}
+ *   statements, or runs the same statement {@code app.sql-tracking.repeat-threshold}
+ *   times or more (N+1 queries);
+ * - with {@code app.sql-tracking.response-header=true} (dev profile), adds the
+ *   {@value #STATEMENTS_HEADER}, {@value #ROWS_HEADER} and {@value #TIME_HEADER}
+ *   response headers, set just before the response body is written. Statements
+ *   run after that, such as lazy loads during the JSON serialization, are not
+ *   in the headers: the filter then logs the final statistics of the request;
+ * - logs every statement of a random sample of the requests
+ *   ({@code app.sql-log.sample-rate}, see {@link SampledSqlLog}).
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "app.sql-tracking.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTrackingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlTrackingFilter.class);
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private static final int LOGGED_STATEMENTS = 3;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeader;
+    private final int statementBudget;
+    private final int repeatThreshold;
+    private final double logSampleRate;
+
+    @Autowired
+    public SqlTrackingFilter(ObjectProvider<MeterRegistry> meterRegistry,
+                             @Value("${app.sql-tracking.response-header:false}") boolean responseHeader,
+                             @Value("${app.sql-tracking.statement-budget:20}") int statementBudget,
+                             @Value("${app.sql-tracking.repeat-threshold:5}") int repeatThreshold,
+                             @Value("${app.sql-log.sample-rate:0.0}") double logSampleRate) {
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        this.responseHeader = responseHeader;
+        this.statementBudget = statementBudget;
+        this.repeatThreshold = repeatThreshold;
+        this.logSampleRate = logSampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HttpServletResponse tracked = responseHeader ? new HeaderWritingResponse(response) : response;
+        boolean sampled = logSampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < logSampleRate;
+        if (sampled) {
+            SampledSqlLog.begin(request.getMethod() + " " + request.getRequestURI());
+        }
+        SqlStatementTracker.begin();
+        try {
+            chain.doFilter(request, tracked);
+        } finally {
+            if (sampled) {
+                SampledSqlLog.end();
+            }
+            SqlStats stats = SqlStatementTracker.end();
+            if (tracked instanceof HeaderWritingResponse headerWriting) {
+                headerWriting.writeHeaders(stats);
+                SqlStats reported = headerWriting.reported;
+                if (reported.statements() < stats.statements()) {
+                    log.info("{} {} ran {} SQL statements, {} of them after the {} header was written",
+                        request.getMethod(), request.getRequestURI(), stats.statements(),
+                        stats.statements() - reported.statements(), STATEMENTS_HEADER);
+                }
+            }
+            report(request, response, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, HttpServletResponse response, SqlStats stats) {
+        if (meterRegistry != null) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("app.sql.statements")
+                .description("SQL statements per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .register(meterRegistry)
+                .record(stats.statements());
+        }
+
+        int maxRepeats = stats.maxRepeats();
+        if (stats.statements() > statementBudget || maxRepeats >= repeatThreshold) {
+            log.warn("{} {} ran {} SQL statements (budget {}), loaded {} rows in {} ms, status {}; most repeated: {}",
+                request.getMethod(), request.getRequestURI(), stats.statements(), statementBudget, stats.rows(),
+                stats.jdbcMicros() / 1_000, response.getStatus(), mostRepeated(stats));
+        }
+    }
+
+    private static String mostRepeated(SqlStats stats) {
+        if (stats.repeatedStatements().isEmpty()) {
+            return "none";
+        }
+        return stats.repeatedStatements().entrySet().stream()
+            .limit(LOGGED_STATEMENTS)
+            .map(entry -> entry.getValue() + " x [" + entry.getKey() + "]")
+            .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Sets the SQL headers with the statistics so far when the response is about to
+     * be committed, as headers cannot be added once the body has started.
+     */
+    private static final class HeaderWritingResponse extends HttpServletResponseWrapper {
+
+        /**
+         * Statistics written in the headers, or null until they are.
+         */
+        private SqlStats reported;
+
+        private HeaderWritingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders(null);
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders(null);
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders(null);
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders(null);
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders(null);
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders(null);
+            super.sendRedirect(location);
+        }
+
+        /**
+         * @param stats Final statistics, or null to read those of the running request
+         */
+        private void writeHeaders(SqlStats stats) {
+            if (reported != null) {
+                return;
+            }
+            SqlStats current = stats != null ? stats : SqlStatementTracker.current();
+            reported = current;
+            if (isCommitted()) {
+                return;
+            }
+            setHeader(STATEMENTS_HEADER, String.valueOf(current.statements()));
+            setHeader(ROWS_HEADER, String.valueOf(current.rows()));
+            setHeader(TIME_HEADER, String.valueOf(current.jdbcMicros() / 1_000.0));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.ynov.testing.threads;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * PinnedThreadMonitor Class
+ *
+ * Pinning diagnostics for the virtual-thread mode ({@code spring.threads.virtual.enabled}).
+ * A virtual thread blocking inside a {@code synchronized} section (ours, or one in the
+ * JDBC driver, the pool or Hibernate on the data path) stays mounted on its carrier
+ * thread, so a few such sections can block every carrier and stall the application.
+ *
+ * When virtual threads are enabled, the JFR {@code jdk.VirtualThreadPinned} events
+ * longer than {@code app.threads.pinning.threshold} are streamed in process and
+ * aggregated per code site: the first application frame of the stack, or the first
+ * non-JDK frame for pinning inside a library. The first event of each site is logged
+ * with its stack trace. Nothing is recorded in platform-thread mode.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class PinnedThreadMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final String APPLICATION_PACKAGE = "com.ynov.testing.";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.");
+    private static final int LOGGED_FRAMES = 12;
+
+    private final boolean virtualThreads;
+    private final boolean enabled;
+    private final Duration threshold;
+    private final ConcurrentMap<String, Counters> sites = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    @Autowired
+    public PinnedThreadMonitor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                               @Value("${app.threads.pinning.enabled:true}") boolean enabled,
+                               @Value("${app.threads.pinning.threshold:20ms}") Duration threshold) {
+        this.virtualThreads = virtualThreads;
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Start streaming the pinned events, if virtual threads and the diagnostics are enabled.
+     */
+    @PostConstruct
+    public void start() {
+        if (!virtualThreads || !enabled || stream != null) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        stream = recording;
+        log.info("Recording virtual threads pinned longer than {} ms", threshold.toMillis());
+    }
+
+    /**
+     * Stop streaming the pinned events.
+     */
+    @PreDestroy
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    /**
+     * Get the execution mode and the pinned events recorded so far.
+     *
+     * @return The threading status, with pinned events in site order
+     */
+    public ThreadingStatus status() {
+        Map<String, PinningStats> pinning = new TreeMap<>();
+        sites.forEach((site, counters) -> pinning.put(site, counters.snapshot()));
+        return new ThreadingStatus(virtualThreads, stream != null, pinning);
+    }
+
+    void record(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String site = siteOf(frames);
+        long nanos = event.getDuration().toNanos();
+        Counters counters = sites.get(site);
+        if (counters == null) {
+            // Publish the site with its first event counted, so it never shows zero events
+            Counters firstEvent = new Counters();
+            firstEvent.add(nanos);
+            counters = sites.putIfAbsent(site, firstEvent);
+        }
+        if (counters != null) {
+            counters.add(nanos);
+        } else {
+            log.warn("Virtual thread pinned for {} ms at {}:\n\t{}", event.getDuration().toMillis(), site,
+                frames.stream().limit(LOGGED_FRAMES).map(PinnedThreadMonitor::describe)
+                    .collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    private static String siteOf(List<RecordedFrame> frames) {
+        return frames.stream()
+            .filter(frame -> typeOf(frame).startsWith(APPLICATION_PACKAGE))
+            .findFirst()
+            .or(() -> frames.stream()
+                .filter(frame -> JDK_PACKAGES.stream().noneMatch(typeOf(frame)::startsWith))
+                .findFirst())
+            .or(() -> frames.stream().findFirst())
+            .map(PinnedThreadMonitor::describe)
+            .orElse("unknown");
+    }
+
+    private static String typeOf(RecordedFrame frame) {
+        return frame.getMethod().getType().getName();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return typeOf(frame) + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static final class Counters {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        PinningStats snapshot() {
+            return new PinningStats(count.sum(), totalNanos.sum() / 1e6, maxNanos.get() / 1e6);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ynov.testing.threads;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * PinningStats Record
+ *
+ * Pinned virtual threads recorded at one code site since startup. A virtual thread
+ * is pinned when it blocks while it cannot unmount from its carrier thread, typically
+ * inside a {@code synchronized} block or method: the carrier is then blocked too.
+ *
+ * @param count Number of pinned events longer than the configured threshold
+ * @param totalMillis Total time spent pinned
+ * @param maxMillis Longest time spent pinned
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record PinningStats(long count, double totalMillis, double maxMillis) {
+
+    /**
+     * Average time spent pinned per event.
+     *
+     * @return Average pinned time in milliseconds
+     */
+    @JsonProperty
+    public double averageMillis() {
+        return count == 0 ? 0.0 : totalMillis / count;
+    }
+}
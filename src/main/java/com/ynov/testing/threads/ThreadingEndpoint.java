@@ -0,0 +1,41 @@
+package com.ynov.testing.threads;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * ThreadingEndpoint Class
+ *
+ * Actuator endpoint exposing whether requests run on virtual or platform
+ * threads, and where virtual threads were pinned to their carrier. Like the
+ * other actuator endpoints, it is only reachable over HTTP once listed in
+ * {@code management.endpoints.web.exposure.include}, which only the dev
+ * profile does.
+ *
+ * Operations:
+ * - GET /actuator/threading - Execution mode and pinned events per code site
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+@Endpoint(id = "threading")
+public class ThreadingEndpoint {
+
+    private final PinnedThreadMonitor pinnedThreadMonitor;
+
+    @Autowired
+    public ThreadingEndpoint(PinnedThreadMonitor pinnedThreadMonitor) {
+        this.pinnedThreadMonitor = pinnedThreadMonitor;
+    }
+
+    /**
+     * @return The execution mode and the pinned events recorded so far
+     */
+    @ReadOperation
+    public ThreadingStatus threading() {
+        return pinnedThreadMonitor.status();
+    }
+}
@@ -0,0 +1,18 @@
+package com.ynov.testing.threads;
+
+import java.util.Map;
+
+/**
+ * ThreadingStatus Record
+ *
+ * Execution mode of the request and task threads, with the pinning diagnostics.
+ *
+ * @param virtualThreads Whether requests, {@code @Async} and scheduled tasks run on virtual threads
+ * @param pinningMonitored Whether pinned virtual threads are being recorded
+ * @param pinning Pinned events keyed by code site ({@code Class.method:line})
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record ThreadingStatus(boolean virtualThreads, boolean pinningMonitored, Map<String, PinningStats> pinning) {
+}
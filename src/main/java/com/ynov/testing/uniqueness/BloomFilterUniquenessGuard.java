@@ -0,0 +1,146 @@
+package com.ynov.testing.uniqueness;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * BloomFilterUniquenessGuard Class
+ *
+ * Guard backed by a Bloom filter: a bit array in which every registered value
+ * sets a few bits chosen by hashing. A value with any of its bits unset was
+ * never registered, so the database probe can be skipped; a value with all its
+ * bits set is only "maybe present" and is probed.
+ *
+ * The filter is sized for an expected number of values and a target
+ * false-positive rate. Deleted or renamed values cannot be unset; they only
+ * cause extra probes until the application restarts. Bits are set with CAS on
+ * an {@link AtomicLongArray}, so registrations and checks need no lock.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public class BloomFilterUniquenessGuard implements UniquenessGuard {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final LongAdder skippedProbes = new LongAdder();
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile boolean ready;
+
+    /**
+     * Create a Bloom filter guard.
+     *
+     * @param expectedInsertions Number of values the filter is sized for
+     * @param falsePositiveRate Target false-positive rate at that size (between 0 and 1)
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public BloomFilterUniquenessGuard(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int words = Math.toIntExact(Math.max(1, (optimalBits + 63) / 64));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+    }
+
+    @Override
+    public boolean exists(String value, Predicate<String> databaseProbe) {
+        if (!mightExist(value)) {
+            return false;
+        }
+        boolean exists = databaseProbe.test(value);
+        if (!exists && ready) {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    @Override
+    public boolean mightExist(String value) {
+        if (ready && !mightContain(value)) {
+            skippedProbes.increment();
+            return false;
+        }
+        probes.increment();
+        return true;
+    }
+
+    @Override
+    public void register(String value) {
+        if (value == null) {
+            return;
+        }
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public UniquenessGuardStats stats() {
+        return new UniquenessGuardStats("bloom", ready, skippedProbes.sum(), probes.sum(), falsePositives.sum());
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private boolean mightContain(String value) {
+        if (value == null) {
+            return false;
+        }
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Seeded 64-bit FNV-1a hash of the UTF-8 bytes, finished with a murmur3 mixer.
+     */
+    private static long hash(String value, long seed) {
+        long hash = 0xCBF29CE484222325L ^ seed;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB3F99FA1B1A7L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
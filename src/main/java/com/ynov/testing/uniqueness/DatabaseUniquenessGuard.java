@@ -0,0 +1,51 @@
+package com.ynov.testing.uniqueness;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * DatabaseUniquenessGuard Class
+ *
+ * Guard that always probes the database. Used when the Bloom filters are
+ * disabled, so that services keep a single code path. Without a filter no
+ * probe follows a "maybe present" answer, so it never reports false positives.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public class DatabaseUniquenessGuard implements UniquenessGuard {
+
+    private final LongAdder probes = new LongAdder();
+
+    @Override
+    public boolean exists(String value, Predicate<String> databaseProbe) {
+        probes.increment();
+        return databaseProbe.test(value);
+    }
+
+    @Override
+    public boolean mightExist(String value) {
+        probes.increment();
+        return true;
+    }
+
+    @Override
+    public void register(String value) {
+        // Nothing to remember
+    }
+
+    @Override
+    public void markReady() {
+        // Always ready
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    @Override
+    public UniquenessGuardStats stats() {
+        return new UniquenessGuardStats("database", true, 0, probes.sum(), 0);
+    }
+}
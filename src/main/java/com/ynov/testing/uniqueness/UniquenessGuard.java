@@ -0,0 +1,58 @@
+package com.ynov.testing.uniqueness;
+
+import java.util.function.Predicate;
+
+/**
+ * UniquenessGuard Interface
+ *
+ * Guards one unique key (player email, team name, event name...) in front of
+ * the database existence check. A guard may answer "definitely absent" on its
+ * own, in which case the database probe is skipped; otherwise the probe
+ * decides. The database unique constraint remains the final arbiter, so a
+ * guard may only ever err on the side of probing.
+ *
+ * Implementations must be thread-safe.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public interface UniquenessGuard {
+
+    /**
+     * Check whether a value is already used.
+     *
+     * @param value The value to check
+     * @param databaseProbe The database existence check, called unless the value is definitely absent
+     * @return true if the value exists, false otherwise
+     */
+    boolean exists(String value, Predicate<String> databaseProbe);
+
+    /**
+     * Check whether a value may already be used, without probing the database.
+     *
+     * @param value The value to check
+     * @return false if the value is definitely absent, true if it must be probed
+     */
+    boolean mightExist(String value);
+
+    /**
+     * Record a value written to the database.
+     *
+     * @param value The new value
+     */
+    void register(String value);
+
+    /**
+     * Mark the guard as loaded with all existing values. Until then, every check is probed.
+     */
+    void markReady();
+
+    boolean isReady();
+
+    /**
+     * Get the effectiveness counters of this guard.
+     *
+     * @return Snapshot of the counters
+     */
+    UniquenessGuardStats stats();
+}
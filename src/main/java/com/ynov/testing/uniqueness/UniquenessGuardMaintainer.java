@@ -0,0 +1,86 @@
+package com.ynov.testing.uniqueness;
+
+import com.ynov.testing.model.Player;
+import com.ynov.testing.repository.EventRepository;
+import com.ynov.testing.repository.PlayerRepository;
+import com.ynov.testing.repository.TeamRepository;
+import com.ynov.testing.service.PlayerChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * UniquenessGuardMaintainer Class
+ *
+ * Loads the existing player emails (canonical form), team names and event names into the
+ * {@link UniquenessGuards} once the application is ready, then marks them
+ * ready. New player emails are registered as soon as the player is saved
+ * (values of rolled-back transactions only cause extra probes); team and
+ * event names are registered by their services.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class UniquenessGuardMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(UniquenessGuardMaintainer.class);
+
+    private final UniquenessGuards guards;
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final EventRepository eventRepository;
+
+    @Autowired
+    public UniquenessGuardMaintainer(UniquenessGuards guards, PlayerRepository playerRepository,
+                                     TeamRepository teamRepository, EventRepository eventRepository) {
+        this.guards = guards;
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Load all existing unique values into the guards once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long start = System.nanoTime();
+        long count = load(playerRepository.streamAllEmailKeys(), guards.playerEmails())
+            + load(teamRepository.streamAllNames(), guards.teamNames())
+            + load(eventRepository.streamAllNames(), guards.eventNames());
+        log.info("Loaded {} unique values into uniqueness guards in {} ms",
+            count, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Register the canonical email of a saved player.
+     *
+     * @param event The player change
+     */
+    @EventListener
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        if (event.after() != null) {
+            guards.playerEmails().register(Player.normalizeEmail(event.after().email()));
+        }
+    }
+
+    private static long load(Stream<String> values, UniquenessGuard guard) {
+        long[] count = {0};
+        try (values) {
+            values.forEach(value -> {
+                guard.register(value);
+                count[0]++;
+            });
+        }
+        guard.markReady();
+        return count[0];
+    }
+}
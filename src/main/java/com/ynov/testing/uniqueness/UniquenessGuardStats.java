@@ -0,0 +1,32 @@
+package com.ynov.testing.uniqueness;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * UniquenessGuardStats Record
+ *
+ * Effectiveness counters of a {@link UniquenessGuard}.
+ *
+ * @param type The guard implementation (bloom or database)
+ * @param ready Whether the guard has been loaded with the existing values
+ * @param skippedProbes Checks answered "definitely absent" without a database probe (hits)
+ * @param probes Checks that needed a database probe (misses)
+ * @param falsePositives Probes made on a "maybe present" answer of a Bloom filter
+ *                       that found the value absent after all
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public record UniquenessGuardStats(String type, boolean ready, long skippedProbes, long probes, long falsePositives) {
+
+    /**
+     * Share of checks answered without a database probe.
+     *
+     * @return Hit ratio between 0 and 1
+     */
+    @JsonProperty
+    public double hitRatio() {
+        long checks = skippedProbes + probes;
+        return checks == 0 ? 0.0 : (double) skippedProbes / checks;
+    }
+}
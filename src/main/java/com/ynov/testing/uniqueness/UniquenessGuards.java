@@ -0,0 +1,107 @@
+package com.ynov.testing.uniqueness;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * UniquenessGuards Class
+ *
+ * Registry of the {@link UniquenessGuard}s of the application, one per unique key:
+ * player email, team name and event name.
+ *
+ * The implementation is chosen with {@code app.uniqueness-guard.type}:
+ * - bloom (default): Bloom filters sized by {@code app.uniqueness-guard.expected-insertions}
+ *   and {@code app.uniqueness-guard.false-positive-rate};
+ * - database: always probe the database.
+ *
+ * The counters of every guard are exposed in {@link #stats()} and as meters,
+ * tagged with the guard: app.uniqueness.checks (outcome skipped or probed) and
+ * app.uniqueness.false-positives.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@Component
+public class UniquenessGuards {
+
+    private static final String CHECKS_METER = "app.uniqueness.checks";
+    private static final String FALSE_POSITIVES_METER = "app.uniqueness.false-positives";
+
+    private final UniquenessGuard playerEmails;
+    private final UniquenessGuard teamNames;
+    private final UniquenessGuard eventNames;
+    private final Map<String, UniquenessGuard> guards = new LinkedHashMap<>();
+
+    @Autowired
+    public UniquenessGuards(@Value("${app.uniqueness-guard.type:bloom}") String type,
+                            @Value("${app.uniqueness-guard.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${app.uniqueness-guard.false-positive-rate:0.01}") double falsePositiveRate,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        Supplier<UniquenessGuard> factory = switch (type) {
+            case "bloom" -> () -> new BloomFilterUniquenessGuard(expectedInsertions, falsePositiveRate);
+            case "database" -> DatabaseUniquenessGuard::new;
+            default -> throw new IllegalArgumentException("Unknown uniqueness guard type: " + type);
+        };
+        this.playerEmails = factory.get();
+        this.teamNames = factory.get();
+        this.eventNames = factory.get();
+        guards.put("playerEmail", playerEmails);
+        guards.put("teamName", teamNames);
+        guards.put("eventName", eventNames);
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            guards.forEach((name, guard) -> register(registry, name, guard));
+        }
+    }
+
+    /**
+     * @return The guard of the canonical player emails ({@code Player.normalizeEmail})
+     */
+    public UniquenessGuard playerEmails() {
+        return playerEmails;
+    }
+
+    public UniquenessGuard teamNames() {
+        return teamNames;
+    }
+
+    public UniquenessGuard eventNames() {
+        return eventNames;
+    }
+
+    /**
+     * Get the counters of every guard, by guarded key.
+     *
+     * @return Counters keyed by guard name
+     */
+    public Map<String, UniquenessGuardStats> stats() {
+        Map<String, UniquenessGuardStats> stats = new LinkedHashMap<>();
+        guards.forEach((name, guard) -> stats.put(name, guard.stats()));
+        return stats;
+    }
+
+    private static void register(MeterRegistry registry, String name, UniquenessGuard guard) {
+        FunctionCounter.builder(CHECKS_METER, guard, g -> g.stats().skippedProbes())
+            .description("Existence checks of a uniqueness guard")
+            .tag("guard", name)
+            .tag("outcome", "skipped")
+            .register(registry);
+        FunctionCounter.builder(CHECKS_METER, guard, g -> g.stats().probes())
+            .description("Existence checks of a uniqueness guard")
+            .tag("guard", name)
+            .tag("outcome", "probed")
+            .register(registry);
+        FunctionCounter.builder(FALSE_POSITIVES_METER, guard, g -> g.stats().falsePositives())
+            .description("Database probes of a uniqueness guard that found the value absent")
+            .tag("guard", name)
+            .register(registry);
+    }
+}
@@ -0,0 +1,62 @@
+-- Baseline schema: the tables previously created by Hibernate (ddl-auto=update)
+
+CREATE SEQUENCE players_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE players (
+    id             BIGINT       NOT NULL,
+    first_name     VARCHAR(50)  NOT NULL,
+    last_name      VARCHAR(50)  NOT NULL,
+    email          VARCHAR(100) NOT NULL,
+    age            INTEGER      NOT NULL,
+    position       VARCHAR(30)  NOT NULL,
+    team_name      VARCHAR(50),
+    jersey_number  INTEGER,
+    salary         FLOAT(53),
+    active         BOOLEAN      NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6),
+    version        BIGINT,
+    CONSTRAINT pk_players PRIMARY KEY (id),
+    CONSTRAINT uk_players_email UNIQUE (email)
+);
+
+CREATE TABLE teams (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name           VARCHAR(50)  NOT NULL,
+    region         VARCHAR(10)  NOT NULL,
+    founded_date   TIMESTAMP(6) NOT NULL,
+    contact_email  VARCHAR(255),
+    phone_number   VARCHAR(20),
+    budget         FLOAT(53),
+    wins           INTEGER,
+    losses         INTEGER,
+    is_active      BOOLEAN,
+    description    VARCHAR(500),
+    CONSTRAINT pk_teams PRIMARY KEY (id),
+    CONSTRAINT uk_teams_name UNIQUE (name)
+);
+
+CREATE TABLE events (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name           VARCHAR(100) NOT NULL,
+    description    VARCHAR(500) NOT NULL,
+    event_date     TIMESTAMP(6) NOT NULL,
+    canceled       BOOLEAN      NOT NULL,
+    is_active      BOOLEAN,
+    team_a_id      BIGINT,
+    team_b_id      BIGINT,
+    city           VARCHAR(255),
+    teaser         VARCHAR(255),
+    CONSTRAINT pk_events PRIMARY KEY (id),
+    CONSTRAINT fk_events_team_a FOREIGN KEY (team_a_id) REFERENCES teams (id),
+    CONSTRAINT fk_events_team_b FOREIGN KEY (team_b_id) REFERENCES teams (id)
+);
+
+CREATE TABLE team_stats (
+    team_name      VARCHAR(100) NOT NULL,
+    player_count   BIGINT       NOT NULL,
+    age_sum        BIGINT       NOT NULL,
+    salary_sum     FLOAT(53)    NOT NULL,
+    active_count   BIGINT       NOT NULL,
+    CONSTRAINT pk_team_stats PRIMARY KEY (team_name)
+);
@@ -0,0 +1,22 @@
+-- Indexes of the repository queries, which were all full table scans.
+-- Not indexed: position (4 values) and age (17 to 38), too unselective for an
+-- index to beat a scan; first/last names, searched case-insensitively.
+
+-- One player per jersey number in a team. Also serves every lookup by team
+-- (findByTeamName, countByTeamName, findByTeamNameAndPosition, ...).
+ALTER TABLE players ADD CONSTRAINT uk_players_team_jersey UNIQUE (team_name, jersey_number);
+
+-- findByActive, countByActive, findByTeamNameAndActive, team statistics of active players
+CREATE INDEX idx_players_active_team ON players (active, team_name);
+
+-- findPlayersWithSalaryAbove (range and ORDER BY salary)
+CREATE INDEX idx_players_salary ON players (salary);
+
+-- findByEventDateAfter, findByEventDateBefore, findByEventDateBeforeAndActiveTrue
+CREATE INDEX idx_events_event_date ON events (event_date);
+
+-- existsByName
+CREATE INDEX idx_events_name ON events (name);
+
+-- findByRegion
+CREATE INDEX idx_teams_region ON teams (region);
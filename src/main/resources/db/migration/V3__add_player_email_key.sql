@@ -0,0 +1,13 @@
+-- Canonical email (trimmed, lower-cased), maintained by the Player entity.
+-- Emails are unique ignoring case: uk_players_email moves from email to email_key.
+-- Emails differing only by case must be merged before running this migration.
+
+ALTER TABLE players ADD COLUMN email_key VARCHAR(100);
+
+UPDATE players SET email_key = LOWER(TRIM(email));
+
+ALTER TABLE players ALTER COLUMN email_key SET NOT NULL;
+
+ALTER TABLE players DROP CONSTRAINT uk_players_email;
+
+ALTER TABLE players ADD CONSTRAINT uk_players_email UNIQUE (email_key);
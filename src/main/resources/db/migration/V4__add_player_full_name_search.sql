@@ -0,0 +1,16 @@
+-- Lower-cased "first last" name, maintained by the Player entity, and the H2
+-- native full-text index over it used by the full-name search.
+
+ALTER TABLE players ADD COLUMN full_name_search VARCHAR(101);
+
+UPDATE players SET full_name_search = LOWER(first_name || ' ' || last_name);
+
+ALTER TABLE players ALTER COLUMN full_name_search SET NOT NULL;
+
+-- FT_INIT creates the FT schema and the FT_* functions; FT_CREATE_INDEX indexes
+-- the existing rows and adds the triggers keeping the index up to date.
+CREATE ALIAS IF NOT EXISTS FT_INIT FOR 'org.h2.fulltext.FullText.init';
+
+CALL FT_INIT();
+
+CALL FT_CREATE_INDEX('PUBLIC', 'PLAYERS', 'FULL_NAME_SEARCH');
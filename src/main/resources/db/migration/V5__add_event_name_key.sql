@@ -0,0 +1,8 @@
+-- Event names are unique: enforce it in the database, so that concurrent
+-- creations or renames cannot both pass the existence check.
+-- The unique constraint index replaces idx_events_name.
+-- Duplicate event names must be renamed before running this migration.
+
+DROP INDEX idx_events_name;
+
+ALTER TABLE events ADD CONSTRAINT uk_events_name UNIQUE (name);
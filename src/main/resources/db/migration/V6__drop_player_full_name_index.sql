@@ -0,0 +1,6 @@
+-- The name search uses a LIKE query on full_name_search: the full-text index
+-- only matches whole words, so no query reads it, while its triggers slow
+-- down every insert and update of players.
+-- FT_DROP_ALL removes the index, its triggers and the FT schema of FT_INIT.
+
+CALL FT_DROP_ALL();
@@ -0,0 +1,94 @@
+package com.ynov.testing.benchmark;
+
+import com.ynov.testing.TestingMethodologyApplication;
+import com.ynov.testing.dataset.DatasetGenerator;
+import com.ynov.testing.dataset.DatasetSpec;
+import com.ynov.testing.dataset.DatasetSummary;
+import com.ynov.testing.search.PlayerIndexMaintainer;
+import com.ynov.testing.service.TeamStatsMaintainer;
+import com.ynov.testing.uniqueness.UniquenessGuardMaintainer;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Application context for the JMH benchmarks
+ *
+ * Boots the service and JPA layers (no web server) against a private H2 database,
+ * seeds it with the deterministic dataset of the requested size built by the
+ * {@link DatasetGenerator} (teams "Team-0", "Team-1", ... of skewed sizes, one
+ * event per 10 players, two thirds of them in the past), then loads the in-memory
+ * indexes, uniqueness guards and team statistics as the application does at startup.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+final class BenchmarkContext implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final DatasetSummary dataset;
+
+    private BenchmarkContext(ConfigurableApplicationContext context, DatasetSummary dataset) {
+        this.context = context;
+        this.dataset = dataset;
+    }
+
+    /**
+     * Boot the application and seed it.
+     *
+     * @param players Number of players to seed
+     * @param arguments Command-line arguments overriding the configuration, e.g. {@code --app.coalescing.enabled=false}
+     * @return The seeded context
+     */
+    static BenchmarkContext start(int players, String... arguments) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TestingMethodologyApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:benchmark-" + players + "-" + Arrays.hashCode(arguments)
+                    + ";DB_CLOSE_DELAY=-1",
+                "app.health.refresh-interval-ms=3600000",
+                "logging.level.root=WARN",
+                "logging.level.com.ynov.testing=WARN")
+            .run(arguments);
+        DatasetSummary dataset = context.getBean(DatasetGenerator.class).generate(DatasetSpec.ofPlayers(players));
+        context.getBean(PlayerIndexMaintainer.class).rebuildIndexes();
+        context.getBean(UniquenessGuardMaintainer.class).warmUp();
+        context.getBean(TeamStatsMaintainer.class).rebuild();
+        return new BenchmarkContext(context, dataset);
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    int players() {
+        return dataset.players();
+    }
+
+    int teams() {
+        return dataset.teams();
+    }
+
+    static String teamName(int team) {
+        return DatasetGenerator.teamName(team);
+    }
+
+    /**
+     * Mark every past event active again, undoing an archive run.
+     */
+    void reactivatePastEvents() {
+        bean(JdbcTemplate.class).update("UPDATE events SET is_active = TRUE WHERE event_date < ?",
+            Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
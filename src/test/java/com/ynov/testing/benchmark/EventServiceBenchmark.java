@@ -0,0 +1,91 @@
+package com.ynov.testing.benchmark;
+
+import com.ynov.testing.model.Event;
+import com.ynov.testing.model.Team;
+import com.ynov.testing.repository.PlayerRepository;
+import com.ynov.testing.service.EventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks of the EventService hot paths
+ *
+ * The teaser is generated for a match between two seeded teams, whose rosters are
+ * loaded once from the database. Archiving is a single-shot measurement: the past
+ * events are made active again before each iteration, so every iteration archives
+ * the events of the seeded dataset older than 30 days.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EventServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int players;
+
+    private BenchmarkContext context;
+    private EventService eventService;
+    private Event match;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(players);
+        eventService = context.bean(EventService.class);
+        PlayerRepository playerRepository = context.bean(PlayerRepository.class);
+        match = new Event("Derby", "Season opener", LocalDateTime.now().plusDays(7));
+        match.setCity("Lyon");
+        match.setTeamA(team(playerRepository, 0));
+        match.setTeamB(team(playerRepository, context.teams() - 1));
+    }
+
+    @Setup(Level.Iteration)
+    public void reactivatePastEvents() {
+        context.reactivatePastEvents();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public String generateTeaser() {
+        return eventService.generateTeaser(match);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public void archiveOldEvents() {
+        eventService.archiveOldEvents();
+    }
+
+    private static Team team(PlayerRepository playerRepository, int team) {
+        Team roster = new Team();
+        roster.setName(BenchmarkContext.teamName(team));
+        roster.setPlayers(playerRepository.findByTeamName(roster.getName()));
+        return roster;
+    }
+}
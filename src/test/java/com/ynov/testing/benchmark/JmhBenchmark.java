@@ -0,0 +1,56 @@
+package com.ynov.testing.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runner of the JMH Benchmarks
+ *
+ * Runs the JMH benchmarks of this package and writes their results as JSON, so
+ * that runs can be compared (for instance with https://jmh.morethan.net/).
+ *
+ * Not part of the regular build: run it with
+ * {@code mvn test -Pbenchmark -Dtest=JmhBenchmark}. Options:
+ * - {@code -Dbenchmark.include=PlayerServiceBenchmark.getPlayersByTeam}: benchmarks to run (regular expression),
+ *   e.g. {@code RepositoryIndexBenchmark} for the repository queries before and after the indexes,
+ *   or {@code PlayerFuzzyNameIndexBenchmark} for the fuzzy name search in 500k players
+ * - {@code -Dbenchmark.players=1000,100000}: dataset sizes (default 1k, 100k and 1M players)
+ * - {@code -Dbenchmark.result=target/jmh-result.json}: JSON result file
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("JMH Benchmarks")
+class JmhBenchmark {
+
+    @Test
+    @DisplayName("Run the service benchmarks and write the results as JSON")
+    void runBenchmarks() throws Exception {
+        File result = new File(System.getProperty("benchmark.result", "target/jmh-result.json"));
+        result.getParentFile().mkdirs();
+        ChainedOptionsBuilder options = new OptionsBuilder()
+            .include(getClass().getPackageName() + "\\."
+                + System.getProperty("benchmark.include", ".*ServiceBenchmark"))
+            .resultFormat(ResultFormatType.JSON)
+            .result(result.getPath());
+        String players = System.getProperty("benchmark.players");
+        if (players != null) {
+            options.param("players", players.split(","));
+        }
+
+        Collection<RunResult> results = new Runner(options.build()).run();
+
+        assertFalse(results.isEmpty(), "No benchmark matched");
+        assertTrue(result.isFile());
+    }
+}
@@ -0,0 +1,111 @@
+package com.ynov.testing.benchmark;
+
+import com.ynov.testing.model.PlayerSnapshot;
+import com.ynov.testing.search.PlayerFuzzyNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks of the PlayerFuzzyNameIndex
+ *
+ * Measures a fuzzy name search in a BK-tree of 500k players, the size the
+ * index is expected to answer in at most 5 ms. Names are made of random
+ * syllables (seeded), so that most first and last names are distinct: a worst
+ * case for the tree compared with the few hundred names of the dataset
+ * generator. With {@code renamed=true}, every player is renamed once before
+ * the measurement, so that the tree has gone through a compaction of the
+ * names nobody uses anymore.
+ *
+ * Run it with {@code -Dbenchmark.include=PlayerFuzzyNameIndexBenchmark}.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PlayerFuzzyNameIndexBenchmark {
+
+    private static final String[] SYLLABLES = {
+        "ba", "be", "bo", "da", "de", "di", "fa", "fe", "ga", "go", "ja", "jo", "ka", "ke", "la", "le",
+        "li", "lo", "ma", "me", "mi", "na", "ne", "no", "pa", "pe", "ra", "re", "ri", "ro", "sa", "se",
+        "so", "ta", "te", "to", "va", "ve", "za", "zo"
+    };
+
+    @Param({"500000"})
+    private int players;
+
+    @Param({"false", "true"})
+    private boolean renamed;
+
+    private PlayerFuzzyNameIndex index;
+    private String[] queries;
+    private int nextQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new PlayerFuzzyNameIndex();
+        for (long id = 1; id <= players; id++) {
+            index.index(player(id, random));
+        }
+        if (renamed) {
+            for (long id = 1; id <= players; id++) {
+                index.index(player(id, random));
+            }
+        }
+        index.markReady();
+        // Misspelled first names: one letter of a random name replaced
+        queries = new String[1024];
+        for (int i = 0; i < queries.length; i++) {
+            char[] name = name(random, 3).toCharArray();
+            name[random.nextInt(name.length)] = (char) ('a' + random.nextInt(26));
+            queries[i] = new String(name);
+        }
+    }
+
+    @Benchmark
+    public List<Long> searchWithinOneEdit() {
+        return index.search(nextQuery(), 1);
+    }
+
+    @Benchmark
+    public List<Long> searchWithinTwoEdits() {
+        return index.search(nextQuery(), 2);
+    }
+
+    private String nextQuery() {
+        nextQuery = (nextQuery + 1) % queries.length;
+        return queries[nextQuery];
+    }
+
+    private static PlayerSnapshot player(long id, Random random) {
+        return new PlayerSnapshot(id, name(random, 3), name(random, 4), "player" + id + "@benchmark.test",
+            25, "Forward", null, null, null, true);
+    }
+
+    private static String name(Random random, int syllables) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return name.toString();
+    }
+}
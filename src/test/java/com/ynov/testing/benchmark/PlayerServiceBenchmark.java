@@ -0,0 +1,91 @@
+package com.ynov.testing.benchmark;
+
+import com.ynov.testing.model.Player;
+import com.ynov.testing.service.PlayerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks of the PlayerService hot paths
+ *
+ * Each benchmark runs against seeded datasets of 1k, 100k and 1M players
+ * (see {@link BenchmarkContext}), with the application configuration: caches,
+ * in-memory indexes and team statistics enabled. Team lookups cycle over every
+ * team so that results are not all served by the same cache entry.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PlayerServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int players;
+
+    private BenchmarkContext context;
+    private PlayerService playerService;
+    private long created;
+    private int nextTeam;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(players);
+        playerService = context.bean(PlayerService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Player createPlayer() {
+        long id = ++created;
+        return playerService.createPlayer(
+            new Player("Bench", "Player" + id, "bench" + id + "@benchmark.test", 25, "Forward"));
+    }
+
+    @Benchmark
+    public List<Player> getPlayersByTeam() {
+        return playerService.getPlayersByTeam(nextTeamName());
+    }
+
+    @Benchmark
+    public List<Player> findPlayersByFullName() {
+        return playerService.findPlayersByFullName("Emma Dubois");
+    }
+
+    @Benchmark
+    public List<Player> getPlayersWithSalaryAbove() {
+        return playerService.getPlayersWithSalaryAbove(115000.0);
+    }
+
+    @Benchmark
+    public Double calculateAverageAgeByTeam() {
+        return playerService.calculateAverageAgeByTeam(nextTeamName());
+    }
+
+    private String nextTeamName() {
+        nextTeam = (nextTeam + 1) % context.teams();
+        return BenchmarkContext.teamName(nextTeam);
+    }
+}
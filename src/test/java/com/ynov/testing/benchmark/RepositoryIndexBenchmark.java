@@ -0,0 +1,143 @@
+package com.ynov.testing.benchmark;
+
+import com.ynov.testing.model.Event;
+import com.ynov.testing.model.Player;
+import com.ynov.testing.model.Team;
+import com.ynov.testing.repository.EventRepository;
+import com.ynov.testing.repository.PlayerRepository;
+import com.ynov.testing.repository.TeamRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks of the repository queries, before and after the indexes
+ *
+ * Runs each repository query against a seeded dataset of 1M players, on the
+ * latest schema with the query indexes of migration V2 ({@code indexed=true})
+ * and without them ({@code indexed=false}: they are dropped once the dataset is
+ * loaded, including the event name key that replaced one of them in V5). The
+ * second-level and query caches are disabled, so every call reaches the
+ * database. Arguments are selective: the indexes are meant for queries
+ * returning a small part of the table.
+ *
+ * Run it with {@code mvn test -Pbenchmark -Dtest=JmhBenchmark
+ * -Dbenchmark.include=RepositoryIndexBenchmark}.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RepositoryIndexBenchmark {
+
+    @Param({"1000000"})
+    private int players;
+
+    /**
+     * Whether the query indexes of migration V2 are kept.
+     */
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private BenchmarkContext context;
+    private PlayerRepository playerRepository;
+    private TeamRepository teamRepository;
+    private EventRepository eventRepository;
+    private LocalDateTime lastWeek;
+    private int nextTeam;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(players,
+            "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+            "--spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        if (!indexed) {
+            JdbcTemplate jdbcTemplate = context.bean(JdbcTemplate.class);
+            jdbcTemplate.execute("ALTER TABLE players DROP CONSTRAINT uk_players_team_jersey");
+            jdbcTemplate.execute("DROP INDEX idx_players_active_team");
+            jdbcTemplate.execute("DROP INDEX idx_players_salary");
+            jdbcTemplate.execute("DROP INDEX idx_events_event_date");
+            jdbcTemplate.execute("ALTER TABLE events DROP CONSTRAINT uk_events_name");
+            jdbcTemplate.execute("DROP INDEX idx_teams_region");
+        }
+        playerRepository = context.bean(PlayerRepository.class);
+        teamRepository = context.bean(TeamRepository.class);
+        eventRepository = context.bean(EventRepository.class);
+        lastWeek = LocalDateTime.now().plusYears(1).minusWeeks(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Player> findByTeamName() {
+        return playerRepository.findByTeamName(nextTeamName());
+    }
+
+    @Benchmark
+    public long countByTeamName() {
+        return playerRepository.countByTeamName(nextTeamName());
+    }
+
+    @Benchmark
+    public boolean existsByJerseyNumberAndTeamName() {
+        return playerRepository.existsByJerseyNumberAndTeamName(7, nextTeamName());
+    }
+
+    @Benchmark
+    public List<Player> findByTeamNameAndActive() {
+        return playerRepository.findByTeamNameAndActive(nextTeamName(), false);
+    }
+
+    @Benchmark
+    public long countByActive() {
+        return playerRepository.countByActive(false);
+    }
+
+    @Benchmark
+    public List<Player> findPlayersWithSalaryAbove() {
+        return playerRepository.findPlayersWithSalaryAbove(250_000.0);
+    }
+
+    @Benchmark
+    public List<Event> findByEventDateAfter() {
+        return eventRepository.findByEventDateAfter(lastWeek);
+    }
+
+    @Benchmark
+    public boolean existsEventByName() {
+        return eventRepository.existsByName("Team-0 vs Team-1 #1");
+    }
+
+    @Benchmark
+    public List<Team> findByRegion() {
+        return teamRepository.findByRegion("BR");
+    }
+
+    private String nextTeamName() {
+        nextTeam = (nextTeam + 1) % context.teams();
+        return BenchmarkContext.teamName(nextTeam);
+    }
+}
@@ -0,0 +1,201 @@
+package com.ynov.testing.benchmark;
+
+import com.ynov.testing.TestingMethodologyApplication;
+import com.ynov.testing.model.Player;
+import com.ynov.testing.repository.PlayerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load Benchmark of the Thread Modes
+ *
+ * Starts the application in platform-thread mode, then in virtual-thread mode
+ * ({@code spring.threads.virtual.enabled}), and drives each with 100, 1,000 and
+ * 10,000 concurrent connections issuing team searches. The caches and read
+ * coalescing are disabled so every request blocks on JDBC. Throughput, p50 and
+ * p99 latency and errors are printed per mode and concurrency level.
+ *
+ * Not part of the regular build: run it with
+ * {@code mvn test -Pbenchmark -Dtest=ThreadModeLoadBenchmark}. 10,000 connections
+ * need about 20,000 file descriptors ({@code ulimit -n}). The levels and timings can
+ * be changed with {@code -Dbenchmark.connections=100,1000},
+ * {@code -Dbenchmark.warmup=5s} and {@code -Dbenchmark.duration=20s}.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Thread Mode Load Benchmark")
+class ThreadModeLoadBenchmark {
+
+    private static final int PLAYERS = 1_000;
+    private static final int TEAMS = 20;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final int[] connectionLevels = Arrays.stream(System.getProperty("benchmark.connections", "100,1000,10000")
+        .split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    private final Duration warmup = DurationStyle.detectAndParse(System.getProperty("benchmark.warmup", "5s"));
+    private final Duration duration = DurationStyle.detectAndParse(System.getProperty("benchmark.duration", "20s"));
+
+    @Test
+    @DisplayName("Compare throughput and p99 latency of platform and virtual request threads")
+    void compareThreadModes() throws Exception {
+        List<Result> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[] {false, true}) {
+            try (ConfigurableApplicationContext context = start(virtualThreads)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                for (int connections : connectionLevels) {
+                    results.add(run(virtualThreads ? "virtual" : "platform", port, connections));
+                }
+            }
+        }
+
+        System.out.printf("%n%-9s %11s %12s %9s %9s %8s%n", "mode", "connections", "requests/s", "p50 ms", "p99 ms", "errors");
+        for (Result result : results) {
+            System.out.printf("%-9s %11d %12.0f %9.1f %9.1f %8d%n", result.mode(), result.connections(),
+                result.throughput(), result.p50Millis(), result.p99Millis(), result.errors());
+        }
+        assertTrue(results.stream().allMatch(result -> result.throughput() > 0));
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TestingMethodologyApplication.class)
+            .profiles("test")
+            .properties(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "spring.datasource.url=jdbc:h2:mem:benchmark-" + (virtualThreads ? "virtual" : "platform"),
+                "server.tomcat.max-connections=20000",
+                "server.tomcat.accept-count=10000",
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                "app.search-cache.max-entries=0",
+                "app.coalescing.enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.com.ynov.testing=WARN")
+            .run();
+        PlayerRepository playerRepository = context.getBean(PlayerRepository.class);
+        playerRepository.saveAll(IntStream.range(0, PLAYERS)
+            .mapToObj(i -> new Player("First" + i, "Last" + i, "player" + i + "@benchmark.test", 18 + i % 20,
+                "Forward", teamName(i % TEAMS), i % 99 + 1, 30000.0 + i, true))
+            .toList());
+        return context;
+    }
+
+    private Result run(String mode, int port, int connections) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+        long measureStart = System.nanoTime() + warmup.toNanos();
+        long measureEnd = measureStart + duration.toNanos();
+        List<Future<Recorder>> workers = new ArrayList<>(connections);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                URI uri = URI.create("http://localhost:" + port + "/api/players/search/team/" + teamName(i % TEAMS));
+                workers.add(executor.submit(() -> drive(client, uri, measureStart, measureEnd)));
+            }
+            Recorder total = new Recorder();
+            for (Future<Recorder> worker : workers) {
+                total.merge(worker.get());
+            }
+            return total.result(mode, connections, duration);
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * Issue requests over one connection until the end of the measurement,
+     * recording the latencies after the warmup.
+     */
+    private static Recorder drive(HttpClient client, URI uri, long measureStart, long measureEnd) {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+        Recorder recorder = new Recorder();
+        long now = System.nanoTime();
+        while (now < measureEnd) {
+            long start = now;
+            boolean success;
+            try {
+                success = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (Exception e) {
+                success = false;
+            }
+            now = System.nanoTime();
+            if (start >= measureStart && now <= measureEnd) {
+                recorder.record(now - start, success);
+            }
+        }
+        return recorder;
+    }
+
+    private static String teamName(int team) {
+        return "Team-" + team;
+    }
+
+    /**
+     * Latencies of successful requests and error count, of one worker or merged.
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void record(long latencyNanos, boolean success) {
+            if (!success) {
+                errors++;
+                return;
+            }
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+        }
+
+        void merge(Recorder other) {
+            if (size + other.size > latencies.length) {
+                latencies = Arrays.copyOf(latencies, size + other.size);
+            }
+            System.arraycopy(other.latencies, 0, latencies, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        Result result(String mode, int connections, Duration duration) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new Result(mode, connections, size / (duration.toNanos() / 1e9),
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99), errors);
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+
+    private record Result(String mode, int connections, double throughput, double p50Millis, double p99Millis,
+                          long errors) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.ynov.testing.cache;
+
+import com.ynov.testing.model.PlayerSnapshot;
+import com.ynov.testing.service.PlayerChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for PlayerSearchCache
+ *
+ * These tests check that a player change only invalidates the searches whose
+ * result it can change, and that results loaded during an invalidation are not kept.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Player Search Cache Unit Tests")
+class PlayerSearchCacheTest {
+
+    private static final PlayerSearchKey TEAM_A = new PlayerSearchKey.Team("Team A");
+    private static final PlayerSearchKey TEAM_B = new PlayerSearchKey.Team("Team B");
+    private static final PlayerSearchKey TEAM_C = new PlayerSearchKey.Team("Team C");
+    private static final PlayerSearchKey FORWARD = new PlayerSearchKey.Position("Forward");
+    private static final PlayerSearchKey AGE_20_25 = new PlayerSearchKey.AgeRange(20, 25);
+    private static final PlayerSearchKey AGE_26_30 = new PlayerSearchKey.AgeRange(26, 30);
+    private static final PlayerSearchKey AGE_31_40 = new PlayerSearchKey.AgeRange(31, 40);
+    private static final PlayerSearchKey SALARY_40K = new PlayerSearchKey.SalaryAbove(40000.0);
+    private static final PlayerSearchKey SALARY_60K = new PlayerSearchKey.SalaryAbove(60000.0);
+
+    private PlayerSearchCache cache;
+    private PlayerSnapshot player;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PlayerSearchCache(100, Duration.ofMinutes(5));
+        player = player("Team A", "Forward", 24, 50000.0);
+        for (PlayerSearchKey key : List.of(TEAM_A, TEAM_B, TEAM_C, FORWARD, AGE_20_25, AGE_26_30, AGE_31_40,
+                SALARY_40K, SALARY_60K)) {
+            cache.put(key, List.of(1L), cache.stamp(key));
+        }
+    }
+
+    @Test
+    @DisplayName("Should only invalidate the old and new team when a player changes team")
+    void onPlayerChanged_WithTeamChange_ShouldInvalidateOldAndNewTeam() {
+        // When
+        cache.onPlayerChanged(PlayerChangedEvent.updated(player, player("Team B", "Forward", 24, 50000.0)));
+
+        // Then
+        assertTrue(cache.get(TEAM_A).isEmpty());
+        assertTrue(cache.get(TEAM_B).isEmpty());
+        assertTrue(cache.get(TEAM_C).isPresent());
+        assertTrue(cache.get(FORWARD).isPresent());
+        assertTrue(cache.get(AGE_20_25).isPresent());
+        assertTrue(cache.get(SALARY_40K).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should keep every search when no searched attribute changes")
+    void onPlayerChanged_WithUnsearchedChange_ShouldKeepEverySearch() {
+        // Given
+        PlayerSnapshot renamed = new PlayerSnapshot(1L, "Johnny", "Doe", "john.doe@example.com",
+            24, "Forward", "Team A", 10, 50000.0, false);
+
+        // When
+        cache.onPlayerChanged(PlayerChangedEvent.updated(player, renamed));
+
+        // Then
+        assertEquals(9, cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("Should invalidate the age ranges containing the old or new age, and the salaries below them")
+    void onPlayerChanged_WithAgeAndSalaryChange_ShouldInvalidateAffectedRanges() {
+        // When
+        cache.onPlayerChanged(PlayerChangedEvent.updated(player, player("Team A", "Forward", 33, 45000.0)));
+
+        // Then
+        assertTrue(cache.get(AGE_20_25).isEmpty());
+        assertTrue(cache.get(AGE_26_30).isPresent());
+        assertTrue(cache.get(AGE_31_40).isEmpty());
+        assertTrue(cache.get(SALARY_40K).isEmpty());
+        assertTrue(cache.get(SALARY_60K).isPresent());
+        assertTrue(cache.get(TEAM_A).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should not cache a result loaded while an invalidation ran")
+    void put_AfterInvalidation_ShouldBeIgnored() {
+        // Given
+        cache.clear();
+        long stamp = cache.stamp(TEAM_A);
+
+        // When
+        cache.onPlayerChanged(PlayerChangedEvent.deleted(player));
+        cache.put(TEAM_A, List.of(1L), stamp);
+        cache.put(TEAM_B, List.of(2L), cache.stamp(TEAM_B));
+
+        // Then
+        assertTrue(cache.get(TEAM_A).isEmpty());
+        assertEquals(Optional.of(List.of(2L)), cache.get(TEAM_B));
+        assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    @DisplayName("Should keep a result loaded while an unrelated search was invalidated")
+    void put_AfterUnrelatedInvalidation_ShouldBeKept() {
+        // Given
+        cache.clear();
+        long teamStamp = cache.stamp(TEAM_B);
+        long ageStamp = cache.stamp(AGE_26_30);
+
+        // When - Team A, Forward and the ranges containing age 24 or below 50k are invalidated
+        cache.onPlayerChanged(PlayerChangedEvent.deleted(player));
+        cache.put(TEAM_B, List.of(2L), teamStamp);
+        cache.put(AGE_26_30, List.of(2L), ageStamp);
+
+        // Then - team searches are scoped by key, range searches share a stamp
+        assertEquals(Optional.of(List.of(2L)), cache.get(TEAM_B));
+        assertTrue(cache.get(AGE_26_30).isEmpty());
+    }
+
+    private static PlayerSnapshot player(String teamName, String position, int age, double salary) {
+        return new PlayerSnapshot(1L, "John", "Doe", "john.doe@example.com",
+            age, position, teamName, 10, salary, true);
+    }
+}
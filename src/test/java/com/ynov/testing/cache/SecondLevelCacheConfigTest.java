@@ -0,0 +1,86 @@
+package com.ynov.testing.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for SecondLevelCacheConfig
+ *
+ * These tests check that every cache region is created with its own bounds,
+ * falling back to the default bounds, and that the update timestamps region
+ * is never bounded.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Second-Level Cache Config Unit Tests")
+class SecondLevelCacheConfigTest {
+
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply per-region bounds and fall back to the defaults")
+    void hibernateCacheManager_ShouldCreateBoundedRegions() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("app.cache.default.max-size", "200")
+            .withProperty("app.cache.default.expire-after-write", "1m")
+            .withProperty("app.cache.regions.player.max-size", "5000")
+            .withProperty("app.cache.regions.player.expire-after-write", "30s");
+
+        // When
+        cacheManager = new SecondLevelCacheConfig().hibernateCacheManager(environment);
+
+        // Then
+        CaffeineConfiguration<?, ?> player = configuration(CacheRegions.PLAYER);
+        assertEquals(OptionalLong.of(5000), player.getMaximumSize());
+        assertEquals(OptionalLong.of(Duration.ofSeconds(30).toNanos()), player.getExpireAfterWrite());
+
+        CaffeineConfiguration<?, ?> team = configuration(CacheRegions.TEAM);
+        assertEquals(OptionalLong.of(200), team.getMaximumSize());
+        assertEquals(OptionalLong.of(Duration.ofMinutes(1).toNanos()), team.getExpireAfterWrite());
+
+        CaffeineConfiguration<?, ?> timestamps = configuration(CacheRegions.UPDATE_TIMESTAMPS);
+        assertTrue(timestamps.getMaximumSize().isEmpty());
+        assertTrue(timestamps.getExpireAfterWrite().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should create every region in its own cache manager")
+    void hibernateCacheManager_ShouldCreateAllRegionsPerContext() {
+        // When
+        cacheManager = new SecondLevelCacheConfig().hibernateCacheManager(new MockEnvironment());
+        CacheManager other = new SecondLevelCacheConfig().hibernateCacheManager(new MockEnvironment());
+
+        // Then
+        try {
+            assertNotSame(cacheManager, other);
+            for (String region : CacheRegions.ALL) {
+                assertNotNull(cacheManager.getCache(region), region);
+            }
+        } finally {
+            other.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private CaffeineConfiguration<?, ?> configuration(String region) {
+        return cacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+    }
+}
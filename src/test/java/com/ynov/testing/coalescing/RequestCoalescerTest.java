@@ -0,0 +1,273 @@
+package com.ynov.testing.coalescing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for RequestCoalescer
+ *
+ * These tests check that identical concurrent reads share one execution,
+ * that waiting callers load their own copy of a shared result, that waiting
+ * is bounded by the operation timeout, and that errors reach every coalesced caller.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Request Coalescer Unit Tests")
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RequestCoalescer coalescer;
+    private ExecutorService executor;
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("app.coalescing.timeouts.slow", "50ms");
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        coalescer = new RequestCoalescer(true, Duration.ofSeconds(5), environment,
+            beanFactory.getBeanProvider(MeterRegistry.class));
+        executor = Executors.newFixedThreadPool(CALLERS, task -> {
+            Thread thread = new Thread(task);
+            threads.add(thread);
+            return thread;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should execute identical concurrent reads once and share the result")
+    void execute_WithIdenticalConcurrentCalls_ShouldShareOneExecution() throws Exception {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<String>> leader = executor.submit(() -> coalescer.execute("roster", "T1", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return List.of("John", "Jane");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        List<Future<List<String>>> followers = new ArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            followers.add(executor.submit(() -> coalescer.execute("roster", "T1", () -> {
+                executions.incrementAndGet();
+                return List.of("unexpected");
+            })));
+        }
+        waitForWaitingCallers(CALLERS - 1);
+        release.countDown();
+
+        // Then
+        assertEquals(List.of("John", "Jane"), leader.get(5, TimeUnit.SECONDS));
+        for (Future<List<String>> follower : followers) {
+            assertSame(leader.get(), follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        CoalescingStats stats = coalescer.stats().get("roster");
+        assertEquals(1, stats.executions());
+        assertEquals(CALLERS - 1, stats.coalesced());
+        assertEquals((double) (CALLERS - 1) / CALLERS, stats.coalescingRatio(), 1e-9);
+        assertEquals(CALLERS - 1, meterRegistry.get("app.coalescing.calls")
+            .tag("operation", "roster").tag("outcome", "coalesced").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should let waiting callers load their own copy of the shared result")
+    void execute_WithSharedForm_ShouldLoadResultForFollowers() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<StringBuilder>> leader = executor.submit(() -> coalescer.execute("roster", "T1", () -> {
+            started.countDown();
+            await(release);
+            return List.of(new StringBuilder("John"));
+        }, names -> names.stream().map(StringBuilder::toString).toList(), names -> {
+            loads.incrementAndGet();
+            return names.stream().map(StringBuilder::new).toList();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<List<StringBuilder>> follower = executor.submit(() -> coalescer.execute("roster", "T1",
+            () -> List.of(new StringBuilder("unexpected")),
+            names -> names.stream().map(StringBuilder::toString).toList(), names -> {
+                loads.incrementAndGet();
+                return names.stream().map(StringBuilder::new).toList();
+            }));
+        waitForWaitingCallers(1);
+
+        // When
+        release.countDown();
+
+        // Then
+        List<StringBuilder> leaderResult = leader.get(5, TimeUnit.SECONDS);
+        List<StringBuilder> followerResult = follower.get(5, TimeUnit.SECONDS);
+        assertEquals("John", followerResult.get(0).toString());
+        assertNotSame(leaderResult.get(0), followerResult.get(0));
+        assertEquals(1, loads.get());
+        assertEquals(1, coalescer.stats().get("roster").coalesced());
+    }
+
+    @Test
+    @DisplayName("Should not join a read that started before the caller's transaction")
+    void execute_WhenFlightPrecedesTransaction_ShouldExecuteItself() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> coalescer.execute("roster", "T1", () -> {
+            started.countDown();
+            await(release);
+            return "before";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        String result;
+        try {
+            result = coalescer.execute("roster", "T1", () -> "own");
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clear();
+        }
+        release.countDown();
+
+        // Then
+        assertEquals("own", result);
+        assertEquals("before", leader.get(5, TimeUnit.SECONDS));
+        CoalescingStats stats = coalescer.stats().get("roster");
+        assertEquals(2, stats.executions());
+        assertEquals(0, stats.coalesced());
+        assertEquals(0, stats.timeouts());
+        assertTrue(TransactionSynchronizationManager.getResourceMap().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should expose the counters as meters tagged with operation and outcome")
+    void execute_ShouldRegisterCountersAsMeters() {
+        // When
+        coalescer.execute("roster", "T1", () -> "T1");
+        coalescer.execute("roster", "T2", () -> "T2");
+
+        // Then
+        assertEquals(2, meterRegistry.get("app.coalescing.calls")
+            .tag("operation", "roster").tag("outcome", "executed").functionCounter().count());
+        assertEquals(0, meterRegistry.get("app.coalescing.calls")
+            .tag("operation", "roster").tag("outcome", "coalesced").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should execute reads with different arguments separately")
+    void execute_WithDifferentArguments_ShouldNotCoalesce() {
+        assertEquals("T1", coalescer.execute("roster", "T1", () -> "T1"));
+        assertEquals("T2", coalescer.execute("roster", "T2", () -> "T2"));
+        assertEquals("T1", coalescer.execute("roster", "T1", () -> "T1"));
+
+        assertEquals(3, coalescer.stats().get("roster").executions());
+        assertEquals(0, coalescer.stats().get("roster").coalesced());
+    }
+
+    @Test
+    @DisplayName("Should execute the read itself after the operation timeout")
+    void execute_WhenWaitingTooLong_ShouldFallBackToOwnExecution() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> coalescer.execute("slow", 1, () -> {
+            started.countDown();
+            await(release);
+            return "leader";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        String result = coalescer.execute("slow", 1, () -> "own");
+        release.countDown();
+
+        // Then
+        assertEquals("own", result);
+        assertEquals("leader", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, coalescer.stats().get("slow").timeouts());
+    }
+
+    @Test
+    @DisplayName("Should rethrow the error of the shared execution to every caller")
+    void execute_WhenSharedExecutionFails_ShouldRethrowToFollowers() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> leader = executor.submit(() -> coalescer.execute("failing", 1, () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalArgumentException("Team not found");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Object> follower = executor.submit(() -> coalescer.execute("failing", 1, () -> "unexpected"));
+        waitForWaitingCallers(1);
+
+        // When
+        release.countDown();
+
+        // Then
+        Exception exception = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, coalescer.stats().get("failing").executions());
+    }
+
+    /**
+     * Wait until the given number of callers block on the execution in flight
+     * (the leader, blocked on its latch, is waiting too).
+     */
+    private void waitForWaitingCallers(int callers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (threads.stream().filter(thread -> thread.getState() == Thread.State.TIMED_WAITING).count() < callers + 1) {
+            assertTrue(System.nanoTime() < deadline, "Callers did not join the execution in flight");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,20 +1,31 @@
 package com.ynov.testing.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ynov.testing.health.HealthMonitor;
+import com.ynov.testing.health.HealthSnapshot;
+import com.ynov.testing.health.PoolStatus;
 import com.ynov.testing.model.Player;
+import com.ynov.testing.model.TeamStats;
+import com.ynov.testing.search.PlayerSuggestion;
+import com.ynov.testing.service.PlayerBatchResult;
+import com.ynov.testing.service.PlayerLookupResult;
 import com.ynov.testing.service.PlayerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 // Imports Hamcrest pour les matchers JSON
 import static org.hamcrest.Matchers.hasSize;
@@ -23,9 +34,14 @@ import static org.hamcrest.Matchers.notNullValue;
 
 // Imports Mockito pour les mocks et argument matchers
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 // Imports Spring Test pour MockMvc
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -59,6 +75,9 @@ class PlayerControllerTest {
     @MockitoBean
     private PlayerService playerService;
 
+    @MockitoBean
+    private HealthMonitor healthMonitor;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -103,6 +122,61 @@ class PlayerControllerTest {
         verify(playerService).getAllPlayers();
     }
 
+    @Test
+    @DisplayName("GET /api/players with NDJSON accept header should stream one player per line")
+    void streamAllPlayers_ShouldReturnNdjson() throws Exception {
+        // Given
+        Player otherPlayer = createPlayer(2L, "Jane", "Smith", "jane.smith@example.com", 23, "Midfielder");
+        when(playerService.streamAllPlayers(any())).thenAnswer(invocation -> {
+            Consumer<Player> consumer = invocation.getArgument(0);
+            consumer.accept(savedPlayer);
+            consumer.accept(otherPlayer);
+            return 2L;
+        });
+
+        // When
+        var asyncResult = mockMvc.perform(get("/api/players")
+                        .accept(PlayerController.APPLICATION_NDJSON_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PlayerController.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string(containsString("\"email\":\"jane.smith@example.com\"")))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        verify(playerService).streamAllPlayers(any());
+        verify(playerService, never()).getAllPlayers();
+    }
+
+    @Test
+    @DisplayName("GET /api/players?ids= should return players in request order with missing IDs")
+    void getPlayersByIds_ShouldReturnPlayersAndMissingIds() throws Exception {
+        // Given
+        Player otherPlayer = createPlayer(2L, "Jane", "Smith", "jane.smith@example.com", 23, "Midfielder");
+        when(playerService.getPlayersByIds(List.of(2L, 1L, 3L)))
+                .thenReturn(new PlayerLookupResult(List.of(otherPlayer, savedPlayer), List.of(3L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/players").param("ids", "2,1,3"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.players", hasSize(2)))
+                .andExpect(jsonPath("$.players[0].id", is(2)))
+                .andExpect(jsonPath("$.players[1].id", is(1)))
+                .andExpect(jsonPath("$.missingIds[0]", is(3)));
+
+        verify(playerService).getPlayersByIds(List.of(2L, 1L, 3L));
+        verify(playerService, never()).getAllPlayers();
+    }
+
     @Test
     @DisplayName("GET /api/players/{id} should return player when exists")
     void getPlayerById_WithExistingId_ShouldReturnPlayer() throws Exception {
@@ -207,6 +281,33 @@ class PlayerControllerTest {
         verify(playerService).createPlayer(any(Player.class));
     }
 
+    @Test
+    @DisplayName("POST /api/players/batch should return per-player results")
+    void createPlayers_ShouldReturnPerPlayerResults() throws Exception {
+        // Given
+        Player duplicate = new Player("John", "Doe", "john.doe@example.com", 25, "Forward");
+        when(playerService.createPlayers(anyList())).thenReturn(List.of(
+                new PlayerBatchResult(0, PlayerBatchResult.Status.CREATED, 1L, "john.doe@example.com", null),
+                new PlayerBatchResult(1, PlayerBatchResult.Status.REJECTED, null, "john.doe@example.com",
+                        "Player with email john.doe@example.com already exists")));
+
+        // When & Then
+        mockMvc.perform(post("/api/players/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(testPlayer, duplicate))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.rejected", is(1)))
+                .andExpect(jsonPath("$.results[0].status", is("CREATED")))
+                .andExpect(jsonPath("$.results[0].id", is(1)))
+                .andExpect(jsonPath("$.results[1].status", is("REJECTED")))
+                .andExpect(jsonPath("$.results[1].error", is("Player with email john.doe@example.com already exists")));
+
+        verify(playerService).createPlayers(anyList());
+    }
+
     @Test
     @DisplayName("PUT /api/players/{id} should update player successfully")
     void updatePlayer_WithValidData_ShouldReturnUpdatedPlayer() throws Exception {
@@ -260,6 +361,62 @@ class PlayerControllerTest {
         verify(playerService).updatePlayer(eq(playerId), any(Player.class));
     }
 
+    @Test
+    @DisplayName("PATCH /api/players/{id} should apply a merge patch")
+    void patchPlayer_WithMergePatch_ShouldReturnUpdatedPlayer() throws Exception {
+        // Given
+        savedPlayer.setSalary(75000.0);
+        when(playerService.patchPlayer(eq(1L), argThat(patch -> Optional.of(75000.0).equals(patch.getSalary())
+                && patch.getEmail() == null))).thenReturn(savedPlayer);
+
+        // When & Then
+        mockMvc.perform(patch("/api/players/{id}", 1L)
+                        .contentType(PlayerController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"salary\": 75000}"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.salary", is(75000.0)));
+
+        verify(playerService).patchPlayer(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/players/{id} should reject invalid values and unknown fields")
+    void patchPlayer_WithInvalidPatch_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/players/{id}", 1L)
+                        .contentType(PlayerController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"age\": 200}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/players/{id}", 1L)
+                        .contentType(PlayerController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"firstName\": null}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/players/{id}", 1L)
+                        .contentType(PlayerController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"id\": 5}"))
+                .andExpect(status().isBadRequest());
+
+        verify(playerService, never()).patchPlayer(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/players/{id} should return 409 on version conflict")
+    void patchPlayer_WithStaleVersion_ShouldReturn409() throws Exception {
+        // Given
+        when(playerService.patchPlayer(eq(1L), any()))
+                .thenThrow(new OptimisticLockingFailureException("stale"));
+
+        // When & Then
+        mockMvc.perform(patch("/api/players/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"salary\": 75000, \"version\": 1}"))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error", is("Player was modified concurrently")));
+    }
+
     @Test
     @DisplayName("DELETE /api/players/{id} should delete player successfully")
     void deletePlayer_WithExistingId_ShouldReturnSuccessMessage() throws Exception {
@@ -335,6 +492,60 @@ class PlayerControllerTest {
         verify(playerService).getPlayersByPosition(position);
     }
 
+    @Test
+    @DisplayName("GET /api/players/search/name with fuzzy should use the fuzzy search")
+    void searchPlayersByFullName_WithFuzzy_ShouldReturnFuzzyMatches() throws Exception {
+        // Given
+        when(playerService.findPlayersByFullName("Jhon Doe", 2)).thenReturn(List.of(savedPlayer));
+
+        // When & Then
+        mockMvc.perform(get("/api/players/search/name").param("fullName", "Jhon Doe").param("fuzzy", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(1)));
+
+        verify(playerService).findPlayersByFullName("Jhon Doe", 2);
+        verify(playerService, never()).findPlayersByFullName(anyString());
+    }
+
+    @Test
+    @DisplayName("GET /api/players/stats/teams should return the statistics of every team")
+    void getTeamStatistics_ShouldReturnStatistics() throws Exception {
+        // Given
+        when(playerService.getTeamStatistics())
+            .thenReturn(List.of(new TeamStats("Test Team", 2, 50, 90000.0, 1)));
+
+        // When & Then
+        mockMvc.perform(get("/api/players/stats/teams"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].teamName", is("Test Team")))
+                .andExpect(jsonPath("$[0].playerCount", is(2)))
+                .andExpect(jsonPath("$[0].averageAge", is(25.0)))
+                .andExpect(jsonPath("$[0].averageSalary", is(45000.0)))
+                .andExpect(jsonPath("$[0].activeCount", is(1)));
+
+        verify(playerService).getTeamStatistics();
+    }
+
+    @Test
+    @DisplayName("GET /api/players/search/suggest should return ranked suggestions")
+    void suggestPlayers_ShouldReturnSuggestions() throws Exception {
+        // Given
+        when(playerService.suggest("te", 10))
+            .thenReturn(List.of(new PlayerSuggestion("Test Team", "teamName", 3, 2)));
+
+        // When & Then
+        mockMvc.perform(get("/api/players/search/suggest").param("prefix", "te"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].text", is("Test Team")))
+                .andExpect(jsonPath("$[0].field", is("teamName")))
+                .andExpect(jsonPath("$[0].activePlayers", is(2)));
+
+        verify(playerService).suggest("te", 10);
+    }
+
     @Test
     @DisplayName("GET /api/players/search/age should return players by age range")
     void getPlayersByAgeRange_ShouldReturnPlayersInRange() throws Exception {
@@ -419,10 +630,9 @@ class PlayerControllerTest {
     @DisplayName("GET /api/players/health should return service health status")
     void healthCheck_ShouldReturnHealthStatus() throws Exception {
         // Given
-        List<Player> allPlayers = Arrays.asList(savedPlayer,
-                createPlayer(2L, "Jane", "Smith", "jane@example.com", 23, "Midfielder"));
-        when(playerService.getAllPlayers()).thenReturn(allPlayers);
-        when(playerService.countActivePlayers()).thenReturn(2L);
+        HealthSnapshot snapshot = new HealthSnapshot(true, null, 120, 2, 2, Instant.now());
+        when(healthMonitor.snapshot()).thenReturn(snapshot);
+        when(healthMonitor.isReady(eq(snapshot), any())).thenReturn(true);
 
         // When & Then
         mockMvc.perform(get("/api/players/health"))
@@ -434,8 +644,37 @@ class PlayerControllerTest {
                 .andExpect(jsonPath("$.totalPlayers", is(2)))
                 .andExpect(jsonPath("$.activePlayers", is(2)));
 
-        verify(playerService).getAllPlayers();
-        verify(playerService).countActivePlayers();
+        verify(playerService, never()).getAllPlayers();
+        verifyNoInteractions(playerService);
+    }
+
+    @Test
+    @DisplayName("GET /api/players/health/live should report UP without any check")
+    void liveness_ShouldReturnUp() throws Exception {
+        mockMvc.perform(get("/api/players/health/live"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("UP")));
+
+        verifyNoInteractions(healthMonitor, playerService);
+    }
+
+    @Test
+    @DisplayName("GET /api/players/health/ready should return 503 when the pool is saturated")
+    void readiness_WithSaturatedPool_ShouldReturn503() throws Exception {
+        // Given
+        HealthSnapshot snapshot = new HealthSnapshot(true, null, 120, 5, 4, Instant.now());
+        PoolStatus pool = new PoolStatus(10, 0, 10, 10, 3);
+        when(healthMonitor.snapshot()).thenReturn(snapshot);
+        when(healthMonitor.poolStatus()).thenReturn(pool);
+        when(healthMonitor.isReady(snapshot, pool)).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(get("/api/players/health/ready"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status", is("DOWN")))
+                .andExpect(jsonPath("$.database.status", is("UP")))
+                .andExpect(jsonPath("$.pool.awaiting", is(3)))
+                .andExpect(jsonPath("$.totalPlayers", is(5)));
     }
 
     // Helper method to create test players
@@ -0,0 +1,65 @@
+package com.ynov.testing.controller;
+
+import com.ynov.testing.service.PlayerService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit Tests for TeamController
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@WebMvcTest(TeamController.class)
+@DisplayName("Team Controller Unit Tests")
+class TeamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PlayerService playerService;
+
+    @Test
+    @DisplayName("GET /api/teams/{name}/free-jerseys should return the free jersey numbers")
+    void getFreeJerseyNumbers_ShouldReturnFreeNumbers() throws Exception {
+        // Given
+        when(playerService.getFreeJerseyNumbers("T1")).thenReturn(List.of(1, 2, 3));
+
+        // When & Then
+        mockMvc.perform(get("/api/teams/{name}/free-jerseys", "T1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.teamName", is("T1")))
+                .andExpect(jsonPath("$.freeJerseyNumbers", hasSize(3)))
+                .andExpect(jsonPath("$.count", is(3)));
+
+        verify(playerService).getFreeJerseyNumbers("T1");
+    }
+
+    @Test
+    @DisplayName("GET /api/teams/{name}/free-jerseys should return 400 for a blank team name")
+    void getFreeJerseyNumbers_WithBlankName_ShouldReturn400() throws Exception {
+        // Given
+        when(playerService.getFreeJerseyNumbers(" "))
+            .thenThrow(new IllegalArgumentException("Team name cannot be null or empty"));
+
+        // When & Then
+        mockMvc.perform(get("/api/teams/{name}/free-jerseys", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Invalid team name")));
+    }
+}
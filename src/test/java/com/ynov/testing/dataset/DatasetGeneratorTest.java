@@ -0,0 +1,96 @@
+package com.ynov.testing.dataset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration Tests for DatasetGenerator
+ *
+ * These tests load a small dataset into the schema of the Flyway migrations
+ * and check the row counts and the references between tables. The generator
+ * writes on its own connections, so the tests run outside of a transaction and
+ * empty the tables afterwards.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@JdbcTest
+@Import(DatasetGenerator.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Dataset Generator Integration Tests")
+class DatasetGeneratorTest {
+
+    private static final int PLAYERS = 12_000;
+    private static final int EVENTS = 1_500;
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM events");
+        jdbcTemplate.execute("DELETE FROM players");
+        jdbcTemplate.execute("DELETE FROM teams");
+    }
+
+    @Test
+    @DisplayName("Should insert the rows of the spec, over several chunks")
+    void generate_ShouldInsertRowsOfSpec() {
+        // When
+        DatasetSummary summary = datasetGenerator.generate(new DatasetSpec(PLAYERS, EVENTS, DatasetSpec.DEFAULT_SEED));
+
+        // Then
+        assertEquals(PLAYERS, summary.players());
+        assertEquals(EVENTS, summary.events());
+        assertEquals(PLAYERS, count("SELECT COUNT(*) FROM players"));
+        assertEquals(summary.teams(), count("SELECT COUNT(*) FROM teams"));
+        assertEquals(EVENTS, count("SELECT COUNT(*) FROM events"));
+        assertEquals(PLAYERS, count("SELECT COUNT(DISTINCT email_key) FROM players"));
+    }
+
+    @Test
+    @DisplayName("Should only reference existing teams, with unique jersey numbers per team")
+    void generate_ShouldKeepReferencesConsistent() {
+        // When
+        datasetGenerator.generate(new DatasetSpec(PLAYERS, EVENTS, DatasetSpec.DEFAULT_SEED));
+
+        // Then
+        assertEquals(0, count("SELECT COUNT(*) FROM players p LEFT JOIN teams t ON t.name = p.team_name "
+            + "WHERE t.id IS NULL"));
+        assertEquals(0, count("SELECT COUNT(*) FROM events e LEFT JOIN teams a ON a.id = e.team_a_id "
+            + "LEFT JOIN teams b ON b.id = e.team_b_id WHERE a.id IS NULL OR b.id IS NULL"));
+        assertEquals(0, count("SELECT COUNT(*) FROM (SELECT team_name, jersey_number FROM players "
+            + "GROUP BY team_name, jersey_number HAVING COUNT(*) > 1)"));
+    }
+
+    @Test
+    @DisplayName("Should refuse to load into tables that already contain data")
+    void generate_WithExistingRows_ShouldThrowException() {
+        // Given
+        DatasetSpec spec = new DatasetSpec(100, 10, DatasetSpec.DEFAULT_SEED);
+        datasetGenerator.generate(spec);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> datasetGenerator.generate(spec));
+        assertEquals(100, count("SELECT COUNT(*) FROM players"));
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,95 @@
+package com.ynov.testing.dataset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for DatasetPlan
+ *
+ * These tests check the invariants of the generated rows: unique emails,
+ * unique jersey numbers per team, skewed team sizes, event dates on both
+ * sides of the reference time, and determinism per chunk.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Dataset Plan Unit Tests")
+class DatasetPlanTest {
+
+    private static final LocalDateTime REFERENCE = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final int PLAYERS = 20_000;
+
+    private final DatasetPlan plan = new DatasetPlan(DatasetSpec.ofPlayers(PLAYERS), REFERENCE);
+
+    @Test
+    @DisplayName("Should place every player in exactly one team of valid size")
+    void teams_ShouldCoverAllPlayers() {
+        int total = 0;
+        int smallest = Integer.MAX_VALUE;
+        int largest = 0;
+        for (int team = 0; team < plan.teams(); team++) {
+            int size = plan.teamSize(team);
+            assertTrue(size >= 1 && size <= DatasetPlan.MAX_TEAM_SIZE);
+            total += size;
+            if (team < plan.teams() - 1) {
+                smallest = Math.min(smallest, size);
+            }
+            largest = Math.max(largest, size);
+        }
+
+        assertEquals(PLAYERS, total);
+        assertEquals(DatasetPlan.MIN_TEAM_SIZE, smallest);
+        assertTrue(largest > 4 * smallest, "Team sizes should be skewed");
+    }
+
+    @Test
+    @DisplayName("Should generate unique emails and unique jersey numbers per team")
+    void players_ShouldBeUnique() {
+        Set<String> emails = new HashSet<>();
+        Set<String> jerseys = new HashSet<>();
+        Random random = plan.chunkRandom("players", 0);
+        for (int player = 0; player < PLAYERS; player++) {
+            Object[] row = plan.player(player, random);
+            int jersey = (Integer) row[7];
+
+            assertTrue(emails.add((String) row[3]), "Duplicate email " + row[3]);
+            assertTrue(jerseys.add(row[6] + "#" + jersey), "Duplicate jersey " + row[6] + "#" + jersey);
+            assertTrue(jersey >= 1 && jersey <= 99);
+            assertEquals(DatasetPlan.teamName(plan.teamOf(player)), row[6]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should spread event dates over the past and the future between distinct teams")
+    void events_ShouldSpreadDates() {
+        int past = 0;
+        Random random = plan.chunkRandom("events", 0);
+        for (int event = 0; event < plan.events(); event++) {
+            Object[] row = plan.event(event, random);
+            if (((Timestamp) row[2]).toLocalDateTime().isBefore(REFERENCE)) {
+                past++;
+            }
+            assertNotEquals(row[5], row[6]);
+        }
+
+        assertTrue(past > 0 && past < plan.events());
+    }
+
+    @Test
+    @DisplayName("Should generate the same rows for the same seed and chunk")
+    void player_WithSameSeed_ShouldBeDeterministic() {
+        DatasetPlan other = new DatasetPlan(DatasetSpec.ofPlayers(PLAYERS), REFERENCE);
+
+        assertEquals(plan.teams(), other.teams());
+        assertArrayEquals(plan.player(1234, plan.chunkRandom("players", 0)),
+            other.player(1234, other.chunkRandom("players", 0)));
+    }
+}
@@ -0,0 +1,110 @@
+package com.ynov.testing.health;
+
+import com.ynov.testing.repository.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Tests for HealthMonitor
+ *
+ * These tests check the background refresh of the health snapshot and the
+ * readiness rules (database reachable, fresh check, pool not saturated).
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Health Monitor Unit Tests")
+class HealthMonitorTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    private HealthMonitor healthMonitor;
+
+    @BeforeEach
+    void setUp() {
+        healthMonitor = new HealthMonitor(dataSource, playerRepository, 5000);
+    }
+
+    @Test
+    @DisplayName("Should not be ready before the first check")
+    void isReady_BeforeFirstRefresh_ShouldReturnFalse() {
+        assertFalse(healthMonitor.isReady(healthMonitor.snapshot(), null));
+        verifyNoInteractions(dataSource, playerRepository);
+    }
+
+    @Test
+    @DisplayName("Should publish counters after a successful check")
+    void refresh_WithReachableDatabase_ShouldPublishCounters() throws SQLException {
+        // Given
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(playerRepository.count()).thenReturn(12L);
+        when(playerRepository.countByActive(true)).thenReturn(9L);
+
+        // When
+        healthMonitor.refresh();
+
+        // Then
+        HealthSnapshot snapshot = healthMonitor.snapshot();
+        assertTrue(snapshot.databaseUp());
+        assertNull(snapshot.databaseError());
+        assertEquals(12L, snapshot.totalPlayers());
+        assertEquals(9L, snapshot.activePlayers());
+        assertTrue(healthMonitor.isReady(snapshot, null));
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should keep previous counters and report down when the database fails")
+    void refresh_WithUnreachableDatabase_ShouldReportDown() throws SQLException {
+        // Given
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(playerRepository.count()).thenReturn(3L);
+        when(playerRepository.countByActive(true)).thenReturn(2L);
+        healthMonitor.refresh();
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // When
+        healthMonitor.refresh();
+
+        // Then
+        HealthSnapshot snapshot = healthMonitor.snapshot();
+        assertFalse(snapshot.databaseUp());
+        assertEquals("Connection refused", snapshot.databaseError());
+        assertEquals(3L, snapshot.totalPlayers());
+        assertFalse(healthMonitor.isReady(snapshot, null));
+        verify(playerRepository, times(1)).count();
+    }
+
+    @Test
+    @DisplayName("Should not be ready on stale checks or a saturated pool")
+    void isReady_WithStaleCheckOrSaturatedPool_ShouldReturnFalse() {
+        HealthSnapshot fresh = new HealthSnapshot(true, null, 100, 1, 1, Instant.now());
+        HealthSnapshot stale = new HealthSnapshot(true, null, 100, 1, 1, Instant.now().minusSeconds(60));
+
+        assertTrue(healthMonitor.isReady(fresh, new PoolStatus(10, 0, 10, 10, 0)));
+        assertFalse(healthMonitor.isReady(fresh, new PoolStatus(10, 0, 10, 10, 4)));
+        assertFalse(healthMonitor.isReady(stale, null));
+    }
+}
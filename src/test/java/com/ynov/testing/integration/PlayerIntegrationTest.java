@@ -1,19 +1,37 @@
 package com.ynov.testing.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ynov.testing.cache.PlayerSearchCache;
+import com.ynov.testing.health.HealthMonitor;
 import com.ynov.testing.model.Player;
 import com.ynov.testing.repository.PlayerRepository;
+import com.ynov.testing.service.PlayerChangedEvent;
+import com.ynov.testing.service.PlayerService;
+import com.ynov.testing.sql.SqlTrackingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.*;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.ynov.testing.sql.SqlAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -31,16 +49,36 @@ import static org.junit.jupiter.api.Assertions.*;
  * - Embedded web server
  * - H2 in-memory database
  * - All layers: Controller → Service → Repository → Database
+ * - Metrics export (disabled by default in tests, see @AutoConfigureObservability)
  * 
  * @author Testing Methodology Course
  * @version 1.0.0
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
+@AutoConfigureObservability
 @DisplayName("Player API Integration Tests")
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class PlayerIntegrationTest {
 
+    /**
+     * Write run on another connection while the service writes a player,
+     * before its changes are flushed.
+     */
+    private static final AtomicReference<Runnable> CONCURRENT_WRITE = new AtomicReference<>();
+
+    @TestConfiguration
+    static class ConcurrentWriteConfig {
+
+        @EventListener
+        void onPlayerChanged(PlayerChangedEvent event) {
+            Runnable write = CONCURRENT_WRITE.getAndSet(null);
+            if (write != null) {
+                CompletableFuture.runAsync(write).join();
+            }
+        }
+    }
+
     @LocalServerPort
     private int port;
 
@@ -53,6 +91,18 @@ class PlayerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private HealthMonitor healthMonitor;
+
+    @Autowired
+    private PlayerSearchCache playerSearchCache;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private String baseUrl;
     private Player testPlayer;
 
@@ -62,6 +112,8 @@ class PlayerIntegrationTest {
 
         // Clean database before each test
         playerRepository.deleteAll();
+        // Direct repository writes are not seen by the search cache
+        playerSearchCache.clear();
 
         // Create test data
         testPlayer = new Player("John", "Doe", "john.doe@example.com", 25, "Forward");
@@ -461,6 +513,7 @@ class PlayerIntegrationTest {
     void healthCheck_ShouldReturnServiceStatus() {
         // Given
         Player player = playerRepository.save(testPlayer);
+        healthMonitor.refresh(); // counts are refreshed in the background
 
         // When
         ResponseEntity<Map> response = restTemplate.getForEntity(
@@ -569,4 +622,264 @@ class PlayerIntegrationTest {
             baseUrl + "/" + playerId, Map.class);
         assertEquals(HttpStatus.NOT_FOUND, verifyResponse.getStatusCode());
     }
+
+    @Test
+    @Order(17)
+    @DisplayName("Should maintain team statistics on create and delete")
+    void teamStatistics_ShouldFollowPlayerWrites() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        testPlayer.setTeamName("Stats Team");
+        Player secondPlayer = new Player("Jane", "Smith", "jane.smith@example.com", 31, "Midfielder");
+        secondPlayer.setTeamName("Stats Team");
+        secondPlayer.setSalary(30000.0);
+        Long firstId = restTemplate.postForEntity(baseUrl, new HttpEntity<>(testPlayer, headers), Player.class)
+            .getBody().getId();
+        restTemplate.postForEntity(baseUrl, new HttpEntity<>(secondPlayer, headers), Player.class);
+
+        // When
+        ResponseEntity<Map> averageAfterCreate = restTemplate.getForEntity(
+            baseUrl + "/stats/team/Stats Team/average-age", Map.class);
+        restTemplate.exchange(baseUrl + "/" + firstId, HttpMethod.DELETE, null, Map.class);
+        ResponseEntity<List> statistics = restTemplate.getForEntity(baseUrl + "/stats/teams", List.class);
+
+        // Then
+        assertEquals(28.0, ((Number) averageAfterCreate.getBody().get("averageAge")).doubleValue());
+        Map<?, ?> teamStats = ((List<Map<?, ?>>) statistics.getBody()).stream()
+            .filter(stats -> "Stats Team".equals(stats.get("teamName")))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(1, ((Number) teamStats.get("playerCount")).intValue());
+        assertEquals(31.0, ((Number) teamStats.get("averageAge")).doubleValue());
+        assertEquals(30000.0, ((Number) teamStats.get("salarySum")).doubleValue());
+        assertEquals(1, ((Number) teamStats.get("activeCount")).intValue());
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Should serve repeated player and team reads from the caches")
+    void repeatedReads_ShouldHitSecondLevelCache() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        testPlayer.setTeamName("Cache Team");
+        Long id = restTemplate.postForEntity(baseUrl, new HttpEntity<>(testPlayer, headers), Player.class)
+            .getBody().getId();
+        double playerHits = lookups("player", "hit");
+        double searchHits = lookups("player-search", "hit");
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertEquals(HttpStatus.OK, restTemplate.getForEntity(baseUrl + "/" + id, Player.class).getStatusCode());
+            assertEquals(1, restTemplate.getForEntity(baseUrl + "/search/team/Cache Team", List.class).getBody().size());
+        }
+
+        // Then
+        assertTrue(lookups("player", "hit") - playerHits >= 3);
+        assertTrue(lookups("player-search", "hit") - searchHits >= 2);
+    }
+
+    private double lookups(String region, String result) {
+        return meterRegistry.get("app.cache.lookups").tag("region", region).tag("result", result)
+            .functionCounter().count();
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Should refresh cached team searches when a player changes team")
+    void searchByTeam_AfterTeamChange_ShouldReflectUpdate() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        Player created = restTemplate.postForEntity(baseUrl, new HttpEntity<>(testPlayer, headers), Player.class)
+            .getBody();
+        assertEquals(1, restTemplate.getForEntity(baseUrl + "/search/team/Test Team", List.class).getBody().size());
+        assertEquals(0, restTemplate.getForEntity(baseUrl + "/search/team/Other Team", List.class).getBody().size());
+
+        // When
+        created.setTeamName("Other Team");
+        restTemplate.exchange(baseUrl + "/" + created.getId(), HttpMethod.PUT,
+            new HttpEntity<>(created, headers), Player.class);
+
+        // Then
+        assertEquals(0, restTemplate.getForEntity(baseUrl + "/search/team/Test Team", List.class).getBody().size());
+        List<Map<String, Object>> otherTeam = restTemplate.getForEntity(baseUrl + "/search/team/Other Team", List.class)
+            .getBody();
+        assertEquals(1, otherTeam.size());
+        assertEquals("Other Team", otherTeam.get(0).get("teamName"));
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Should export endpoint, service, pool, JVM and uniqueness guard metrics in the Prometheus format")
+    void prometheusEndpoint_ShouldExportTimersAndGauges() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        Long id = restTemplate.postForEntity(baseUrl, new HttpEntity<>(testPlayer, headers), Player.class)
+            .getBody().getId();
+        restTemplate.getForEntity(baseUrl + "/" + id, Player.class);
+
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            "http://localhost:" + port + "/actuator/prometheus", String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String metrics = response.getBody();
+        assertNotNull(metrics);
+        assertTrue(metrics.contains("http_server_requests_seconds_bucket"));
+        assertTrue(metrics.contains("uri=\"/api/players/{id}\""));
+        assertTrue(metrics.contains("app_service_seconds_bucket"));
+        assertTrue(metrics.contains("method=\"getPlayerById\""));
+        assertTrue(metrics.contains("hikaricp_connections_active"));
+        assertTrue(metrics.contains("jvm_gc_memory_allocated_bytes_total"));
+        assertTrue(metrics.contains("app_uniqueness_checks_total{"));
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Should report the SQL statements of each request and keep reads within their query budget")
+    void sqlTracking_ShouldPinQueryCountsPerEndpoint() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        Long id = restTemplate.postForEntity(baseUrl, new HttpEntity<>(testPlayer, headers), Player.class)
+            .getBody().getId();
+
+        // When
+        ResponseEntity<Player> byId = restTemplate.getForEntity(baseUrl + "/" + id, Player.class);
+        ResponseEntity<List> byTeam = restTemplate.getForEntity(baseUrl + "/search/team/Test Team", List.class);
+        ResponseEntity<List> all = restTemplate.getForEntity(baseUrl, List.class);
+
+        // Then
+        assertMaxStatements(1, byId);
+        assertMaxStatements(1, byTeam);
+        assertStatements(1, all);
+        assertNotNull(all.getHeaders().getFirst(SqlTrackingFilter.ROWS_HEADER));
+        assertNotNull(all.getHeaders().getFirst(SqlTrackingFilter.TIME_HEADER));
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Should never create duplicate emails or jersey numbers under concurrent creation")
+    void concurrentConflictingCreation_ShouldRejectDuplicatesWithValidationErrors() throws Exception {
+        // Given - every thread creates the same players: even ones share an email,
+        // odd ones share a jersey number in the same team
+        int numberOfThreads = 8;
+        int playersPerThread = 40;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<ResponseEntity<Map>>>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < numberOfThreads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<ResponseEntity<Map>> responses = new ArrayList<>();
+                for (int i = 0; i < playersPerThread; i++) {
+                    Player player;
+                    if (i % 2 == 0) {
+                        player = new Player("Shared", "Email", "shared" + i + "@example.com", 25, "Forward");
+                    } else {
+                        player = new Player("Shared", "Jersey", "jersey" + thread + "." + i + "@example.com", 25, "Forward");
+                        player.setTeamName("Stress Team");
+                        player.setJerseyNumber(i);
+                    }
+                    responses.add(restTemplate.postForEntity(baseUrl, new HttpEntity<>(player, headers), Map.class));
+                }
+                return responses;
+            }));
+        }
+        start.countDown();
+        List<ResponseEntity<Map>> responses = new ArrayList<>();
+        for (Future<List<ResponseEntity<Map>>> future : futures) {
+            responses.addAll(future.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then - one creation per email and per jersey, the others rejected as before
+        long created = responses.stream().filter(r -> r.getStatusCode() == HttpStatus.CREATED).count();
+        assertEquals(playersPerThread, created);
+        for (ResponseEntity<Map> response : responses) {
+            if (response.getStatusCode() != HttpStatus.CREATED) {
+                assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+                String message = (String) response.getBody().get("message");
+                assertTrue(message.matches("Player with email shared\\d+@example\\.com already exists")
+                        || message.matches("Jersey number \\d+ is already taken in team Stress Team"), message);
+            }
+        }
+        List<Player> players = playerRepository.findAll();
+        assertEquals(playersPerThread, players.size());
+        assertEquals(players.size(), players.stream().map(Player::getEmail).distinct().count());
+        assertEquals(playersPerThread / 2, players.stream()
+            .filter(player -> player.getJerseyNumber() != null)
+            .map(Player::getJerseyNumber)
+            .distinct()
+            .count());
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Should serve a repeated search from the caches without any SQL")
+    void repeatedSearch_ShouldRunNoSql() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        testPlayer.setTeamName("Quiet Team");
+        restTemplate.postForEntity(baseUrl, new HttpEntity<>(testPlayer, headers), Player.class);
+        assertEquals(1, playerService.getPlayersByTeam("Quiet Team").size());
+
+        // When & Then - the IDs come from the search cache, the players from the second-level cache
+        assertStatements(0, () -> assertEquals(1, playerService.getPlayersByTeam("Quiet Team").size()));
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Should reject only the batch player whose email was taken after the checks")
+    void createPlayersBatch_WithEmailTakenConcurrently_ShouldRejectOnlyThatPlayer() {
+        // Given - the email of the second player is inserted while the first one is written
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        Player second = new Player("Jane", "Smith", "jane.smith@example.com", 31, "Midfielder");
+        Player third = new Player("Bob", "Martin", "bob.martin@example.com", 28, "Defender");
+        CONCURRENT_WRITE.set(() -> playerRepository.save(
+            new Player("Janet", "Smith", "Jane.Smith@example.com", 40, "Goalkeeper")));
+
+        // When
+        ResponseEntity<Map> response = restTemplate.postForEntity(baseUrl + "/batch",
+            new HttpEntity<>(List.of(testPlayer, second, third), headers), Map.class);
+
+        // Then
+        assertNull(CONCURRENT_WRITE.get());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, ((Number) response.getBody().get("created")).intValue());
+        List<Map<?, ?>> results = (List<Map<?, ?>>) response.getBody().get("results");
+        assertEquals("CREATED", results.get(0).get("status"));
+        assertEquals("REJECTED", results.get(1).get("status"));
+        assertEquals("Player with email jane.smith@example.com already exists", results.get(1).get("error"));
+        assertEquals("CREATED", results.get(2).get("status"));
+        assertEquals(List.of("Bob", "Janet", "John"), playerRepository.findAll().stream()
+            .map(Player::getFirstName)
+            .sorted()
+            .toList());
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Should not expose the administration endpoints over HTTP outside of the dev profile")
+    void administrationEndpoints_ShouldNotBeExposedByDefault() {
+        for (String endpoint : List.of("slowqueries", "threading")) {
+            // When
+            ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/actuator/" + endpoint, String.class);
+
+            // Then
+            assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode(), endpoint);
+        }
+    }
 }
@@ -7,10 +7,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -318,6 +324,22 @@ class PlayerRepositoryTest {
         assertEquals(1, doeResults.size()); // John Doe
     }
 
+    @Test
+    @DisplayName("Should find a name inside a longer word (john in Johnson)")
+    void findByFullNameContaining_WithJohnAndJohnson_ShouldMatchInsideWords() {
+        // Given
+        entityManager.persistAndFlush(testPlayer1); // John Doe
+        entityManager.persistAndFlush(testPlayer3); // Bob Johnson
+        entityManager.clear();
+
+        // When
+        List<Player> results = playerRepository.findByFullNameContaining("john");
+
+        // Then
+        assertEquals(Set.of(testPlayer1.getId(), testPlayer3.getId()),
+            results.stream().map(Player::getId).collect(Collectors.toSet()));
+    }
+
     @Test
     @DisplayName("Should find players with salary above threshold")
     void findPlayersWithSalaryAbove_ShouldReturnHighEarners() {
@@ -370,6 +392,25 @@ class PlayerRepositoryTest {
         });
     }
 
+    @Test
+    @DisplayName("Should find emails and reject duplicates ignoring case and surrounding spaces")
+    void emailLookups_WithDifferentCase_ShouldMatchCanonicalEmail() {
+        // Given
+        Player mixedCase = new Player("Mixed", "Case", "Mixed.Case@Example.com", 30, "Forward");
+        entityManager.persistAndFlush(mixedCase);
+        entityManager.clear();
+
+        // When & Then
+        Optional<Player> found = playerRepository.findByEmail(" mixed.case@EXAMPLE.COM ");
+        assertTrue(found.isPresent());
+        assertEquals("Mixed.Case@Example.com", found.get().getEmail());
+        assertTrue(playerRepository.existsByEmail("MIXED.CASE@example.com"));
+        assertEquals(List.of("mixed.case@example.com"),
+            playerRepository.findExistingEmailKeys(List.of("mixed.case@example.com", "other@example.com")));
+        assertThrows(Exception.class, () -> entityManager.persistAndFlush(
+            new Player("Other", "Player", "mixed.case@example.com", 25, "Defender")));
+    }
+
     @Test
     @DisplayName("Should handle cascade operations")
     void save_ShouldSetTimestamps() {
@@ -435,4 +476,46 @@ class PlayerRepositoryTest {
         assertEquals(3, savedPlayers.size());
         assertTrue(savedPlayers.stream().allMatch(player -> player.getId() != null));
     }
+
+    @Test
+    @DisplayName("Should scroll players with keyset pagination")
+    void findAllBy_WithKeysetPosition_ShouldSeekAfterLastPlayer() {
+        // Given
+        entityManager.persistAndFlush(testPlayer1);
+        entityManager.persistAndFlush(testPlayer2);
+        entityManager.persistAndFlush(testPlayer3);
+        entityManager.clear();
+        Sort sort = Sort.by("lastName").and(Sort.by("id"));
+
+        // When
+        Window<Player> first = playerRepository.findAllBy(ScrollPosition.keyset(), sort, Limit.of(2));
+        Window<Player> second = playerRepository.findAllBy(first.positionAt(first.size() - 1), sort, Limit.of(2));
+
+        // Then
+        assertEquals(List.of("Doe", "Johnson"), first.map(Player::getLastName).getContent());
+        assertTrue(first.hasNext());
+        assertEquals(List.of("Smith"), second.map(Player::getLastName).getContent());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should find existing emails and taken jersey numbers in one query each")
+    void findExistingEmailsAndJerseyNumbers_ShouldReturnTakenValues() {
+        // Given
+        entityManager.persistAndFlush(testPlayer1);
+        entityManager.persistAndFlush(testPlayer2);
+        entityManager.persistAndFlush(testPlayer3);
+        entityManager.clear();
+
+        // When
+        List<String> existingEmails = playerRepository.findExistingEmailKeys(
+            List.of("john.doe@example.com", "new.player@example.com"));
+        List<Object[]> jerseys = playerRepository.findJerseyNumbersByTeamNames(List.of("Team A"));
+
+        // Then
+        assertEquals(List.of("john.doe@example.com"), existingEmails);
+        assertEquals(2, jerseys.size());
+        assertTrue(jerseys.stream().allMatch(row -> "Team A".equals(row[0])));
+        assertTrue(jerseys.stream().anyMatch(row -> Integer.valueOf(10).equals(row[1])));
+    }
 }
@@ -0,0 +1,103 @@
+package com.ynov.testing.search;
+
+import com.ynov.testing.model.PlayerSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for PlayerFuzzyNameIndex
+ *
+ * These tests check that the BK-tree finds every name within the requested
+ * edit distance, ranks closer names first, and stays consistent when players
+ * are renamed or removed.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Player Fuzzy Name Index Unit Tests")
+class PlayerFuzzyNameIndexTest {
+
+    private PlayerFuzzyNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerFuzzyNameIndex();
+        index.index(player(1L, "Faker", "Lee"));
+        index.index(player(2L, "Fakir", "Smith"));
+        index.index(player(3L, "John", "Doe"));
+        index.index(player(4L, "Joan", "Doé"));
+        index.markReady();
+    }
+
+    @Test
+    @DisplayName("Should find misspelled names ranked by edit distance")
+    void search_ShouldRankMatchesByDistance() {
+        assertEquals(List.of(1L, 2L), index.search("Fakr", 1));
+        assertEquals(List.of(1L, 2L), index.search("faker", 1));
+        assertEquals(List.of(1L), index.search("faker", 0));
+        assertEquals(List.of(3L, 4L), index.search("JOHN DOE", 2));
+        assertEquals(List.of(), index.search("xyz", 2));
+    }
+
+    @Test
+    @DisplayName("Should compute bounded Levenshtein distances")
+    void distance_ShouldBeLevenshteinDistanceWithinLimit() {
+        assertEquals(0, PlayerFuzzyNameIndex.distance("faker", "faker", 2));
+        assertEquals(1, PlayerFuzzyNameIndex.distance("fakr", "faker", 2));
+        assertEquals(3, PlayerFuzzyNameIndex.distance("kitten", "sitting", 5));
+        assertEquals(3, PlayerFuzzyNameIndex.distance("kitten", "sitting", 2));
+    }
+
+    @Test
+    @DisplayName("Should forget old names of renamed and removed players")
+    void indexAndRemove_ShouldKeepIndexConsistent() {
+        // When
+        index.index(player(1L, "Bob", "Lee"));
+        index.remove(2L);
+
+        // Then
+        assertEquals(List.of(), index.search("fakr", 1));
+        assertEquals(List.of(1L), index.search("bobb", 1));
+    }
+
+    @Test
+    @DisplayName("Should drop the names nobody uses anymore once they make up half of the tree")
+    void index_WithManyRenames_ShouldCompactDeadNames() {
+        // Given
+        int renames = 2 * PlayerFuzzyNameIndex.MIN_DEAD_TERMS_TO_COMPACT;
+
+        // When - player 5 gets a new, unique name each time
+        for (int i = 0; i < renames; i++) {
+            index.index(player(5L, "Renamed" + i, "Player" + i));
+        }
+
+        // Then
+        assertTrue(index.termCount() < renames,
+            "Dead names should have been compacted, found " + index.termCount() + " terms");
+        assertEquals(List.of(5L), index.search("renamed" + (renames - 1), 0));
+        assertEquals(List.of(), index.search("renamed0", 0));
+        assertEquals(List.of(1L, 2L), index.search("Fakr", 1));
+        assertEquals(List.of(3L, 4L), index.search("JOHN DOE", 2));
+    }
+
+    @Test
+    @DisplayName("Should not be ready after being cleared")
+    void clear_ShouldEmptyIndexAndResetReadiness() {
+        // When
+        index.clear();
+
+        // Then
+        assertFalse(index.isReady());
+        assertEquals(List.of(), index.search("faker", 2));
+    }
+
+    private static PlayerSnapshot player(Long id, String firstName, String lastName) {
+        return new PlayerSnapshot(id, firstName, lastName, firstName.toLowerCase() + "@example.com",
+            25, "Mid", "Team", null, null, true);
+    }
+}
@@ -0,0 +1,84 @@
+package com.ynov.testing.search;
+
+import com.ynov.testing.model.Player;
+import com.ynov.testing.model.PlayerSnapshot;
+import com.ynov.testing.service.PlayerChangedEvent;
+import com.ynov.testing.service.PlayerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Tests for PlayerIndexMaintainer
+ *
+ * These tests check that changes committed while the indexes are being
+ * rebuilt are not lost, nor undone by the rows streamed before them.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Player Index Maintainer Unit Tests")
+class PlayerIndexMaintainerTest {
+
+    private PlayerService playerService;
+    private PlayerNameIndex index;
+    private PlayerIndexMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        playerService = mock(PlayerService.class);
+        index = new PlayerNameIndex();
+        maintainer = new PlayerIndexMaintainer(playerService, List.of(index));
+    }
+
+    @Test
+    @DisplayName("Should replay the changes committed during the rebuild after the stream")
+    @SuppressWarnings("unchecked")
+    void rebuildIndexes_WithConcurrentChanges_ShouldReplayThemAfterTheStream() {
+        // Given: John is deleted and Jane renamed after the stream has read them
+        Player john = player(1L, "John", "Doe");
+        Player jane = player(2L, "Jane", "Smith");
+        when(playerService.streamAllPlayers(any())).thenAnswer(invocation -> {
+            Consumer<Player> consumer = invocation.getArgument(0);
+            maintainer.onPlayerChanged(PlayerChangedEvent.deleted(PlayerSnapshot.of(john)));
+            Player renamed = player(2L, "Jane", "Carter");
+            maintainer.onPlayerChanged(PlayerChangedEvent.updated(PlayerSnapshot.of(jane),
+                PlayerSnapshot.of(renamed)));
+            consumer.accept(john);
+            consumer.accept(jane);
+            return 2L;
+        });
+
+        // When
+        maintainer.rebuildIndexes();
+
+        // Then
+        assertTrue(index.isReady());
+        assertEquals(List.of(), index.search("john"));
+        assertEquals(List.of(), index.search("smith"));
+        assertEquals(List.of(2L), index.search("carter"));
+    }
+
+    @Test
+    @DisplayName("Should apply changes right away outside of a rebuild")
+    void onPlayerChanged_WithoutRebuild_ShouldApplyChange() {
+        // When
+        maintainer.onPlayerChanged(PlayerChangedEvent.created(PlayerSnapshot.of(player(3L, "Bob", "Martin"))));
+
+        // Then
+        assertEquals(List.of(3L), index.search("martin"));
+    }
+
+    private static Player player(Long id, String firstName, String lastName) {
+        Player player = new Player(firstName, lastName, firstName.toLowerCase() + "@example.com", 25, "Mid");
+        player.setId(id);
+        return player;
+    }
+}
@@ -0,0 +1,82 @@
+package com.ynov.testing.search;
+
+import com.ynov.testing.model.PlayerSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for PlayerNameIndex
+ *
+ * These tests check that the trigram index answers the same case-insensitive
+ * substring search as the SQL query it replaces, and that it stays consistent
+ * when players are renamed or removed.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Player Name Index Unit Tests")
+class PlayerNameIndexTest {
+
+    private PlayerNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerNameIndex();
+        index.index(player(1L, "John", "Doe"));
+        index.index(player(2L, "Jane", "Smith"));
+        index.index(player(3L, "Johnny", "Doeman"));
+        index.markReady();
+    }
+
+    @Test
+    @DisplayName("Should find players whose full name contains the text, ignoring case")
+    void search_ShouldMatchSubstringsIgnoringCase() {
+        assertEquals(List.of(1L, 3L), index.search("JOHN"));
+        assertEquals(List.of(1L, 3L), index.search(" doe"));
+        assertEquals(List.of(3L), index.search("ny doeman"));
+        assertEquals(List.of(), index.search("doex"));
+    }
+
+    @Test
+    @DisplayName("Should scan names for queries shorter than a trigram")
+    void search_WithShortQuery_ShouldScanNames() {
+        assertEquals(List.of(2L), index.search("sm"));
+        assertEquals(List.of(1L, 2L, 3L), index.search("j"));
+    }
+
+    @Test
+    @DisplayName("Should re-index renamed players and forget removed players")
+    void indexAndRemove_ShouldKeepIndexConsistent() {
+        // When
+        index.index(player(1L, "Faker", "Lee"));
+        index.remove(2L);
+
+        // Then
+        assertEquals(List.of(3L), index.search("john"));
+        assertEquals(List.of(1L), index.search("faker"));
+        assertEquals(List.of(), index.search("smith"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Should not be ready after being cleared")
+    void clear_ShouldEmptyIndexAndResetReadiness() {
+        // When
+        index.clear();
+
+        // Then
+        assertFalse(index.isReady());
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.search("john"));
+    }
+
+    private static PlayerSnapshot player(Long id, String firstName, String lastName) {
+        return new PlayerSnapshot(id, firstName, lastName, firstName.toLowerCase() + "@example.com",
+            25, "Mid", "Team", null, null, true);
+    }
+}
@@ -0,0 +1,148 @@
+package com.ynov.testing.search;
+
+import com.ynov.testing.model.PlayerSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for PlayerSuggestionIndex
+ *
+ * These tests check prefix matching across first names, last names and team
+ * names, the ranking of suggestions, and that the radix trie stays consistent
+ * when edges are split and merged by updates and removals.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Player Suggestion Index Unit Tests")
+class PlayerSuggestionIndexTest {
+
+    private PlayerSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerSuggestionIndex();
+        index.index(player(1L, "Faker", "Lee", "T1", true));
+        index.index(player(2L, "Fabian", "Smith", "Falcons", false));
+        index.index(player(3L, "Fabian", "Faure", "Falcons", true));
+        index.index(player(4L, "John", "Doe", "Fnatic", true));
+        index.markReady();
+    }
+
+    @Test
+    @DisplayName("Should suggest values of every field starting with the prefix, ignoring case")
+    void suggest_ShouldMatchPrefixesAcrossFields() {
+        // When
+        List<PlayerSuggestion> suggestions = index.suggest("FA", 10);
+
+        // Then
+        assertEquals(List.of(
+            new PlayerSuggestion("Fabian", "firstName", 2, 1),
+            new PlayerSuggestion("Falcons", "teamName", 2, 1),
+            new PlayerSuggestion("Faker", "firstName", 1, 1),
+            new PlayerSuggestion("Faure", "lastName", 1, 1)
+        ), suggestions);
+    }
+
+    @Test
+    @DisplayName("Should keep only the best suggestions up to the limit")
+    void suggest_WithLimit_ShouldReturnBestSuggestions() {
+        assertEquals(List.of("Fabian", "Falcons"),
+            index.suggest("f", 2).stream().map(PlayerSuggestion::text).toList());
+        assertEquals(List.of(), index.suggest("fax", 10));
+        assertEquals(List.of(), index.suggest("fakers", 10));
+    }
+
+    @Test
+    @DisplayName("Should update counters and trie edges when players change or are removed")
+    void indexAndRemove_ShouldKeepTrieConsistent() {
+        // When
+        index.index(player(1L, "Fabio", "Lee", "T1", false));
+        index.remove(3L);
+        index.remove(2L);
+
+        // Then
+        assertEquals(List.of(new PlayerSuggestion("Fabio", "firstName", 1, 0)), index.suggest("fa", 10));
+        assertEquals(List.of(new PlayerSuggestion("Fnatic", "teamName", 1, 1)), index.suggest("fn", 10));
+    }
+
+    @Test
+    @DisplayName("Should return the same best suggestions as a full ranking after many changes")
+    void suggest_AfterRandomChanges_ShouldMatchFullRanking() {
+        // Given
+        String[] names = {"Fa", "Fab", "Fabian", "Fabio", "Faker", "Falcons", "Faure", "Fnatic", "Lee", "Le"};
+        Random random = new Random(42);
+        Map<Long, PlayerSnapshot> players = new HashMap<>();
+        index.clear();
+        for (int i = 0; i < 2_000; i++) {
+            long id = random.nextInt(300);
+            if (random.nextInt(5) == 0) {
+                index.remove(id);
+                players.remove(id);
+            } else {
+                PlayerSnapshot player = player(id, names[random.nextInt(names.length)],
+                    names[random.nextInt(names.length)], names[random.nextInt(names.length)], random.nextBoolean());
+                index.index(player);
+                players.put(id, player);
+            }
+        }
+
+        // When & Then
+        for (String prefix : List.of("f", "fa", "fab", "l", "le", "fn")) {
+            for (int limit : List.of(1, 2, 3, 5, 50)) {
+                assertEquals(fullRanking(players.values(), prefix, limit), index.suggest(prefix, limit),
+                    "prefix " + prefix + ", limit " + limit);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should not be ready after being cleared")
+    void clear_ShouldEmptyIndexAndResetReadiness() {
+        // When
+        index.clear();
+
+        // Then
+        assertFalse(index.isReady());
+        assertEquals(List.of(), index.suggest("f", 10));
+    }
+
+    private static List<PlayerSuggestion> fullRanking(Collection<PlayerSnapshot> players, String prefix, int limit) {
+        Map<List<String>, long[]> counters = new HashMap<>();
+        for (PlayerSnapshot player : players) {
+            Map<String, String> terms = Map.of("firstName", player.firstName(), "lastName", player.lastName(),
+                "teamName", player.teamName());
+            terms.forEach((field, text) -> {
+                if (text.toLowerCase().startsWith(prefix)) {
+                    long[] counter = counters.computeIfAbsent(List.of(field, text), key -> new long[2]);
+                    counter[0]++;
+                    counter[1] += Boolean.TRUE.equals(player.active()) ? 1 : 0;
+                }
+            });
+        }
+        return counters.entrySet().stream()
+            .map(entry -> new PlayerSuggestion(entry.getKey().get(1), entry.getKey().get(0),
+                entry.getValue()[0], entry.getValue()[1]))
+            .sorted(Comparator.comparingLong(PlayerSuggestion::activePlayers).reversed()
+                .thenComparing(Comparator.comparingLong(PlayerSuggestion::players).reversed())
+                .thenComparing(PlayerSuggestion::text)
+                .thenComparing(PlayerSuggestion::field))
+            .limit(limit)
+            .toList();
+    }
+
+    private static PlayerSnapshot player(Long id, String firstName, String lastName, String teamName, boolean active) {
+        return new PlayerSnapshot(id, firstName, lastName, firstName.toLowerCase() + id + "@example.com",
+            25, "Mid", teamName, null, null, active);
+    }
+}
@@ -0,0 +1,163 @@
+package com.ynov.testing.search;
+
+import com.ynov.testing.model.PlayerSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for TeamJerseyIndex
+ *
+ * These tests check jersey occupancy tracking, atomic reservations under
+ * contention, and the database fallback for numbers that look occupied.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Team Jersey Index Unit Tests")
+class TeamJerseyIndexTest {
+
+    private TeamJerseyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TeamJerseyIndex();
+        index.index(player(1L, "T1", 10));
+        index.index(player(2L, "T1", 7));
+        index.index(player(3L, "G2", 10));
+        index.markReady();
+    }
+
+    @Test
+    @DisplayName("Should list free numbers and follow moves and removals")
+    void freeNumbers_ShouldReflectPlayerChanges() {
+        assertEquals(97, index.freeNumbers("T1").size());
+        assertFalse(index.freeNumbers("T1").contains(10));
+        assertEquals(99, index.freeNumbers("Unknown").size());
+
+        // When
+        index.index(player(1L, "T1", 11));
+        index.remove(2L);
+
+        // Then
+        List<Integer> free = index.freeNumbers("T1");
+        assertTrue(free.contains(10));
+        assertTrue(free.contains(7));
+        assertFalse(free.contains(11));
+    }
+
+    @Test
+    @DisplayName("Should reserve free numbers without probing and refuse numbers being reserved")
+    void tryReserve_ShouldClaimNumberAtomically() {
+        assertTrue(index.tryReserve("T1", 23, () -> fail("Free numbers must not be probed")));
+        assertFalse(index.tryReserve("T1", 23, () -> false));
+        assertFalse(index.freeNumbers("T1").contains(23));
+
+        // When
+        index.release("T1", 23);
+
+        // Then
+        assertTrue(index.tryReserve("T1", 23, () -> false));
+    }
+
+    @Test
+    @DisplayName("Should let the database decide for numbers that look occupied")
+    void tryReserve_WithOccupiedNumber_ShouldProbeDatabase() {
+        assertFalse(index.tryReserve("T1", 10, () -> true));
+        assertTrue(index.tryReserve("T1", 10, () -> false));
+    }
+
+    @Test
+    @DisplayName("Should keep a confirmed number occupied once its reservation is released")
+    void confirm_ShouldOccupyNumberAndReleaseReservation() {
+        assertTrue(index.tryReserve("T1", 23, () -> false));
+
+        // When
+        index.confirm(4L, "T1", 23);
+
+        // Then
+        assertFalse(index.freeNumbers("T1").contains(23));
+        assertFalse(index.tryReserve("T1", 23, () -> true));
+
+        // When - the confirmed player is then re-indexed from its committed change
+        index.index(player(4L, "T1", 23));
+        index.remove(4L);
+
+        // Then
+        assertTrue(index.freeNumbers("T1").contains(23));
+    }
+
+    @Test
+    @DisplayName("Should keep a number shared by legacy duplicates occupied until its last player leaves")
+    void remove_WithDuplicateNumber_ShouldKeepNumberOccupied() {
+        // Given
+        index.index(player(4L, "T1", 10));
+
+        // When
+        index.remove(4L);
+
+        // Then
+        assertFalse(index.freeNumbers("T1").contains(10));
+
+        // When
+        index.remove(1L);
+
+        // Then
+        assertTrue(index.freeNumbers("T1").contains(10));
+    }
+
+    @Test
+    @DisplayName("Should only track jersey numbers between 1 and 99")
+    void tryReserve_WithOutOfRangeNumber_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> index.tryReserve("T1", 0, () -> false));
+        assertThrows(IllegalArgumentException.class, () -> index.tryReserve("T1", 100, () -> false));
+
+        // When
+        index.index(player(4L, "T1", 0));
+        index.index(player(5L, "T1", 100));
+
+        // Then
+        assertEquals(97, index.freeNumbers("T1").size());
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent reservations win")
+    void tryReserve_Concurrently_ShouldHaveSingleWinner() throws InterruptedException {
+        // Given
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger winners = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (index.tryReserve("G2", 42, () -> false)) {
+                    winners.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(1, winners.get());
+    }
+
+    private static PlayerSnapshot player(Long id, String teamName, Integer jerseyNumber) {
+        return new PlayerSnapshot(id, "First", "Last", "player" + id + "@example.com",
+            25, "Mid", teamName, jerseyNumber, null, true);
+    }
+}
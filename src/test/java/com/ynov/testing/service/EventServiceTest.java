@@ -1,15 +1,24 @@
 package com.ynov.testing.service;
 
+import com.ynov.testing.coalescing.RequestCoalescer;
 import com.ynov.testing.model.Event;
 import com.ynov.testing.model.Player;
 import com.ynov.testing.model.Team;
 import com.ynov.testing.repository.EventRepository;
+import com.ynov.testing.uniqueness.UniquenessGuards;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.env.MockEnvironment;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -32,6 +41,14 @@ public class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Spy
+    private UniquenessGuards uniquenessGuards = new UniquenessGuards("bloom", 1000, 0.01,
+        new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(true, Duration.ofSeconds(2), new MockEnvironment(),
+        new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
     @InjectMocks
     private EventService eventService;
 
@@ -159,6 +176,18 @@ public class EventServiceTest {
     }
 
 
+    @Test
+    void shouldSkipNameProbeWhenGuardKnowsEventNameIsNew() {
+        uniquenessGuards.eventNames().markReady();
+        when(eventRepository.save(sampleEvent)).thenReturn(sampleEvent);
+
+        Event result = eventService.createEvent(sampleEvent);
+
+        assertThat(result).isEqualTo(sampleEvent);
+        verify(eventRepository, never()).existsByName(anyString());
+        assertThat(uniquenessGuards.eventNames().mightExist("Test Event")).isTrue();
+    }
+
     @Test
     void shouldThrowWhenCreateEventNameExists() {
         when(eventRepository.existsByName("Test Event")).thenReturn(true);
@@ -168,6 +197,16 @@ public class EventServiceTest {
                 .hasMessageContaining("Event name already exists: Test Event");
     }
 
+    @Test
+    void shouldThrowWhenConcurrentCreationTookEventName() {
+        when(eventRepository.existsByName("Test Event")).thenReturn(false);
+        when(eventRepository.save(sampleEvent)).thenThrow(nameViolation());
+
+        assertThatThrownBy(() -> eventService.createEvent(sampleEvent))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Event name already exists: Test Event");
+    }
+
     @Test
     void shouldValidateCreateEventFields() {
 
@@ -329,6 +368,58 @@ public class EventServiceTest {
     }
 
 
+    @Test
+    void shouldThrowWhenUpdateEventRenamedToExistingName() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(sampleEvent));
+        when(eventRepository.existsByName("Final")).thenReturn(true);
+        Event data = new Event();
+        data.setName("Final");
+        data.setDescription("D");
+        data.setEventDate(LocalDateTime.now());
+        data.setTeamA(sampleEvent.getTeamA());
+        data.setTeamB(sampleEvent.getTeamB());
+
+        assertThatThrownBy(() -> eventService.updateEvent(1L, data))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Event name already exists: Final");
+        assertThat(sampleEvent.getName()).isEqualTo("Test Event");
+        verify(eventRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldNotCheckNameWhenUpdateEventKeepsIt() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(sampleEvent));
+        when(eventRepository.save(any(Event.class))).thenAnswer(inv -> inv.getArgument(0));
+        Event data = new Event();
+        data.setName("Test Event");
+        data.setDescription("New Desc");
+        data.setEventDate(LocalDateTime.now());
+        data.setTeamA(sampleEvent.getTeamA());
+        data.setTeamB(sampleEvent.getTeamB());
+
+        Event result = eventService.updateEvent(1L, data);
+
+        assertThat(result.getDescription()).isEqualTo("New Desc");
+        verify(eventRepository, never()).existsByName(anyString());
+    }
+
+    @Test
+    void shouldThrowWhenConcurrentRenameTookEventName() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(sampleEvent));
+        when(eventRepository.existsByName("Final")).thenReturn(false);
+        when(eventRepository.save(any(Event.class))).thenThrow(nameViolation());
+        Event data = new Event();
+        data.setName("Final");
+        data.setDescription("D");
+        data.setEventDate(LocalDateTime.now());
+        data.setTeamA(sampleEvent.getTeamA());
+        data.setTeamB(sampleEvent.getTeamB());
+
+        assertThatThrownBy(() -> eventService.updateEvent(1L, data))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Event name already exists: Final");
+    }
+
     @Test
     void shouldThrowWhenUpdateEventNotFound() {
         when(eventRepository.findById(2L)).thenReturn(Optional.empty());
@@ -634,4 +725,13 @@ public class EventServiceTest {
             
         }
     }
+
+    /**
+     * Violation of the unique event name, as translated by the repository for a failed insert or update.
+     */
+    private static DataIntegrityViolationException nameViolation() {
+        SQLException sqlException = new SQLException("Unique index or primary key violation", "23505", 23505);
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, "UK_EVENTS_NAME"));
+    }
 }
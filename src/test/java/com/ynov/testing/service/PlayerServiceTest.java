@@ -1,18 +1,52 @@
 package com.ynov.testing.service;
 
+import com.ynov.testing.cache.PlayerSearchCache;
+import com.ynov.testing.cache.PlayerSearchKey;
+import com.ynov.testing.coalescing.RequestCoalescer;
 import com.ynov.testing.model.Player;
+import com.ynov.testing.model.TeamStats;
+import com.ynov.testing.model.PlayerSnapshot;
 import com.ynov.testing.repository.PlayerRepository;
+import com.ynov.testing.repository.TeamStatsRepository;
+import com.ynov.testing.search.PlayerFuzzyNameIndex;
+import com.ynov.testing.search.PlayerNameIndex;
+import com.ynov.testing.search.PlayerSuggestion;
+import com.ynov.testing.search.PlayerSuggestionIndex;
+import com.ynov.testing.search.TeamJerseyIndex;
+import com.ynov.testing.uniqueness.UniquenessGuards;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -42,6 +76,41 @@ class PlayerServiceTest {
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlayerNameIndex playerNameIndex;
+
+    @Mock
+    private PlayerSuggestionIndex playerSuggestionIndex;
+
+    @Mock
+    private PlayerFuzzyNameIndex playerFuzzyNameIndex;
+
+    @Mock
+    private TeamJerseyIndex teamJerseyIndex;
+
+    @Mock
+    private TeamStatsRepository teamStatsRepository;
+
+    @Mock
+    private PlayerSearchCache playerSearchCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private UniquenessGuards uniquenessGuards = new UniquenessGuards("bloom", 1000, 0.01,
+        new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(true, Duration.ofSeconds(2), new MockEnvironment(),
+        new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
     @InjectMocks
     private PlayerService playerService;
 
@@ -64,13 +133,10 @@ class PlayerServiceTest {
     }
 
     @Test
-    @DisplayName("Should create player successfully when valid data is provided")
+    @DisplayName("Should create player with a single insert and no uniqueness query")
     void createPlayer_WithValidData_ShouldReturnSavedPlayer() {
         // Given
-        when(playerRepository.existsByEmail(testPlayer.getEmail())).thenReturn(false);
-        when(playerRepository.existsByJerseyNumberAndTeamName(testPlayer.getJerseyNumber(), testPlayer.getTeamName()))
-            .thenReturn(false);
-        when(playerRepository.save(testPlayer)).thenReturn(savedPlayer);
+        when(playerRepository.saveAndFlush(testPlayer)).thenReturn(savedPlayer);
 
         // When
         Player result = playerService.createPlayer(testPlayer);
@@ -82,17 +148,55 @@ class PlayerServiceTest {
         assertEquals(testPlayer.getEmail(), result.getEmail());
         assertTrue(result.getActive());
 
-        // Verify mock interactions
-        verify(playerRepository).existsByEmail(testPlayer.getEmail());
-        verify(playerRepository).existsByJerseyNumberAndTeamName(testPlayer.getJerseyNumber(), testPlayer.getTeamName());
-        verify(playerRepository).save(testPlayer);
+        // Verify mock interactions: uniqueness is left to the database constraints
+        verify(playerRepository).saveAndFlush(testPlayer);
+        verify(playerRepository, never()).existsByEmail(anyString());
+        verify(playerRepository, never()).existsByJerseyNumberAndTeamName(anyInt(), anyString());
+        verifyNoInteractions(teamJerseyIndex);
+        verify(eventPublisher).publishEvent(any(PlayerChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should compute free jersey numbers from the database while the jersey index is loading")
+    void getFreeJerseyNumbers_WithIndexNotReady_ShouldUseDatabase() {
+        // Given
+        when(teamJerseyIndex.isReady()).thenReturn(false);
+        when(playerRepository.findJerseyNumbersByTeamNames(List.of("Test Team")))
+            .thenReturn(List.<Object[]>of(new Object[]{"Test Team", 1}, new Object[]{"Test Team", 99}));
+
+        // When
+        List<Integer> result = playerService.getFreeJerseyNumbers("Test Team");
+
+        // Then
+        assertEquals(97, result.size());
+        assertEquals(2, result.get(0));
+        assertEquals(98, result.get(result.size() - 1));
+    }
+
+    @Test
+    @DisplayName("Should publish a player change event with the state before and after an update")
+    void deactivatePlayer_ShouldPublishChangeEvent() {
+        // Given
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(savedPlayer));
+        when(playerRepository.saveAndFlush(savedPlayer)).thenReturn(savedPlayer);
+        PlayerSnapshot before = PlayerSnapshot.of(savedPlayer);
+
+        // When
+        playerService.deactivatePlayer(1L);
+
+        // Then
+        ArgumentCaptor<PlayerChangedEvent> event = ArgumentCaptor.forClass(PlayerChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(before, event.getValue().before());
+        assertTrue(event.getValue().before().active());
+        assertFalse(event.getValue().after().active());
     }
 
     @Test
     @DisplayName("Should throw exception when trying to create player with existing email")
     void createPlayer_WithExistingEmail_ShouldThrowException() {
         // Given
-        when(playerRepository.existsByEmail(testPlayer.getEmail())).thenReturn(true);
+        when(playerRepository.saveAndFlush(testPlayer)).thenThrow(constraintViolation(Player.EMAIL_CONSTRAINT));
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
@@ -101,17 +205,16 @@ class PlayerServiceTest {
         );
 
         assertEquals("Player with email john.doe@example.com already exists", exception.getMessage());
-        verify(playerRepository).existsByEmail(testPlayer.getEmail());
-        verify(playerRepository, never()).save(any(Player.class));
+        verify(playerRepository, never()).existsByEmail(anyString());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     @DisplayName("Should throw exception when trying to create player with existing jersey number in same team")
     void createPlayer_WithExistingJerseyNumberInTeam_ShouldThrowException() {
         // Given
-        when(playerRepository.existsByEmail(testPlayer.getEmail())).thenReturn(false);
-        when(playerRepository.existsByJerseyNumberAndTeamName(testPlayer.getJerseyNumber(), testPlayer.getTeamName()))
-            .thenReturn(true);
+        when(playerRepository.saveAndFlush(testPlayer))
+            .thenThrow(constraintViolation("PUBLIC.UK_PLAYERS_TEAM_JERSEY_INDEX_D ON PUBLIC.PLAYERS(TEAM_NAME, JERSEY_NUMBER)"));
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
@@ -120,9 +223,67 @@ class PlayerServiceTest {
         );
 
         assertEquals("Jersey number 10 is already taken in team Test Team", exception.getMessage());
-        verify(playerRepository).existsByEmail(testPlayer.getEmail());
-        verify(playerRepository).existsByJerseyNumberAndTeamName(testPlayer.getJerseyNumber(), testPlayer.getTeamName());
-        verify(playerRepository, never()).save(any(Player.class));
+        verify(playerRepository, never()).existsByJerseyNumberAndTeamName(anyInt(), anyString());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should propagate integrity violations that are not uniqueness rules")
+    void createPlayer_WithOtherIntegrityViolation_ShouldPropagate() {
+        // Given
+        DataIntegrityViolationException violation = constraintViolation("ck_players_age");
+        when(playerRepository.saveAndFlush(testPlayer)).thenThrow(violation);
+
+        // When & Then
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+            () -> playerService.createPlayer(testPlayer)));
+    }
+
+    @Test
+    @DisplayName("Should create valid players in bulk and reject the others individually")
+    void createPlayers_WithMixedPayload_ShouldReturnPerItemResults() {
+        // Given
+        Player duplicateInPayload = new Player("Johnny", "Doe", "john.doe@example.com", 30, "Forward");
+        Player takenJersey = new Player("Jane", "Smith", "jane.smith@example.com", 23, "Midfielder");
+        takenJersey.setTeamName("Test Team");
+        takenJersey.setJerseyNumber(7);
+        Player existingEmail = new Player("Bob", "Martin", "bob@example.com", 28, "Defender");
+        Player invalid = new Player("Al", "Green", "al@example.com", -1, "Defender");
+
+        when(playerRepository.findExistingEmailKeys(anyCollection())).thenReturn(List.of("bob@example.com"));
+        when(playerRepository.findJerseyNumbersByTeamNames(anyCollection()))
+            .thenReturn(List.<Object[]>of(new Object[]{"Test Team", 7}));
+        when(playerRepository.save(testPlayer)).thenReturn(savedPlayer);
+
+        // When
+        List<PlayerBatchResult> results = playerService.createPlayers(
+            Arrays.asList(testPlayer, duplicateInPayload, takenJersey, existingEmail, invalid));
+
+        // Then
+        assertEquals(5, results.size());
+        assertEquals(PlayerBatchResult.Status.CREATED, results.get(0).status());
+        assertEquals(1L, results.get(0).id());
+        assertEquals("Player with email john.doe@example.com already exists", results.get(1).error());
+        assertEquals("Jersey number 7 is already taken in team Test Team", results.get(2).error());
+        assertEquals("Player with email bob@example.com already exists", results.get(3).error());
+        assertEquals("Age must be between 0 and 150", results.get(4).error());
+
+        verify(playerRepository).save(testPlayer);
+        verify(playerRepository, times(1)).save(any(Player.class));
+        verify(playerRepository, never()).existsByEmail(anyString());
+        verify(playerRepository, never()).existsByJerseyNumberAndTeamName(anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when bulk creating an empty list")
+    void createPlayers_WithEmptyList_ShouldThrowException() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> playerService.createPlayers(List.of())
+        );
+
+        assertEquals("Players list cannot be null or empty", exception.getMessage());
+        verifyNoInteractions(playerRepository);
     }
 
     @Test
@@ -136,7 +297,7 @@ class PlayerServiceTest {
 
         assertEquals("Player cannot be null", exception.getMessage());
         verify(playerRepository, never()).existsByEmail(anyString());
-        verify(playerRepository, never()).save(any(Player.class));
+        verify(playerRepository, never()).saveAndFlush(any(Player.class));
     }
 
     @Test
@@ -157,6 +318,97 @@ class PlayerServiceTest {
         verify(playerRepository).findAll();
     }
 
+    @Test
+    @DisplayName("Should stream every player to the consumer and detach it")
+    void streamAllPlayers_ShouldConsumeAndDetachEachPlayer() {
+        // Given
+        Player otherPlayer = new Player("Jane", "Smith", "jane.smith@example.com", 23, "Midfielder");
+        when(playerRepository.streamAll()).thenReturn(Stream.of(savedPlayer, otherPlayer));
+        List<Player> consumed = new ArrayList<>();
+
+        // When
+        long count = playerService.streamAllPlayers(consumed::add);
+
+        // Then
+        assertEquals(2, count);
+        assertEquals(Arrays.asList(savedPlayer, otherPlayer), consumed);
+        verify(entityManager).detach(savedPlayer);
+        verify(entityManager).detach(otherPlayer);
+        verify(playerRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should return a slice with a cursor that seeks after the last player")
+    void getPlayersSlice_WithMorePlayers_ShouldReturnNextCursor() {
+        // Given
+        Player otherPlayer = new Player("Jane", "Smith", "jane.smith@example.com", 23, "Midfielder");
+        otherPlayer.setId(2L);
+        Window<Player> window = Window.from(Arrays.asList(savedPlayer, otherPlayer),
+            index -> ScrollPosition.forward(index == 0
+                ? Map.of("lastName", "Doe", "id", 1L)
+                : Map.of("lastName", "Smith", "id", 2L)),
+            true);
+        Sort expectedSort = Sort.by(Sort.Direction.ASC, "lastName").and(Sort.by(Sort.Direction.ASC, "id"));
+        when(playerRepository.findAllBy(ScrollPosition.keyset(), expectedSort, Limit.of(2))).thenReturn(window);
+
+        // When
+        PlayerSlice slice = playerService.getPlayersSlice("lastName", "asc", null, 2);
+
+        // Then
+        assertEquals(2, slice.content().size());
+        assertTrue(slice.hasNext());
+        assertNotNull(slice.nextCursor());
+
+        // The next slice seeks after (lastName = "Smith", id = 2) with the same sort
+        when(playerRepository.findAllBy(
+            ScrollPosition.forward(Map.of("lastName", "Smith", "id", 2L)), expectedSort, Limit.of(2)))
+            .thenReturn(Window.from(List.of(), index -> ScrollPosition.keyset()));
+        PlayerSlice next = playerService.getPlayersSlice("id", "desc", slice.nextCursor(), 2);
+
+        assertTrue(next.content().isEmpty());
+        assertFalse(next.hasNext());
+        assertNull(next.nextCursor());
+        verify(playerRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported sort keys and malformed cursors")
+    void getPlayersSlice_WithInvalidInput_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> playerService.getPlayersSlice("salary", "asc", null, 20));
+        assertThrows(IllegalArgumentException.class,
+            () -> playerService.getPlayersSlice("id", "asc", "not-a-cursor", 20));
+        assertThrows(IllegalArgumentException.class,
+            () -> playerService.getPlayersSlice("id", "asc", null, 0));
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    @DisplayName("Should return players in request order and report missing IDs")
+    void getPlayersByIds_ShouldPreserveOrderAndReportMissingIds() {
+        // Given
+        Player otherPlayer = new Player("Jane", "Smith", "jane.smith@example.com", 23, "Midfielder");
+        otherPlayer.setId(2L);
+        when(playerRepository.findAllById(anyIterable())).thenReturn(Arrays.asList(savedPlayer, otherPlayer));
+
+        // When
+        PlayerLookupResult result = playerService.getPlayersByIds(Arrays.asList(2L, 99L, 1L, 2L));
+
+        // Then
+        assertEquals(Arrays.asList(otherPlayer, savedPlayer), result.players());
+        assertEquals(List.of(99L), result.missingIds());
+        verify(playerRepository, times(1)).findAllById(anyIterable());
+        verify(playerRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when looking up players with invalid IDs")
+    void getPlayersByIds_WithInvalidIds_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> playerService.getPlayersByIds(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> playerService.getPlayersByIds(List.of(1L, -3L)));
+        verifyNoInteractions(playerRepository);
+    }
+
     @Test
     @DisplayName("Should return player when found by valid ID")
     void getPlayerById_WithValidId_ShouldReturnPlayer() {
@@ -225,7 +477,7 @@ class PlayerServiceTest {
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(savedPlayer));
         when(playerRepository.existsByEmail(updateData.getEmail())).thenReturn(false);
-        when(playerRepository.save(any(Player.class))).thenReturn(savedPlayer);
+        when(playerRepository.saveAndFlush(any(Player.class))).thenReturn(savedPlayer);
 
         // When
         Player result = playerService.updatePlayer(playerId, updateData);
@@ -234,7 +486,74 @@ class PlayerServiceTest {
         assertNotNull(result);
         verify(playerRepository).findById(playerId);
         verify(playerRepository).existsByEmail(updateData.getEmail());
-        verify(playerRepository).save(any(Player.class));
+        verify(playerRepository).saveAndFlush(any(Player.class));
+    }
+
+    @Test
+    @DisplayName("Should report an email taken concurrently during an update as a validation error")
+    void updatePlayer_WithEmailTakenConcurrently_ShouldThrowException() {
+        // Given - the email was free when checked, then taken before the flush
+        Player updateData = new Player("John", "Smith", "john.smith@example.com", 26, "Defender");
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(savedPlayer));
+        when(playerRepository.existsByEmail(updateData.getEmail())).thenReturn(false);
+        when(playerRepository.saveAndFlush(savedPlayer)).thenThrow(constraintViolation(Player.EMAIL_CONSTRAINT));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> playerService.updatePlayer(1L, updateData)
+        );
+
+        assertEquals("Player with email john.smith@example.com already exists", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should record a reserved jersey number as occupied on commit, and only release it on rollback")
+    void updatePlayer_WithNewJerseyNumber_ShouldConfirmReservationOnCommit() {
+        // Given
+        Player updateData = new Player("John", "Doe", "john.doe@example.com", 25, "Forward");
+        updateData.setTeamName("Test Team");
+        updateData.setJerseyNumber(11);
+        when(teamJerseyIndex.isReady()).thenReturn(true);
+        when(teamJerseyIndex.tryReserve(eq("Test Team"), eq(11), any())).thenReturn(true);
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(savedPlayer));
+        when(playerRepository.saveAndFlush(savedPlayer)).thenReturn(savedPlayer);
+
+        // When - the transaction commits
+        completeInTransaction(() -> playerService.updatePlayer(1L, updateData),
+            TransactionSynchronization.STATUS_COMMITTED);
+
+        // Then
+        verify(teamJerseyIndex).confirm(1L, "Test Team", 11);
+        verify(teamJerseyIndex, never()).release(anyString(), anyInt());
+
+        // When - the transaction rolls back
+        savedPlayer.setJerseyNumber(10);
+        completeInTransaction(() -> playerService.updatePlayer(1L, updateData),
+            TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        verify(teamJerseyIndex).release("Test Team", 11);
+        verify(teamJerseyIndex, times(1)).confirm(anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should not re-check uniqueness when only the case of the email changes")
+    void updatePlayer_WithEmailCaseChange_ShouldNotRecheckEmail() {
+        // Given
+        Player updateData = new Player("John", "Doe", "John.Doe@Example.com", 25, "Forward");
+        updateData.setTeamName("Test Team");
+        updateData.setJerseyNumber(10);
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(savedPlayer));
+        when(playerRepository.saveAndFlush(savedPlayer)).thenReturn(savedPlayer);
+
+        // When
+        Player result = playerService.updatePlayer(1L, updateData);
+
+        // Then
+        assertEquals("John.Doe@Example.com", result.getEmail());
+        verify(playerRepository, never()).existsByEmail(anyString());
     }
 
     @Test
@@ -252,7 +571,97 @@ class PlayerServiceTest {
 
         assertEquals("Player not found with ID: 999", exception.getMessage());
         verify(playerRepository).findById(playerId);
-        verify(playerRepository, never()).save(any(Player.class));
+        verify(playerRepository, never()).saveAndFlush(any(Player.class));
+    }
+
+    @Test
+    @DisplayName("Should only change and check the patched fields on partial update")
+    void patchPlayer_WithSalaryOnly_ShouldNotRecheckUniqueness() {
+        // Given
+        savedPlayer.setVersion(3L);
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(savedPlayer));
+        when(playerRepository.saveAndFlush(savedPlayer)).thenReturn(savedPlayer);
+
+        PlayerPatch patch = new PlayerPatch();
+        patch.setSalary(Optional.of(75000.0));
+        patch.setVersion(3L);
+
+        // When
+        Player result = playerService.patchPlayer(1L, patch);
+
+        // Then
+        assertEquals(75000.0, result.getSalary());
+        assertEquals("john.doe@example.com", result.getEmail());
+        assertEquals(10, result.getJerseyNumber());
+        verify(playerRepository, never()).existsByEmail(anyString());
+        verify(playerRepository, never()).existsByJerseyNumberAndTeamName(anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should report a jersey number taken concurrently during a partial update as a validation error")
+    void patchPlayer_WithJerseyTakenConcurrently_ShouldThrowException() {
+        // Given - the jersey number was free when checked, then taken before the flush
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(savedPlayer));
+        when(playerRepository.existsByJerseyNumberAndTeamName(7, "Test Team")).thenReturn(false);
+        when(playerRepository.saveAndFlush(savedPlayer))
+            .thenThrow(constraintViolation("PUBLIC.UK_PLAYERS_TEAM_JERSEY_INDEX_D ON PUBLIC.PLAYERS(TEAM_NAME, JERSEY_NUMBER)"));
+        PlayerPatch patch = new PlayerPatch();
+        patch.setJerseyNumber(Optional.of(7));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> playerService.patchPlayer(1L, patch)
+        );
+
+        assertEquals("Jersey number 7 is already taken in team Test Team", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should re-check jersey uniqueness when the jersey number changes on partial update")
+    void patchPlayer_WithJerseyChange_ShouldCheckJerseyUniqueness() {
+        // Given
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(savedPlayer));
+        when(playerRepository.existsByJerseyNumberAndTeamName(7, "Test Team")).thenReturn(true);
+        PlayerPatch patch = new PlayerPatch();
+        patch.setJerseyNumber(Optional.of(7));
+        patch.setSalary(Optional.empty());
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> playerService.patchPlayer(1L, patch)
+        );
+        assertEquals("Jersey number 7 is already taken in team Test Team", exception.getMessage());
+        verify(playerRepository, never()).existsByEmail(anyString());
+        verify(playerRepository, never()).saveAndFlush(any(Player.class));
+    }
+
+    @Test
+    @DisplayName("Should reject partial update with a stale version or an invalid value")
+    void patchPlayer_WithStaleVersionOrInvalidValue_ShouldThrowException() {
+        // Given
+        savedPlayer.setVersion(4L);
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(savedPlayer));
+        PlayerPatch stalePatch = new PlayerPatch();
+        stalePatch.setSalary(Optional.of(1.0));
+        stalePatch.setVersion(3L);
+        PlayerPatch agePatch = new PlayerPatch();
+        agePatch.setAge(Optional.of(200));
+        PlayerPatch clearingPatch = new PlayerPatch();
+        clearingPatch.setFirstName(Optional.empty());
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class,
+            () -> playerService.patchPlayer(1L, stalePatch));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> playerService.patchPlayer(1L, agePatch));
+        assertEquals("Age must be between 0 and 150", exception.getMessage());
+        exception = assertThrows(IllegalArgumentException.class,
+            () -> playerService.patchPlayer(1L, clearingPatch));
+        assertEquals("First name is required", exception.getMessage());
+        verify(playerRepository, never()).saveAndFlush(any(Player.class));
     }
 
     @Test
@@ -260,14 +669,15 @@ class PlayerServiceTest {
     void deletePlayer_WithExistingId_ShouldDeletePlayer() {
         // Given
         Long playerId = 1L;
-        when(playerRepository.existsById(playerId)).thenReturn(true);
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(savedPlayer));
 
         // When
         assertDoesNotThrow(() -> playerService.deletePlayer(playerId));
 
         // Then
-        verify(playerRepository).existsById(playerId);
-        verify(playerRepository).deleteById(playerId);
+        verify(playerRepository).findById(playerId);
+        verify(playerRepository).delete(savedPlayer);
+        verify(eventPublisher).publishEvent(PlayerChangedEvent.deleted(PlayerSnapshot.of(savedPlayer)));
     }
 
     @Test
@@ -275,7 +685,7 @@ class PlayerServiceTest {
     void deletePlayer_WithNonExistentId_ShouldThrowException() {
         // Given
         Long playerId = 999L;
-        when(playerRepository.existsById(playerId)).thenReturn(false);
+        when(playerRepository.findById(playerId)).thenReturn(Optional.empty());
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
@@ -284,8 +694,9 @@ class PlayerServiceTest {
         );
 
         assertEquals("Player not found with ID: 999", exception.getMessage());
-        verify(playerRepository).existsById(playerId);
-        verify(playerRepository, never()).deleteById(any());
+        verify(playerRepository).findById(playerId);
+        verify(playerRepository, never()).delete(any(Player.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -326,6 +737,42 @@ class PlayerServiceTest {
         verify(playerRepository, never()).findByTeamName(any());
     }
 
+    @Test
+    @DisplayName("Should cache the IDs of a team search on a miss")
+    void getPlayersByTeam_WithCacheMiss_ShouldCacheResultIds() {
+        // Given
+        PlayerSearchKey key = new PlayerSearchKey.Team("Test Team");
+        when(playerSearchCache.stamp(key)).thenReturn(7L);
+        when(playerRepository.findByTeamName("Test Team")).thenReturn(List.of(savedPlayer));
+
+        // When
+        List<Player> result = playerService.getPlayersByTeam(" Test Team ");
+
+        // Then
+        assertEquals(List.of(savedPlayer), result);
+        verify(playerSearchCache).get(key);
+        verify(playerSearchCache).put(key, List.of(savedPlayer.getId()), 7L);
+    }
+
+    @Test
+    @DisplayName("Should load cached salary search results by ID, in cached order")
+    void getPlayersWithSalaryAbove_WithCacheHit_ShouldLoadCachedIds() {
+        // Given
+        Player richerPlayer = new Player("Jane", "Smith", "jane.smith@example.com", 30, "Midfielder");
+        richerPlayer.setId(2L);
+        when(playerSearchCache.get(new PlayerSearchKey.SalaryAbove(40000.0))).thenReturn(Optional.of(List.of(2L, savedPlayer.getId())));
+        when(playerRepository.findAllByIdInOrder(List.of(2L, savedPlayer.getId()))).thenReturn(List.of(richerPlayer, savedPlayer));
+
+        // When
+        List<Player> result = playerService.getPlayersWithSalaryAbove(40000.0);
+
+        // Then
+        assertEquals(List.of(richerPlayer, savedPlayer), result);
+        verify(playerRepository, never()).findPlayersWithSalaryAbove(anyDouble());
+        verify(playerRepository, never()).findAllById(any());
+        verify(playerSearchCache, never()).put(any(), any(), anyLong());
+    }
+
     @Test
     @DisplayName("Should return players by age range")
     void getPlayersByAgeRange_WithValidRange_ShouldReturnPlayers() {
@@ -381,7 +828,7 @@ class PlayerServiceTest {
         // Given
         Long playerId = 1L;
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(savedPlayer));
-        when(playerRepository.save(any(Player.class))).thenReturn(savedPlayer);
+        when(playerRepository.saveAndFlush(any(Player.class))).thenReturn(savedPlayer);
 
         // When
         Player result = playerService.deactivatePlayer(playerId);
@@ -389,7 +836,7 @@ class PlayerServiceTest {
         // Then
         assertNotNull(result);
         verify(playerRepository).findById(playerId);
-        verify(playerRepository).save(any(Player.class));
+        verify(playerRepository).saveAndFlush(any(Player.class));
     }
 
     @Test
@@ -423,24 +870,123 @@ class PlayerServiceTest {
         verify(playerRepository).countByActive(true);
     }
 
+    @Test
+    @DisplayName("Should search full names through the in-memory index once it is ready")
+    void findPlayersByFullName_WithReadyIndex_ShouldUseIndex() {
+        // Given
+        Player otherPlayer = new Player("Johnny", "Doe", "johnny.doe@example.com", 30, "Forward");
+        otherPlayer.setId(2L);
+        when(playerNameIndex.isReady()).thenReturn(true);
+        when(playerNameIndex.search("john")).thenReturn(List.of(1L, 2L));
+        when(playerRepository.findAllByIdInOrder(List.of(1L, 2L))).thenReturn(Arrays.asList(savedPlayer, otherPlayer));
+
+        // When
+        List<Player> result = playerService.findPlayersByFullName("  john ");
+
+        // Then
+        assertEquals(Arrays.asList(savedPlayer, otherPlayer), result);
+        verify(playerRepository, never()).findByFullNameContaining(anyString());
+    }
+
+    @Test
+    @DisplayName("Should search full names with the LIKE query while the index is loading")
+    void findPlayersByFullName_WithIndexNotReady_ShouldUseLikeQuery() {
+        // Given
+        when(playerNameIndex.isReady()).thenReturn(false);
+        when(playerRepository.findByFullNameContaining("john doe")).thenReturn(List.of(savedPlayer));
+
+        // When
+        List<Player> result = playerService.findPlayersByFullName(" john doe ");
+
+        // Then
+        assertEquals(List.of(savedPlayer), result);
+        verify(playerNameIndex, never()).search(anyString());
+    }
+
+    @Test
+    @DisplayName("Should find names containing the query inside a longer word while the index is loading")
+    void findPlayersByFullName_WithIndexNotReadyAndLongerWord_ShouldFindSubstrings() {
+        // Given
+        Player johnson = new Player("Bob", "Johnson", "bob.johnson@example.com", 30, "Forward");
+        johnson.setId(2L);
+        when(playerNameIndex.isReady()).thenReturn(false);
+        when(playerRepository.findByFullNameContaining("john")).thenReturn(List.of(savedPlayer, johnson));
+
+        // When
+        List<Player> result = playerService.findPlayersByFullName("john");
+
+        // Then
+        assertEquals(List.of(savedPlayer, johnson), result);
+        verify(playerRepository, times(1)).findByFullNameContaining("john");
+    }
+
+    @Test
+    @DisplayName("Should search misspelled names through the fuzzy index, closest first")
+    void findPlayersByFullName_WithFuzzyDistance_ShouldUseFuzzyIndex() {
+        // Given
+        Player otherPlayer = new Player("Jon", "Doe", "jon.doe@example.com", 30, "Forward");
+        otherPlayer.setId(2L);
+        when(playerFuzzyNameIndex.isReady()).thenReturn(true);
+        when(playerFuzzyNameIndex.search("Jhon", 2)).thenReturn(List.of(2L, 1L));
+        when(playerRepository.findAllByIdInOrder(List.of(2L, 1L))).thenReturn(Arrays.asList(otherPlayer, savedPlayer));
+
+        // When
+        List<Player> result = playerService.findPlayersByFullName("Jhon", 2);
+
+        // Then
+        assertEquals(Arrays.asList(otherPlayer, savedPlayer), result);
+        verify(playerNameIndex, never()).search(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject fuzzy distances outside the supported range")
+    void findPlayersByFullName_WithInvalidFuzzyDistance_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> playerService.findPlayersByFullName("john", -1));
+        assertThrows(IllegalArgumentException.class,
+            () -> playerService.findPlayersByFullName("john", PlayerService.MAX_FUZZY_DISTANCE + 1));
+        verifyNoInteractions(playerFuzzyNameIndex, playerRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve suggestions from the in-memory prefix index")
+    void suggest_WithValidPrefix_ShouldUseSuggestionIndex() {
+        // Given
+        List<PlayerSuggestion> suggestions = List.of(new PlayerSuggestion("John", "firstName", 1, 1));
+        when(playerSuggestionIndex.suggest("jo", 5)).thenReturn(suggestions);
+
+        // When
+        List<PlayerSuggestion> result = playerService.suggest(" jo ", 5);
+
+        // Then
+        assertEquals(suggestions, result);
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject blank prefixes and out-of-range limits")
+    void suggest_WithInvalidArguments_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> playerService.suggest(" ", 5));
+        assertThrows(IllegalArgumentException.class, () -> playerService.suggest("jo", 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> playerService.suggest("jo", PlayerService.MAX_SUGGESTIONS + 1));
+        verifyNoInteractions(playerSuggestionIndex);
+    }
+
     @Test
     @DisplayName("Should calculate average age correctly")
     void calculateAverageAgeByTeam_WithPlayersInTeam_ShouldReturnAverageAge() {
         // Given
         String teamName = "Test Team";
-        List<Player> teamPlayers = Arrays.asList(
-            new Player("John", "Doe", "john@example.com", 25, "Forward"),
-            new Player("Jane", "Smith", "jane@example.com", 27, "Midfielder"),
-            new Player("Bob", "Johnson", "bob@example.com", 23, "Defender")
-        );
-        when(playerRepository.findByTeamName(teamName)).thenReturn(teamPlayers);
+        when(teamStatsRepository.findById(teamName))
+            .thenReturn(Optional.of(new TeamStats(teamName, 3, 75, 150000.0, 3)));
 
         // When
         Double result = playerService.calculateAverageAgeByTeam(teamName);
 
         // Then
         assertEquals(25.0, result); // (25 + 27 + 23) / 3 = 25.0
-        verify(playerRepository).findByTeamName(teamName);
+        verify(teamStatsRepository).findById(teamName);
+        verify(playerRepository, never()).findByTeamName(anyString());
     }
 
     @Test
@@ -448,13 +994,39 @@ class PlayerServiceTest {
     void calculateAverageAgeByTeam_WithNoPlayersInTeam_ShouldReturnZero() {
         // Given
         String teamName = "Empty Team";
-        when(playerRepository.findByTeamName(teamName)).thenReturn(Arrays.asList());
+        when(teamStatsRepository.findById(teamName)).thenReturn(Optional.empty());
 
         // When
         Double result = playerService.calculateAverageAgeByTeam(teamName);
 
         // Then
         assertEquals(0.0, result);
-        verify(playerRepository).findByTeamName(teamName);
+        verify(teamStatsRepository).findById(teamName);
+    }
+
+    /**
+     * Run an action as if in a transaction, then complete it with the given status.
+     */
+    private static void completeInTransaction(Runnable action, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            }
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * Violation of a constraint, as translated by the repository for a failed flush.
+     */
+    private static DataIntegrityViolationException constraintViolation(String constraint) {
+        SQLException sqlException = new SQLException("Unique index or primary key violation", "23505", 23505);
+        return new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("could not execute statement", sqlException, constraint));
     }
 }
@@ -0,0 +1,109 @@
+package com.ynov.testing.service;
+
+import com.ynov.testing.model.PlayerSnapshot;
+import com.ynov.testing.repository.TeamStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Tests for TeamStatsMaintainer
+ *
+ * These tests check the deltas written to the team statistics for each kind
+ * of player change. Outside a transaction, deltas are applied immediately.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Team Stats Maintainer Unit Tests")
+class TeamStatsMaintainerTest {
+
+    @Mock
+    private TeamStatsRepository teamStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private TeamStatsMaintainer teamStatsMaintainer;
+
+    @Test
+    @DisplayName("Should merge the statistics of a new player into its team row")
+    void onPlayerChanged_WithCreatedPlayer_ShouldMergeDelta() {
+        // When
+        teamStatsMaintainer.onPlayerChanged(PlayerChangedEvent.created(player("T1", 25, 1000.0, true)));
+
+        // Then
+        verify(teamStatsRepository).mergeDelta("T1", 1, 25, 1000.0, 1);
+        verify(teamStatsRepository, never()).deleteIfEmpty(anyString());
+    }
+
+    @Test
+    @DisplayName("Should recompute every statistic in one transaction once the beans are created")
+    void afterSingletonsInstantiated_ShouldRebuildInTransaction() {
+        // Given
+        SimpleTransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        when(teamStatsRepository.insertFromPlayers()).thenReturn(3);
+
+        // When
+        teamStatsMaintainer.afterSingletonsInstantiated();
+
+        // Then
+        var inOrder = inOrder(transactionManager, teamStatsRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(teamStatsRepository).deleteAllInBatch();
+        inOrder.verify(teamStatsRepository).insertFromPlayers();
+        inOrder.verify(transactionManager).commit(status);
+    }
+
+    @Test
+    @DisplayName("Should move a player's contribution when the player changes team")
+    void onPlayerChanged_WithTeamChange_ShouldMoveContribution() {
+        // When
+        teamStatsMaintainer.onPlayerChanged(new PlayerChangedEvent(
+            player("T1", 25, 1000.0, true), player("G2", 26, 1000.0, true)));
+
+        // Then
+        verify(teamStatsRepository).mergeDelta("T1", -1, -25, -1000.0, -1);
+        verify(teamStatsRepository).deleteIfEmpty("T1");
+        verify(teamStatsRepository).mergeDelta("G2", 1, 26, 1000.0, 1);
+        verify(teamStatsRepository, never()).deleteIfEmpty("G2");
+    }
+
+    @Test
+    @DisplayName("Should only change the active count on deactivation")
+    void onPlayerChanged_WithDeactivation_ShouldDecrementActiveCount() {
+        // When
+        teamStatsMaintainer.onPlayerChanged(new PlayerChangedEvent(
+            player("T1", 25, 1000.0, true), player("T1", 25, 1000.0, false)));
+
+        // Then
+        verify(teamStatsRepository).mergeDelta("T1", 0, 0, 0.0, -1);
+        verify(teamStatsRepository, never()).deleteIfEmpty(anyString());
+    }
+
+    @Test
+    @DisplayName("Should not touch the statistics when nothing they track changes")
+    void onPlayerChanged_WithUntrackedChange_ShouldWriteNothing() {
+        // When
+        teamStatsMaintainer.onPlayerChanged(new PlayerChangedEvent(
+            player("T1", 25, null, true), player("T1", 25, null, true)));
+
+        // Then
+        verifyNoInteractions(teamStatsRepository);
+    }
+
+    private static PlayerSnapshot player(String teamName, Integer age, Double salary, Boolean active) {
+        return new PlayerSnapshot(1L, "John", "Doe", "john.doe@example.com", age, "Mid", teamName, 10, salary, active);
+    }
+}
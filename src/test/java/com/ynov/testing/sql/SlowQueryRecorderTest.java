@@ -0,0 +1,113 @@
+package com.ynov.testing.sql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for SlowQueryRecorder
+ *
+ * These tests check the threshold, the capture of parameters and rows, the
+ * masking of parameter values, the time spent fetching rows, and the bounded
+ * ring buffer. Plans are not captured (no database).
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Slow Query Recorder Unit Tests")
+class SlowQueryRecorderTest {
+
+    private static final long SLOW = Duration.ofMillis(150).toNanos();
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+
+    private final SlowQueryRecorder recorder = new SlowQueryRecorder(Duration.ofMillis(100), 1.0, 3, false,
+        Duration.ofSeconds(10), true);
+
+    @AfterEach
+    void tearDown() {
+        recorder.stop();
+    }
+
+    @Test
+    @DisplayName("Should only capture statements above the threshold")
+    void completed_BelowThreshold_ShouldBeIgnored() {
+        // When
+        recorder.completed(null, "select 1", null, 1, FAST, 0);
+        recorder.completed(null, "select * from players where team_name=?", new Object[] {"T1"}, 42, SLOW, 0);
+
+        // Then
+        SlowQueryReport report = recorder.report();
+        assertEquals(1, report.slowStatements());
+        assertEquals(1, report.queries().size());
+        SlowQuery query = report.queries().get(0);
+        assertEquals("select * from players where team_name=?", query.sql());
+        assertEquals(List.of("T1"), query.parameters());
+        assertEquals(42, query.rows());
+        assertEquals(150.0, query.durationMillis());
+        assertNull(query.plan());
+    }
+
+    @Test
+    @DisplayName("Should mask the parameter values unless they are shown")
+    void completed_WithParametersHidden_ShouldMaskValues() {
+        // Given
+        SlowQueryRecorder masking = new SlowQueryRecorder(Duration.ofMillis(100), 1.0, 3, false,
+            Duration.ofSeconds(10), false);
+
+        // When
+        masking.completed(null, "select * from players where email_key=? and age>?",
+            new Object[] {"john.doe@example.com", 25}, 1, SLOW, 0);
+
+        // Then
+        assertEquals(List.of("?", "?"), masking.report().queries().get(0).parameters());
+        masking.stop();
+    }
+
+    @Test
+    @DisplayName("Should count the time spent fetching the rows of a query")
+    void completed_WithSlowFetch_ShouldReportFetchTime() {
+        // When
+        recorder.completed(null, "select * from players", null, 100_000, FAST, SLOW);
+
+        // Then
+        SlowQuery query = recorder.report().queries().get(0);
+        assertEquals(155.0, query.durationMillis());
+        assertEquals(150.0, query.fetchMillis());
+    }
+
+    @Test
+    @DisplayName("Should keep only the most recent captures, newest first")
+    void completed_BeyondCapacity_ShouldKeepMostRecent() {
+        // When
+        for (int i = 1; i <= 5; i++) {
+            recorder.completed(null, "select " + i, new Object[] {null, "x".repeat(300)}, i, SLOW, 0);
+        }
+
+        // Then
+        SlowQueryReport report = recorder.report();
+        assertEquals(5, report.slowStatements());
+        assertEquals(List.of("select 5", "select 4", "select 3"),
+            report.queries().stream().map(SlowQuery::sql).toList());
+        assertEquals("null", report.queries().get(0).parameters().get(0));
+        assertTrue(report.queries().get(0).parameters().get(1).endsWith("..."));
+    }
+
+    @Test
+    @DisplayName("Should empty the buffer on clear")
+    void clear_ShouldEmptyBuffer() {
+        // Given
+        recorder.completed(null, "select 1", null, 1, SLOW, 0);
+
+        // When
+        recorder.clear();
+
+        // Then
+        assertEquals(0, recorder.report().slowStatements());
+        assertTrue(recorder.report().queries().isEmpty());
+    }
+}
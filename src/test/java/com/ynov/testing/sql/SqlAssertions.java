@@ -0,0 +1,57 @@
+package com.ynov.testing.sql;
+
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SQL Statement Count Assertions
+ *
+ * Pins the number of SQL statements of an endpoint or a piece of code, so that
+ * an N+1 query introduced later fails the test:
+ * - {@link #assertStatements(int, ResponseEntity)} reads the {@code X-Sql-Statements}
+ *   header of a response (needs {@code app.sql-tracking.response-header=true});
+ * - {@link #assertStatements(int, Runnable)} tracks code running on the test thread,
+ *   such as service calls or MockMvc requests.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+public final class SqlAssertions {
+
+    private SqlAssertions() {
+    }
+
+    public static void assertStatements(int expected, ResponseEntity<?> response) {
+        assertEquals(expected, statements(response), "SQL statements of the request");
+    }
+
+    public static void assertMaxStatements(int max, ResponseEntity<?> response) {
+        int statements = statements(response);
+        assertTrue(statements <= max, "Expected at most " + max + " SQL statements, but the request ran " + statements);
+    }
+
+    public static SqlStats assertStatements(int expected, Runnable action) {
+        SqlStats stats = SqlStatementTracker.track(action);
+        assertEquals(expected, stats.statements(), () -> "SQL statements, repeated: " + stats.repeatedStatements());
+        return stats;
+    }
+
+    public static SqlStats assertMaxStatements(int max, Runnable action) {
+        SqlStats stats = SqlStatementTracker.track(action);
+        assertTrue(stats.statements() <= max, () -> "Expected at most " + max + " SQL statements, but ran "
+            + stats.statements() + ", repeated: " + stats.repeatedStatements());
+        return stats;
+    }
+
+    public static void assertNoRepeatedStatements(Runnable action) {
+        SqlStats stats = SqlStatementTracker.track(action);
+        assertTrue(stats.repeatedStatements().isEmpty(), () -> "Repeated statements: " + stats.repeatedStatements());
+    }
+
+    private static int statements(ResponseEntity<?> response) {
+        String header = response.getHeaders().getFirst(SqlTrackingFilter.STATEMENTS_HEADER);
+        assertNotNull(header, "Missing " + SqlTrackingFilter.STATEMENTS_HEADER + " header");
+        return Integer.parseInt(header);
+    }
+}
@@ -0,0 +1,88 @@
+package com.ynov.testing.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for SqlStatementTracker
+ *
+ * These tests check the counters of a tracking scope, the detection of
+ * repeated statements, and the nesting of scopes.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("SQL Statement Tracker Unit Tests")
+class SqlStatementTrackerTest {
+
+    private static final String SELECT_PLAYER = "select p.id from players p where p.id=?";
+    private static final String SELECT_TEAM = "select t.id from teams t where t.name=?";
+
+    @Test
+    @DisplayName("Should count statements, rows and JDBC time of the tracked code")
+    void track_ShouldCountActivity() {
+        // When
+        SqlStats stats = SqlStatementTracker.track(() -> {
+            SqlStatementTracker.statement(SELECT_TEAM);
+            SqlStatementTracker.rowsLoaded(3);
+            SqlStatementTracker.jdbcTime(2_000_000);
+        });
+
+        // Then
+        assertEquals(1, stats.statements());
+        assertEquals(3, stats.rows());
+        assertEquals(2_000, stats.jdbcMicros());
+        assertTrue(stats.repeatedStatements().isEmpty());
+        assertEquals(1, stats.maxRepeats());
+        assertFalse(SqlStatementTracker.isActive());
+    }
+
+    @Test
+    @DisplayName("Should report statements executed several times as repeated")
+    void track_WithNPlusOneQueries_ShouldReportRepeatedStatement() {
+        // When
+        SqlStats stats = SqlStatementTracker.track(() -> {
+            SqlStatementTracker.statement(SELECT_TEAM);
+            for (int i = 0; i < 5; i++) {
+                SqlStatementTracker.statement(SELECT_PLAYER);
+            }
+        });
+
+        // Then
+        assertEquals(6, stats.statements());
+        assertEquals(5, stats.repeatedStatements().get(SELECT_PLAYER));
+        assertFalse(stats.repeatedStatements().containsKey(SELECT_TEAM));
+        assertEquals(5, stats.maxRepeats());
+    }
+
+    @Test
+    @DisplayName("Should add the activity of a nested scope to the outer scope")
+    void track_WhenNested_ShouldAddToOuterScope() {
+        // Given
+        SqlStats[] inner = new SqlStats[1];
+
+        // When
+        SqlStats outer = SqlStatementTracker.track(() -> {
+            SqlStatementTracker.statement(SELECT_TEAM);
+            inner[0] = SqlStatementTracker.track(() -> SqlStatementTracker.statement(SELECT_PLAYER));
+        });
+
+        // Then
+        assertEquals(1, inner[0].statements());
+        assertEquals(2, outer.statements());
+    }
+
+    @Test
+    @DisplayName("Should ignore activity outside a tracking scope")
+    void statement_WithoutScope_ShouldBeIgnored() {
+        // When
+        SqlStatementTracker.statement(SELECT_TEAM);
+
+        // Then
+        assertFalse(SqlStatementTracker.isActive());
+        assertSame(SqlStats.NONE, SqlStatementTracker.current());
+        assertSame(SqlStats.NONE, SqlStatementTracker.end());
+    }
+}
@@ -0,0 +1,123 @@
+package com.ynov.testing.threads;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for PinnedThreadMonitor
+ *
+ * These tests check that a virtual thread blocking inside a synchronized block
+ * is reported at its application code site, that the events of a site are
+ * aggregated, and that nothing is recorded in platform-thread mode.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Pinned Thread Monitor Unit Tests")
+class PinnedThreadMonitorTest {
+
+    private final Object lock = new Object();
+    private PinnedThreadMonitor monitor;
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("Should record a virtual thread sleeping inside a synchronized block")
+    void status_WithPinnedVirtualThread_ShouldReportApplicationSite() throws Exception {
+        // Given
+        monitor = new PinnedThreadMonitor(true, true, Duration.ofMillis(10));
+        monitor.start();
+
+        // When
+        Thread.ofVirtual().start(this::sleepWhileHoldingLock).join();
+
+        // Then
+        Map<String, PinningStats> pinning = awaitPinning();
+        assertTrue(monitor.status().virtualThreads());
+        assertTrue(monitor.status().pinningMonitored());
+        String site = pinning.keySet().iterator().next();
+        assertTrue(site.startsWith(PinnedThreadMonitorTest.class.getName() + ".sleepWhileHoldingLock"), site);
+        assertEquals(1, pinning.get(site).count());
+        assertTrue(pinning.get(site).maxMillis() >= 40, "Pinned time should include the sleep");
+    }
+
+    @Test
+    @DisplayName("Should aggregate the pinned events of the same code site")
+    void status_WithRepeatedPinning_ShouldAggregatePerSite() throws Exception {
+        // Given
+        monitor = new PinnedThreadMonitor(true, true, Duration.ofMillis(10));
+        monitor.start();
+
+        // When
+        Thread.ofVirtual().start(this::sleepWhileHoldingLock).join();
+        Thread.ofVirtual().start(this::sleepWhileHoldingLock).join();
+
+        // Then
+        PinningStats stats = awaitPinnedEvents(2);
+        assertEquals(1, monitor.status().pinning().size());
+        assertEquals(2, stats.count());
+        assertTrue(stats.totalMillis() >= 80, "Total pinned time should include both sleeps");
+        assertTrue(stats.maxMillis() >= 40 && stats.maxMillis() <= stats.totalMillis());
+        assertEquals(stats.totalMillis() / 2, stats.averageMillis(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should not monitor pinning in platform-thread mode")
+    void start_WithPlatformThreads_ShouldNotMonitor() {
+        // Given
+        monitor = new PinnedThreadMonitor(false, true, Duration.ofMillis(10));
+
+        // When
+        monitor.start();
+
+        // Then
+        ThreadingStatus status = monitor.status();
+        assertFalse(status.virtualThreads());
+        assertFalse(status.pinningMonitored());
+        assertTrue(status.pinning().isEmpty());
+    }
+
+    private void sleepWhileHoldingLock() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Wait for the recording stream to deliver the event (it flushes about every second).
+     */
+    private Map<String, PinningStats> awaitPinning() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (monitor.status().pinning().isEmpty()) {
+            assertTrue(System.nanoTime() < deadline, "Pinned event was not recorded");
+            Thread.sleep(50);
+        }
+        return monitor.status().pinning();
+    }
+
+    /**
+     * Wait for the recording stream to deliver the given number of events of a single site.
+     */
+    private PinningStats awaitPinnedEvents(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (awaitPinning().values().iterator().next().count() < count) {
+            assertTrue(System.nanoTime() < deadline, "Pinned events were not all recorded");
+            Thread.sleep(50);
+        }
+        return monitor.status().pinning().values().iterator().next();
+    }
+}
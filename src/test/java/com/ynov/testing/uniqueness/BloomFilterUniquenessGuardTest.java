@@ -0,0 +1,88 @@
+package com.ynov.testing.uniqueness;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for BloomFilterUniquenessGuard
+ *
+ * These tests check that registered values are never reported absent, that
+ * unknown values skip the database probe once the guard is ready, and that
+ * the counters reflect what happened.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Bloom Filter Uniqueness Guard Unit Tests")
+class BloomFilterUniquenessGuardTest {
+
+    private BloomFilterUniquenessGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new BloomFilterUniquenessGuard(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            guard.register("player" + i + "@example.com");
+        }
+    }
+
+    @Test
+    @DisplayName("Should probe the database for every check until the guard is ready")
+    void exists_BeforeReady_ShouldAlwaysProbe() {
+        // Given
+        AtomicInteger probes = new AtomicInteger();
+
+        // When
+        boolean exists = guard.exists("new@example.com", value -> probes.incrementAndGet() < 0);
+
+        // Then
+        assertFalse(exists);
+        assertEquals(1, probes.get());
+        assertEquals(0, guard.stats().skippedProbes());
+    }
+
+    @Test
+    @DisplayName("Should never report a registered value as definitely absent")
+    void mightExist_WithRegisteredValues_ShouldNeverReturnFalse() {
+        // Given
+        guard.markReady();
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(guard.mightExist("player" + i + "@example.com"));
+        }
+        assertEquals(10_000, guard.stats().probes());
+    }
+
+    @Test
+    @DisplayName("Should skip most probes for new values, within the false-positive rate")
+    void exists_WithNewValues_ShouldSkipProbes() {
+        // Given
+        guard.markReady();
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            guard.exists("new" + i + "@example.com", value -> false);
+        }
+
+        // Then
+        UniquenessGuardStats stats = guard.stats();
+        assertEquals(10_000, stats.skippedProbes() + stats.probes());
+        assertEquals(stats.probes(), stats.falsePositives());
+        assertTrue(stats.falsePositives() < 300, "False positives: " + stats.falsePositives());
+        assertTrue(stats.hitRatio() > 0.97);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing parameters")
+    void constructor_WithInvalidParameters_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilterUniquenessGuard(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilterUniquenessGuard(100, 1.0));
+        assertEquals(7, guard.hashCount());
+    }
+}
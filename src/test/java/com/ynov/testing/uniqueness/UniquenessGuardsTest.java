@@ -0,0 +1,71 @@
+package com.ynov.testing.uniqueness;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for UniquenessGuards
+ *
+ * These tests check that the checks answered with and without a database
+ * probe are published per guard, as counters and as meters.
+ *
+ * @author Testing Methodology Course
+ * @version 1.0.0
+ */
+@DisplayName("Uniqueness Guards Unit Tests")
+class UniquenessGuardsTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UniquenessGuards uniquenessGuards;
+
+    @BeforeEach
+    void setUp() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        uniquenessGuards = new UniquenessGuards("bloom", 1000, 0.01, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    @DisplayName("Should publish skipped and probed checks of each guard as meters")
+    void exists_ShouldPublishHitsAndMissesPerGuard() {
+        // Given
+        UniquenessGuard emails = uniquenessGuards.playerEmails();
+        emails.register("john.doe@example.com");
+        emails.markReady();
+
+        // When - one new email skips the probe, the registered one is probed
+        assertFalse(emails.exists("jane.smith@example.com", value -> fail("New email should not be probed")));
+        assertTrue(emails.exists("john.doe@example.com", value -> true));
+
+        // Then
+        assertEquals(1, checks("playerEmail", "skipped"));
+        assertEquals(1, checks("playerEmail", "probed"));
+        assertEquals(0, meterRegistry.get("app.uniqueness.false-positives")
+            .tag("guard", "playerEmail").functionCounter().count());
+        assertEquals(0, checks("teamName", "skipped") + checks("teamName", "probed"));
+        assertEquals(0.5, uniquenessGuards.stats().get("playerEmail").hitRatio());
+    }
+
+    @Test
+    @DisplayName("Should probe every check of a guard that is not loaded yet")
+    void exists_BeforeReady_ShouldCountProbes() {
+        // When
+        uniquenessGuards.eventNames().exists("Final", value -> false);
+
+        // Then
+        assertEquals(0, checks("eventName", "skipped"));
+        assertEquals(1, checks("eventName", "probed"));
+        assertFalse(uniquenessGuards.stats().get("eventName").ready());
+    }
+
+    private double checks(String guard, String outcome) {
+        return meterRegistry.get("app.uniqueness.checks").tag("guard", guard).tag("outcome", outcome)
+            .functionCounter().count();
+    }
+}